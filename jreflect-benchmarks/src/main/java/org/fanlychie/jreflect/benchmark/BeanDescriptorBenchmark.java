@@ -0,0 +1,45 @@
+package org.fanlychie.jreflect.benchmark;
+
+import org.fanlychie.jreflect.BeanDescriptor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link BeanDescriptor} 构建性能测试, 每次构建都会查找全局的类元数据缓存
+ * Created by fanlychie on 2026/10/16.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BeanDescriptorBenchmark {
+
+    private final Person person = Person.sample();
+
+    @Benchmark
+    public Object baselineDirectRead() {
+        return person.getName();
+    }
+
+    @Benchmark
+    public BeanDescriptor construct() {
+        return new BeanDescriptor(person);
+    }
+
+    @Benchmark
+    public Object constructAndRead() {
+        return new BeanDescriptor(person).getValueByName("name");
+    }
+
+}
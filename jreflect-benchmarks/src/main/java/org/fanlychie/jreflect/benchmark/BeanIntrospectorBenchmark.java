@@ -0,0 +1,66 @@
+package org.fanlychie.jreflect.benchmark;
+
+import org.fanlychie.jreflect.BeanIntrospector;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link BeanIntrospector} 对象与 Map 转换性能测试, 以手写的转换代码为基准
+ * Created by fanlychie on 2026/10/16.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BeanIntrospectorBenchmark {
+
+    private final Person person = Person.sample();
+
+    private final Map<String, Object> map = BeanIntrospector.convertObjectToMap(person);
+
+    @Benchmark
+    public Map<String, Object> baselineObjectToMap() {
+        Map<String, Object> map = new HashMap<>(8);
+        map.put("id", person.getId());
+        map.put("age", person.getAge());
+        map.put("score", person.getScore());
+        map.put("active", person.isActive());
+        map.put("name", person.getName());
+        return map;
+    }
+
+    @Benchmark
+    public Person baselineMapToObject() {
+        Person person = new Person();
+        person.setId((Long) map.get("id"));
+        person.setAge((Integer) map.get("age"));
+        person.setScore((Double) map.get("score"));
+        person.setActive((Boolean) map.get("active"));
+        person.setName((String) map.get("name"));
+        return person;
+    }
+
+    @Benchmark
+    public Map<String, Object> convertObjectToMap() {
+        return BeanIntrospector.convertObjectToMap(person);
+    }
+
+    @Benchmark
+    public Person convertMapToObject() {
+        return BeanIntrospector.convertMapToObject(map, Person.class);
+    }
+
+}
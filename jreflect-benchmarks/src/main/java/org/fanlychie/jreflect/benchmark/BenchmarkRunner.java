@@ -0,0 +1,37 @@
+package org.fanlychie.jreflect.benchmark;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.results.format.ResultFormatType;
+
+/**
+ * 依次执行单线程、多线程竞争和 GC 分析(每次操作的内存分配)三组性能测试, 结果分别写入 JSON 文件.
+ * 参数: [基准名称正则] [竞争线程数, 默认 64]
+ * Created by fanlychie on 2026/10/16.
+ */
+public final class BenchmarkRunner {
+
+    private BenchmarkRunner() {
+
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        String include = args.length > 0 ? args[0] : "org.fanlychie.jreflect.benchmark.*";
+        int contendedThreads = args.length > 1 ? Integer.parseInt(args[1]) : 64;
+        new Runner(options(include, "single-threaded").threads(1).build()).run();
+        new Runner(options(include, "contended").threads(contendedThreads).build()).run();
+        new Runner(options(include, "gc").threads(1).addProfiler(GCProfiler.class).build()).run();
+    }
+
+    private static ChainedOptionsBuilder options(String include, String name) {
+        return new OptionsBuilder()
+                .include(include)
+                .exclude(BenchmarkRunner.class.getName())
+                .resultFormat(ResultFormatType.JSON)
+                .result("jmh-" + name + ".json");
+    }
+
+}
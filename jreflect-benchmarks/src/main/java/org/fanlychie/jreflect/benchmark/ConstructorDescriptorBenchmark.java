@@ -0,0 +1,79 @@
+package org.fanlychie.jreflect.benchmark;
+
+import org.fanlychie.jreflect.ConstructorDescriptor;
+import org.fanlychie.jreflect.InstanceFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.reflect.Constructor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link ConstructorDescriptor} 创建实例性能测试, 以 new 和 Constructor.newInstance 为基准
+ * Created by fanlychie on 2026/10/16.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConstructorDescriptorBenchmark {
+
+    private final Object[] args = {"fanlychie", 18};
+
+    private ConstructorDescriptor<Person> descriptor;
+
+    private InstanceFactory<Person> noArgFactory;
+
+    private InstanceFactory<Person> argsFactory;
+
+    private Constructor<Person> constructor;
+
+    @Setup
+    public void setup() throws NoSuchMethodException {
+        descriptor = new ConstructorDescriptor<>(Person.class);
+        noArgFactory = descriptor.getInstanceFactory();
+        argsFactory = descriptor.getInstanceFactory(String.class, Integer.class);
+        constructor = Person.class.getConstructor(String.class, Integer.class);
+    }
+
+    @Benchmark
+    public Person baselineNew() {
+        return new Person((String) args[0], (Integer) args[1]);
+    }
+
+    @Benchmark
+    public Person baselineConstructorNewInstance() throws Exception {
+        return constructor.newInstance(args);
+    }
+
+    @Benchmark
+    public Person newInstanceNoArg() {
+        return descriptor.newInstance();
+    }
+
+    @Benchmark
+    public Person newInstanceWithArgs() {
+        return descriptor.newInstance(args);
+    }
+
+    @Benchmark
+    public Person noArgFactory() {
+        return noArgFactory.get();
+    }
+
+    @Benchmark
+    public Person argsFactory() {
+        return argsFactory.apply(args);
+    }
+
+}
@@ -0,0 +1,107 @@
+package org.fanlychie.jreflect.benchmark;
+
+import org.fanlychie.jreflect.FieldDescriptor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Field;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link FieldDescriptor} 读写属性性能测试, 以直接访问、Field 和 MethodHandle 为基准
+ * Created by fanlychie on 2026/10/16.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FieldDescriptorBenchmark {
+
+    private static final MethodHandle NAME_GETTER;
+
+    private final Person person = Person.sample();
+
+    private FieldDescriptor reflective;
+
+    private FieldDescriptor fastAccessor;
+
+    private Field nameField;
+
+    @Setup
+    public void setup() throws NoSuchFieldException {
+        reflective = new FieldDescriptor(Person.class);
+        reflective.getNameFieldMap();
+        fastAccessor = new FieldDescriptor(Person.class).fastAccessor(true);
+        fastAccessor.getNameAccessorMap();
+        nameField = Person.class.getDeclaredField("name");
+        nameField.setAccessible(true);
+    }
+
+    @Benchmark
+    public Object baselineDirectGet() {
+        return person.getName();
+    }
+
+    @Benchmark
+    public Object baselineFieldGet() throws IllegalAccessException {
+        return nameField.get(person);
+    }
+
+    @Benchmark
+    public Object baselineMethodHandleGet() throws Throwable {
+        return (String) NAME_GETTER.invokeExact(person);
+    }
+
+    @Benchmark
+    public Object getValueByName() {
+        return reflective.getValueByName(person, "name");
+    }
+
+    @Benchmark
+    public Object getValueByNameFastAccessor() {
+        return fastAccessor.getValueByName(person, "name");
+    }
+
+    @Benchmark
+    public Object getValueByType() {
+        return reflective.getValueByType(person, String.class);
+    }
+
+    @Benchmark
+    public void baselineDirectSet() {
+        person.setName("fanlychie");
+    }
+
+    @Benchmark
+    public void setValueByType() {
+        reflective.setValueByType(person, "fanlychie");
+    }
+
+    @Benchmark
+    public void setValueByTypeFastAccessor() {
+        fastAccessor.setValueByType(person, "fanlychie");
+    }
+
+    static {
+        try {
+            Field field = Person.class.getDeclaredField("name");
+            field.setAccessible(true);
+            NAME_GETTER = MethodHandles.lookup().unreflectGetter(field);
+        } catch (NoSuchFieldException | IllegalAccessException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+}
@@ -0,0 +1,123 @@
+package org.fanlychie.jreflect.benchmark;
+
+import org.fanlychie.jreflect.BeanHandle;
+import org.fanlychie.jreflect.BeanIntrospector;
+import org.fanlychie.jreflect.MetadataSnapshot;
+import org.fanlychie.jreflect.MethodDescriptor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link MetadataSnapshot} 冷启动性能测试, 每次测量前以新的类加载器重新定义 POJO 类, 使类元数据和 JDK 的反射数据都为空,
+ * 以首次使用时正常内省为基准, 对比先加载快照再首次使用的耗时
+ * Created by fanlychie on 2026/10/16.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 20)
+@Measurement(iterations = 50)
+@Fork(value = 3, jvmArgsAppend = "--add-opens=java.base/java.lang=ALL-UNNAMED")
+public class MetadataSnapshotBenchmark {
+
+    private byte[] snapshot;
+
+    private ClassLoader classLoader;
+
+    private Class<?> personClass;
+
+    @Setup(Level.Trial)
+    public void writeSnapshot() throws ClassNotFoundException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        MetadataSnapshot.write(out, Collections.<Class<?>>singletonList(isolatedPersonClass(new IsolatedClassLoader())));
+        snapshot = out.toByteArray();
+    }
+
+    @Setup(Level.Iteration)
+    public void defineClass() throws ClassNotFoundException {
+        classLoader = new IsolatedClassLoader();
+        personClass = isolatedPersonClass(classLoader);
+    }
+
+    @Benchmark
+    public Object baselineFirstUse() {
+        return firstUse(personClass);
+    }
+
+    @Benchmark
+    public Object loadSnapshotThenFirstUse() {
+        MetadataSnapshot.load(new ByteArrayInputStream(snapshot), classLoader);
+        return firstUse(personClass);
+    }
+
+    private static Class<?> isolatedPersonClass(ClassLoader classLoader) throws ClassNotFoundException {
+        return Class.forName(Person.class.getName(), false, classLoader);
+    }
+
+    private static Object firstUse(Class<?> type) {
+        Object person = BeanHandle.forClass(type).newInstance("jreflect", 3);
+        Map<String, Object> map = BeanIntrospector.convertObjectToMap(person);
+        return new MethodDescriptor(person).invokeMethod("greet", map.get("name"), map.get("age"));
+    }
+
+    /**
+     * 自行定义 {@link Person} 类的类加载器, 其余的类委派给父加载器
+     */
+    private static final class IsolatedClassLoader extends ClassLoader {
+
+        private IsolatedClassLoader() {
+            super(MetadataSnapshotBenchmark.class.getClassLoader());
+        }
+
+        @Override
+        protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+            if (!name.equals(Person.class.getName())) {
+                return super.loadClass(name, resolve);
+            }
+            synchronized (getClassLoadingLock(name)) {
+                Class<?> type = findLoadedClass(name);
+                if (type == null) {
+                    byte[] bytes = readClassFile(name);
+                    type = defineClass(name, bytes, 0, bytes.length);
+                }
+                return type;
+            }
+        }
+
+        private byte[] readClassFile(String name) throws ClassNotFoundException {
+            try (InputStream in = getParent().getResourceAsStream(name.replace('.', '/') + ".class")) {
+                if (in == null) {
+                    throw new ClassNotFoundException(name);
+                }
+                ByteArrayOutputStream out = new ByteArrayOutputStream();
+                byte[] buffer = new byte[8192];
+                int length;
+                while ((length = in.read(buffer)) > 0) {
+                    out.write(buffer, 0, length);
+                }
+                return out.toByteArray();
+            } catch (IOException e) {
+                throw new ClassNotFoundException(name, e);
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,77 @@
+package org.fanlychie.jreflect.benchmark;
+
+import org.fanlychie.jreflect.MethodCallSite;
+import org.fanlychie.jreflect.MethodDescriptor;
+import org.fanlychie.jreflect.MethodInvoker;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link MethodDescriptor} 方法调用性能测试, 以直接调用和 Method.invoke 为基准
+ * Created by fanlychie on 2026/10/16.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MethodDescriptorBenchmark {
+
+    private final Person person = Person.sample();
+
+    private final Object[] args = {"jreflect", 3};
+
+    private MethodDescriptor descriptor;
+
+    private MethodInvoker invoker;
+
+    private MethodCallSite callSite;
+
+    private Method method;
+
+    @Setup
+    public void setup() throws NoSuchMethodException {
+        descriptor = new MethodDescriptor(person);
+        invoker = descriptor.getMethodInvoker("greet", String.class, Integer.class);
+        callSite = descriptor.getMethodCallSite("greet");
+        method = Person.class.getMethod("greet", String.class, Integer.class);
+    }
+
+    @Benchmark
+    public Object baselineDirectCall() {
+        return person.greet((String) args[0], (Integer) args[1]);
+    }
+
+    @Benchmark
+    public Object baselineMethodInvoke() throws Exception {
+        return method.invoke(person, args);
+    }
+
+    @Benchmark
+    public Object invokeMethod() {
+        return descriptor.invokeMethod("greet", args);
+    }
+
+    @Benchmark
+    public Object methodInvoker() {
+        return invoker.invoke(person, args);
+    }
+
+    @Benchmark
+    public Object methodCallSite() {
+        return callSite.invoke(person, args);
+    }
+
+}
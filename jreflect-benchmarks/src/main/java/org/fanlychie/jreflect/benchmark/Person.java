@@ -0,0 +1,85 @@
+package org.fanlychie.jreflect.benchmark;
+
+/**
+ * 性能测试使用的 POJO 类
+ * Created by fanlychie on 2026/10/16.
+ */
+public class Person {
+
+    private long id;
+
+    private int age;
+
+    private double score;
+
+    private boolean active;
+
+    private String name;
+
+    public Person() {
+
+    }
+
+    public Person(String name, Integer age) {
+        this.name = name;
+        this.age = age;
+    }
+
+    public long getId() {
+        return id;
+    }
+
+    public void setId(long id) {
+        this.id = id;
+    }
+
+    public int getAge() {
+        return age;
+    }
+
+    public void setAge(int age) {
+        this.age = age;
+    }
+
+    public double getScore() {
+        return score;
+    }
+
+    public void setScore(double score) {
+        this.score = score;
+    }
+
+    public boolean isActive() {
+        return active;
+    }
+
+    public void setActive(boolean active) {
+        this.active = active;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public String greet(String who, Integer times) {
+        return name;
+    }
+
+    /**
+     * 创建测试数据
+     *
+     * @return 返回填充了所有属性的对象
+     */
+    public static Person sample() {
+        Person person = new Person("fanlychie", 18);
+        person.setId(1L);
+        person.setScore(99.5);
+        person.setActive(true);
+        return person;
+    }
+
+}
@@ -0,0 +1,248 @@
+package org.fanlychie.jreflect;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.AnnotatedElement;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Queue;
+
+/**
+ * 注解索引, 一次性扫描类及其父类(不包括 Object)声明的属性、方法(不包括桥接方法)和类自身的构造器上的注解, 按类缓存.
+ * 索引包括元注解: 成员上的注解所声明的注解(递归, 不包括 java.lang.annotation 包中的注解)同样视为成员的注解, 直接声明的注解优先.
+ * 查找返回的都是构建时生成的只读结果, 查找时不再扫描, 也不创建任何对象
+ * Created by fanlychie on 2026/10/16.
+ */
+public final class AnnotationIndex {
+
+    /**
+     * 注解索引在类元数据中的键
+     */
+    static final ClassMetadata.Key<AnnotationIndex> ANNOTATION_INDEX_KEY = new ClassMetadata.Key<AnnotationIndex>("AnnotationIndex") {
+        @Override
+        AnnotationIndex compute(Class<?> type) {
+            return new AnnotationIndex(type);
+        }
+    };
+
+    /**
+     * 索引的类
+     */
+    private final Class<?> type;
+
+    /**
+     * <类或成员, <注解类型, 注解对象>> Map
+     */
+    private final Map<AnnotatedElement, Map<Class<? extends Annotation>, Annotation>> elementAnnotations = new HashMap<>();
+
+    /**
+     * <注解类型, <属性对象, 注解对象>> Map
+     */
+    private final Map<Class<? extends Annotation>, Map<Field, Annotation>> fieldIndex = new HashMap<>();
+
+    /**
+     * <注解类型, <方法对象, 注解对象>> Map
+     */
+    private final Map<Class<? extends Annotation>, Map<Method, Annotation>> methodIndex = new HashMap<>();
+
+    /**
+     * <注解类型, <构造器, 注解对象>> Map
+     */
+    private final Map<Class<? extends Annotation>, Map<Constructor<?>, Annotation>> constructorIndex = new HashMap<>();
+
+    /**
+     * 构建实例
+     *
+     * @param type 索引的类
+     */
+    private AnnotationIndex(Class<?> type) {
+        this.type = type;
+        elementAnnotations.put(type, collect(type.getAnnotations()));
+        for (Constructor<?> constructor : type.getDeclaredConstructors()) {
+            index(constructor, constructorIndex);
+        }
+        for (Class<?> c = type; c != null && c != Object.class; c = c.getSuperclass()) {
+            for (Field field : c.getDeclaredFields()) {
+                index(field, fieldIndex);
+            }
+            for (Method method : c.getDeclaredMethods()) {
+                if (!method.isBridge()) {
+                    index(method, methodIndex);
+                }
+            }
+        }
+        freeze(fieldIndex);
+        freeze(methodIndex);
+        freeze(constructorIndex);
+    }
+
+    /**
+     * 获取参数给定的类的注解索引, 每个类只构建一次
+     *
+     * @param type 任意的 Class 类型
+     * @return 返回注解索引
+     */
+    public static AnnotationIndex forClass(Class<?> type) {
+        return ClassMetadata.forClass(type).get(ANNOTATION_INDEX_KEY);
+    }
+
+    /**
+     * 获取声明了参数给定的注解(包括元注解)的属性, 按类的层次和声明的顺序排列
+     *
+     * @param annotationClass 注解类型
+     * @param <A>             注解类型
+     * @return 返回只读的 <属性对象, 注解对象> Map
+     */
+    public <A extends Annotation> Map<Field, A> getFieldAnnotationMap(Class<A> annotationClass) {
+        return (Map<Field, A>) lookup(fieldIndex, annotationClass);
+    }
+
+    /**
+     * 获取声明了参数给定的注解(包括元注解)的方法, 按类的层次和声明的顺序排列
+     *
+     * @param annotationClass 注解类型
+     * @param <A>             注解类型
+     * @return 返回只读的 <方法对象, 注解对象> Map
+     */
+    public <A extends Annotation> Map<Method, A> getMethodAnnotationMap(Class<A> annotationClass) {
+        return (Map<Method, A>) lookup(methodIndex, annotationClass);
+    }
+
+    /**
+     * 获取声明了参数给定的注解(包括元注解)的构造器
+     *
+     * @param annotationClass 注解类型
+     * @param <A>             注解类型
+     * @return 返回只读的 <构造器, 注解对象> Map
+     */
+    public <A extends Annotation> Map<Constructor<?>, A> getConstructorAnnotationMap(Class<A> annotationClass) {
+        return (Map<Constructor<?>, A>) lookup(constructorIndex, annotationClass);
+    }
+
+    /**
+     * 获取类或成员上参数给定的注解, 包括元注解
+     *
+     * @param element         索引的类, 或其索引范围内的属性、方法、构造器
+     * @param annotationClass 注解类型
+     * @param <A>             注解类型
+     * @return 返回注解对象, 没有此注解或成员不在索引范围内返回 null
+     */
+    public <A extends Annotation> A getAnnotation(AnnotatedElement element, Class<A> annotationClass) {
+        Map<Class<? extends Annotation>, Annotation> annotations = elementAnnotations.get(element);
+        return annotations != null ? annotationClass.cast(annotations.get(annotationClass)) : null;
+    }
+
+    /**
+     * 判断类或成员上是否有参数给定的注解, 包括元注解
+     *
+     * @param element         索引的类, 或其索引范围内的属性、方法、构造器
+     * @param annotationClass 注解类型
+     * @return 有此注解返回 true, 否则返回 false
+     */
+    public boolean isAnnotated(AnnotatedElement element, Class<? extends Annotation> annotationClass) {
+        return getAnnotation(element, annotationClass) != null;
+    }
+
+    /**
+     * 获取类或成员上的所有注解, 包括元注解
+     *
+     * @param element 索引的类, 或其索引范围内的属性、方法、构造器
+     * @return 返回只读的 <注解类型, 注解对象> Map, 成员不在索引范围内返回空 Map
+     */
+    public Map<Class<? extends Annotation>, Annotation> getAnnotations(AnnotatedElement element) {
+        Map<Class<? extends Annotation>, Annotation> annotations = elementAnnotations.get(element);
+        return annotations != null ? annotations : Collections.emptyMap();
+    }
+
+    /**
+     * 获取索引的类
+     *
+     * @return 返回索引的类
+     */
+    public Class<?> getType() {
+        return type;
+    }
+
+    /**
+     * 将成员的注解加入索引
+     *
+     * @param member 成员
+     * @param index  <注解类型, <成员, 注解对象>> 索引
+     * @param <M>    成员类型
+     */
+    private <M extends AnnotatedElement> void index(M member, Map<Class<? extends Annotation>, Map<M, Annotation>> index) {
+        Map<Class<? extends Annotation>, Annotation> annotations = collect(member.getDeclaredAnnotations());
+        if (annotations.isEmpty()) {
+            return;
+        }
+        elementAnnotations.put(member, annotations);
+        for (Map.Entry<Class<? extends Annotation>, Annotation> entry : annotations.entrySet()) {
+            Map<M, Annotation> members = index.get(entry.getKey());
+            if (members == null) {
+                members = new LinkedHashMap<>();
+                index.put(entry.getKey(), members);
+            }
+            members.put(member, entry.getValue());
+        }
+    }
+
+    /**
+     * 查找注解类型对应的成员
+     *
+     * @param index           <注解类型, <成员, 注解对象>> 索引
+     * @param annotationClass 注解类型
+     * @param <M>             成员类型
+     * @return 返回只读的 <成员, 注解对象> Map
+     */
+    private static <M> Map<M, Annotation> lookup(Map<Class<? extends Annotation>, Map<M, Annotation>> index, Class<? extends Annotation> annotationClass) {
+        Map<M, Annotation> members = index.get(annotationClass);
+        return members != null ? members : Collections.emptyMap();
+    }
+
+    /**
+     * 收集注解及其元注解
+     *
+     * @param declared 直接声明的注解
+     * @return 返回只读的 <注解类型, 注解对象> Map
+     */
+    private static Map<Class<? extends Annotation>, Annotation> collect(Annotation[] declared) {
+        if (declared.length == 0) {
+            return Collections.emptyMap();
+        }
+        Map<Class<? extends Annotation>, Annotation> annotations = new LinkedHashMap<>();
+        Queue<Annotation> queue = new ArrayDeque<>();
+        for (Annotation annotation : declared) {
+            annotations.put(annotation.annotationType(), annotation);
+            queue.add(annotation);
+        }
+        Annotation annotation;
+        while ((annotation = queue.poll()) != null) {
+            for (Annotation meta : annotation.annotationType().getDeclaredAnnotations()) {
+                Class<? extends Annotation> metaType = meta.annotationType();
+                if (!metaType.getName().startsWith("java.lang.annotation.") && !annotations.containsKey(metaType)) {
+                    annotations.put(metaType, meta);
+                    queue.add(meta);
+                }
+            }
+        }
+        return Collections.unmodifiableMap(annotations);
+    }
+
+    /**
+     * 将索引中的各 Map 替换为只读视图
+     *
+     * @param index <注解类型, <成员, 注解对象>> 索引
+     * @param <M>   成员类型
+     */
+    private static <M> void freeze(Map<Class<? extends Annotation>, Map<M, Annotation>> index) {
+        for (Map.Entry<Class<? extends Annotation>, Map<M, Annotation>> entry : index.entrySet()) {
+            entry.setValue(Collections.unmodifiableMap(entry.getValue()));
+        }
+    }
+
+}
@@ -0,0 +1,384 @@
+package org.fanlychie.jreflect;
+
+import org.fanlychie.jreflect.exception.ReflectionCastException;
+import org.fanlychie.jreflect.util.PrimitiveWrapperTypeUtils;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Bean 复制器, 按属性名称将源对象的属性值直接复制到目标对象, 不经过中间的 Map.
+ * 每对 <源类型, 目标类型> 的复制计划只构建一次: 匹配同名且类型兼容的属性(包括装箱、拆箱和基本数据类型的拓宽转换),
+ * 基本数据类型之间的复制不创建包装类型对象. 目标类型中声明为 final 的属性不复制
+ * Created by fanlychie on 2026/10/16.
+ */
+public final class BeanCopier<S, T> {
+
+    /**
+     * 复制使用的字段描述符在类元数据中的键, 查找所有非静态的属性
+     */
+    private static final ClassMetadata.Key<FieldDescriptor> COPY_FIELD_DESCRIPTOR_KEY = new ClassMetadata.Key<FieldDescriptor>("BeanCopier.FieldDescriptor") {
+        @Override
+        FieldDescriptor compute(Class<?> type) {
+            return new FieldDescriptor(type)
+                    .accessibleStatic(false)
+                    .stopClass(Object.class)
+                    .init();
+        }
+    };
+
+    /**
+     * 源对象类型
+     */
+    private final Class<S> sourceClass;
+
+    /**
+     * 目标对象类型
+     */
+    private final Class<T> targetClass;
+
+    /**
+     * 复制计划
+     */
+    private final CopyPlan plan;
+
+    /**
+     * 忽略的属性标记, 与复制计划的属性一一对应, 没有忽略的属性时为 null
+     */
+    private boolean[] ignored;
+
+    /**
+     * 源对象属性值为 null 时是否跳过
+     */
+    private boolean skipNull;
+
+    /**
+     * 构建实例
+     *
+     * @param sourceClass 源对象类型
+     * @param targetClass 目标对象类型
+     */
+    public BeanCopier(Class<S> sourceClass, Class<T> targetClass) {
+        this.sourceClass = sourceClass;
+        this.targetClass = targetClass;
+        // 复制计划同时引用源类型和目标类型, 存放在类加载器生命周期较短的一方, 避免长生命周期的类阻止另一方被卸载
+        if (isDescendant(targetClass.getClassLoader(), sourceClass.getClassLoader())) {
+            this.plan = ClassMetadata.forClass(targetClass).get(new CopyPlanKey(sourceClass, false));
+        } else {
+            this.plan = ClassMetadata.forClass(sourceClass).get(new CopyPlanKey(targetClass, true));
+        }
+    }
+
+    /**
+     * 将源对象的属性值复制到目标对象
+     *
+     * @param source 源对象
+     * @param target 目标对象
+     * @return 返回目标对象
+     */
+    public T copy(S source, T target) {
+        if (!sourceClass.isInstance(source)) {
+            throw new IllegalArgumentException("source object is not an instance of " + sourceClass);
+        }
+        if (!targetClass.isInstance(target)) {
+            throw new IllegalArgumentException("target object is not an instance of " + targetClass);
+        }
+        plan.copy(source, target, ignored, skipNull);
+        return target;
+    }
+
+    /**
+     * 调用目标类型的无参构造器创建实例, 并将源对象的属性值复制到新的实例
+     *
+     * @param source 源对象
+     * @return 返回新的目标对象, 若源对象为 null, 则返回 null
+     */
+    public T copy(S source) {
+        if (source == null) {
+            return null;
+        }
+        return copy(source, (T) plan.getFactory().get());
+    }
+
+    /**
+     * 设置忽略的属性, 这些属性不会被复制
+     *
+     * @param names 属性名称
+     * @return 返回当前对象
+     */
+    public BeanCopier<S, T> ignoreProperties(String... names) {
+        Set<String> nameSet = new HashSet<>(Arrays.asList(names));
+        boolean[] ignored = new boolean[plan.names.length];
+        boolean any = false;
+        for (int i = 0; i < ignored.length; i++) {
+            ignored[i] = nameSet.contains(plan.names[i]);
+            any |= ignored[i];
+        }
+        this.ignored = any ? ignored : null;
+        return this;
+    }
+
+    /**
+     * 设置源对象属性值为 null 时是否跳过, 默认将 null 复制到目标对象. 基本数据类型的目标属性总是跳过 null 值
+     *
+     * @param skipNull 是否跳过 null 值
+     * @return 返回当前对象
+     */
+    public BeanCopier<S, T> skipNull(boolean skipNull) {
+        this.skipNull = skipNull;
+        return this;
+    }
+
+    /**
+     * 获取复制的属性名称列表
+     *
+     * @return 返回复制计划中的属性名称列表
+     */
+    public List<String> getPropertyNames() {
+        return Collections.unmodifiableList(Arrays.asList(plan.names));
+    }
+
+    /**
+     * 判断源类型的属性值能否复制到目标类型的属性
+     *
+     * @param sourceType 源类型
+     * @param targetType 目标类型
+     * @return 能复制返回 true, 否则返回 false
+     */
+    private static boolean isCompatible(Class<?> sourceType, Class<?> targetType) {
+        if (targetType.isPrimitive()) {
+            Class<?> primitiveType = PrimitiveWrapperTypeUtils.getPrimitiveType(sourceType);
+            return primitiveType != null && PrimitiveWrapperTypeUtils.isWidening(primitiveType, targetType);
+        }
+        Class<?> wrapperType = PrimitiveWrapperTypeUtils.getWrapperType(sourceType);
+        return targetType.isAssignableFrom(wrapperType != null ? wrapperType : sourceType);
+    }
+
+    /**
+     * 判断类加载器是否为另一个类加载器的后代
+     *
+     * @param classLoader 类加载器
+     * @param ancestor    祖先类加载器, null 表示启动类加载器
+     * @return 是后代返回 true, 相同或不是后代返回 false
+     */
+    private static boolean isDescendant(ClassLoader classLoader, ClassLoader ancestor) {
+        if (classLoader == ancestor) {
+            return false;
+        }
+        if (ancestor == null) {
+            return true;
+        }
+        while (classLoader != null) {
+            classLoader = classLoader.getParent();
+            if (classLoader == ancestor) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 复制计划在源类型或目标类型的类元数据中的键, 按另一方的类型区分
+     */
+    private static final class CopyPlanKey extends ClassMetadata.Key<CopyPlan> {
+
+        /**
+         * 另一方的类型
+         */
+        private final Class<?> otherClass;
+
+        /**
+         * 键所在的类元数据是否属于源类型
+         */
+        private final boolean inSource;
+
+        /**
+         * 构建实例
+         *
+         * @param otherClass 另一方的类型
+         * @param inSource   键所在的类元数据是否属于源类型
+         */
+        private CopyPlanKey(Class<?> otherClass, boolean inSource) {
+            super("BeanCopier");
+            this.otherClass = otherClass;
+            this.inSource = inSource;
+        }
+
+        @Override
+        CopyPlan compute(Class<?> type) {
+            Class<?> sourceClass = inSource ? type : otherClass;
+            Class<?> targetClass = inSource ? otherClass : type;
+            return new CopyPlan(ClassMetadata.forClass(sourceClass).get(COPY_FIELD_DESCRIPTOR_KEY),
+                    ClassMetadata.forClass(targetClass).get(COPY_FIELD_DESCRIPTOR_KEY), targetClass);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof CopyPlanKey)) {
+                return false;
+            }
+            CopyPlanKey other = (CopyPlanKey) obj;
+            return other.otherClass == otherClass && other.inSource == inSource;
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * otherClass.hashCode() + Boolean.hashCode(inSource);
+        }
+
+    }
+
+    /**
+     * 复制计划. 源属性为基本数据类型时, 读写合并为一个 (Object 源对象, Object 目标对象)void 句柄;
+     * 源属性为引用类型时, 先读取值, 再根据是否为 null 决定是否写入
+     */
+    private static final class CopyPlan {
+
+        /**
+         * 复制的属性名称
+         */
+        private final String[] names;
+
+        /**
+         * 合并读写的句柄, 类型为 (Object, Object)void, 源属性为引用类型时为 null
+         */
+        private final MethodHandle[] copiers;
+
+        /**
+         * 源属性的 Getter 句柄, 类型为 (Object)Object
+         */
+        private final MethodHandle[] getters;
+
+        /**
+         * 目标属性的 Setter 句柄, 类型为 (Object, Object)void
+         */
+        private final MethodHandle[] setters;
+
+        /**
+         * 目标属性是否为基本数据类型
+         */
+        private final boolean[] primitiveTargets;
+
+        /**
+         * 目标对象类型
+         */
+        private final Class<?> targetClass;
+
+        /**
+         * 目标类型无参构造器的实例工厂, 首次使用时获取
+         */
+        private volatile InstanceFactory<?> factory;
+
+        /**
+         * 构建实例
+         *
+         * @param source      源类型的字段描述符
+         * @param target      目标类型的字段描述符
+         * @param targetClass 目标对象类型
+         */
+        private CopyPlan(FieldDescriptor source, FieldDescriptor target, Class<?> targetClass) {
+            this.targetClass = targetClass;
+            Map<String, FieldAccessor> sourceAccessors = source.getNameAccessorMap();
+            List<String> names = new ArrayList<>();
+            List<MethodHandle> copiers = new ArrayList<>();
+            List<MethodHandle> getters = new ArrayList<>();
+            List<MethodHandle> setters = new ArrayList<>();
+            List<Boolean> primitiveTargets = new ArrayList<>();
+            for (Map.Entry<String, FieldAccessor> entry : target.getNameAccessorMap().entrySet()) {
+                FieldAccessor targetAccessor = entry.getValue();
+                FieldAccessor sourceAccessor = sourceAccessors.get(entry.getKey());
+                MethodHandle setter = targetAccessor.getTypedSetter();
+                if (sourceAccessor == null || setter == null) {
+                    continue;
+                }
+                Field sourceField = sourceAccessor.getField();
+                Field targetField = targetAccessor.getField();
+                if (sourceField.isSynthetic() || targetField.isSynthetic() || Modifier.isFinal(targetField.getModifiers())
+                        || !isCompatible(sourceField.getType(), targetField.getType())) {
+                    continue;
+                }
+                MethodHandle getter = sourceAccessor.getTypedGetter();
+                names.add(entry.getKey());
+                primitiveTargets.add(targetField.getType().isPrimitive());
+                if (sourceField.getType().isPrimitive()) {
+                    MethodHandle converted = getter.asType(MethodType.methodType(setter.type().parameterType(1), Object.class));
+                    MethodHandle copier = MethodHandles.filterArguments(setter, 1, converted);
+                    // (Object 目标对象, Object 源对象)void -> (Object 源对象, Object 目标对象)void
+                    copiers.add(MethodHandles.permuteArguments(copier,
+                            MethodType.methodType(void.class, Object.class, Object.class), 1, 0));
+                    getters.add(null);
+                    setters.add(null);
+                } else {
+                    copiers.add(null);
+                    getters.add(getter.asType(MethodType.methodType(Object.class, Object.class)));
+                    setters.add(setter.asType(MethodType.methodType(void.class, Object.class, Object.class)));
+                }
+            }
+            this.names = names.toArray(new String[0]);
+            this.copiers = copiers.toArray(new MethodHandle[0]);
+            this.getters = getters.toArray(new MethodHandle[0]);
+            this.setters = setters.toArray(new MethodHandle[0]);
+            this.primitiveTargets = new boolean[primitiveTargets.size()];
+            for (int i = 0; i < this.primitiveTargets.length; i++) {
+                this.primitiveTargets[i] = primitiveTargets.get(i);
+            }
+        }
+
+        /**
+         * 复制属性值
+         *
+         * @param source   源对象
+         * @param target   目标对象
+         * @param ignored  忽略的属性标记, 可为 null
+         * @param skipNull 源对象属性值为 null 时是否跳过
+         */
+        private void copy(Object source, Object target, boolean[] ignored, boolean skipNull) {
+            try {
+                for (int i = 0; i < names.length; i++) {
+                    if (ignored != null && ignored[i]) {
+                        continue;
+                    }
+                    MethodHandle copier = copiers[i];
+                    if (copier != null) {
+                        copier.invokeExact(source, target);
+                        continue;
+                    }
+                    Object value = (Object) getters[i].invokeExact(source);
+                    if (value == null && (skipNull || primitiveTargets[i])) {
+                        continue;
+                    }
+                    setters[i].invokeExact(target, value);
+                }
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new ReflectionCastException(e);
+            }
+        }
+
+        /**
+         * 获取目标类型无参构造器的实例工厂
+         *
+         * @return 返回实例工厂
+         */
+        private InstanceFactory<?> getFactory() {
+            InstanceFactory<?> factory = this.factory;
+            if (factory == null) {
+                this.factory = factory = new ConstructorDescriptor<>(targetClass).getInstanceFactory();
+            }
+            return factory;
+        }
+
+    }
+
+}
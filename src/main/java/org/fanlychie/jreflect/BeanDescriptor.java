@@ -1,10 +1,8 @@
 package org.fanlychie.jreflect;
 
-import java.util.HashMap;
-import java.util.Map;
-
 /**
- * Bean 描述符, 提供全局的操作对象或类的方法
+ * Bean 描述符, 提供全局的操作对象或类的方法. 描述符是 {@link BeanHandle} 绑定了目标对象的轻量视图,
+ * 与同一类的其它描述符共享所有的元数据, 创建描述符不会创建任何元数据
  * Created by fanlychie on 2017/3/4.
  */
 public class BeanDescriptor {
@@ -20,24 +18,19 @@ public class BeanDescriptor {
     private Class<?> targetClass;
 
     /**
-     * {@link FieldDescriptor}
+     * 目标类的 {@link BeanHandle}
      */
-    private FieldDescriptor fieldDescriptor;
+    private final BeanHandle<?> handle;
 
     /**
-     * {@link MethodDescriptor}
+     * 字段描述符在类元数据中的键
      */
-    private MethodDescriptor methodDescriptor;
-
-    /**
-     * {@link ConstructorDescriptor}
-     */
-    private ConstructorDescriptor<?> constructorDescriptor;
-
-    /**
-     * 内存缓存
-     */
-    private static final Map<Class<?>, FieldDescriptor> FIELD_DESCRIPTOR_CACHE = new HashMap<>();
+    static final ClassMetadata.Key<FieldDescriptor> FIELD_DESCRIPTOR_KEY = new ClassMetadata.Key<FieldDescriptor>("FieldDescriptor") {
+        @Override
+        FieldDescriptor compute(Class<?> type) {
+            return newFieldDescriptor(type).init();
+        }
+    };
 
     /**
      * 构建实例
@@ -51,7 +44,19 @@ public class BeanDescriptor {
         } else {
             targetClass = obj.getClass();
         }
-        preHandle();
+        this.handle = BeanHandle.forClass(targetClass);
+    }
+
+    /**
+     * 构建绑定了目标对象的视图
+     *
+     * @param handle 目标类的 {@link BeanHandle}
+     * @param target 目标对象
+     */
+    BeanDescriptor(BeanHandle<?> handle, Object target) {
+        this.handle = handle;
+        this.target = target;
+        this.targetClass = handle.getBeanClass();
     }
 
     /**
@@ -62,7 +67,7 @@ public class BeanDescriptor {
      * @return 返回新的实例对象
      */
     public <T> T newInstance(Object... argValues) {
-        target = getConstructorDescriptor().newInstance(argValues);
+        target = handle.newInstance(argValues);
         return (T) target;
     }
 
@@ -75,7 +80,7 @@ public class BeanDescriptor {
      * @return 返回方法调用的结果
      */
     public <T> T invokeMethod(String methodName, Object... argValues) {
-        return getMethodDescriptor().invokeMethod(methodName, argValues);
+        return handle.invokeMethod(target == targetClass ? null : target, methodName, argValues);
     }
 
     /**
@@ -86,7 +91,7 @@ public class BeanDescriptor {
      * @return 返回对象属性的值
      */
     public <T> T getValueByName(String name) {
-        return fieldDescriptor.getValueByName(target, name);
+        return handle.getValueByName(target, name);
     }
 
     /**
@@ -97,7 +102,7 @@ public class BeanDescriptor {
      * @return 返回对象属性的值
      */
     public <T> T getValueByType(Class<?> type) {
-        return fieldDescriptor.getValueByType(target, type);
+        return handle.getValueByType(target, type);
     }
 
     /**
@@ -107,7 +112,7 @@ public class BeanDescriptor {
      * @param value 值
      */
     public void setValueByName(String name, Object value) {
-        fieldDescriptor.setValueByName(target, name, value);
+        handle.setValueByName(target, name, value);
     }
 
     /**
@@ -116,7 +121,30 @@ public class BeanDescriptor {
      * @param value 值
      */
     public void setValueByType(Object value) {
-        fieldDescriptor.setValueByType(target, value);
+        handle.setValueByType(target, value);
+    }
+
+    /**
+     * 根据属性路径获取对象的嵌套属性的值, 路径的格式见 {@link PropertyPath}. 路径在类的 {@link BeanHandle} 中缓存,
+     * 只在首次使用时编译
+     *
+     * @param path 属性路径, 如 "a.b[3].c"
+     * @param <T>  期望的类型
+     * @return 返回路径的值
+     */
+    public <T> T getValueByPath(String path) {
+        return handle.getValueByPath(target, path);
+    }
+
+    /**
+     * 根据属性路径设置对象的嵌套属性的值, 路径的格式见 {@link PropertyPath}. 中间对象为 null 时抛出异常,
+     * 需要自动创建中间对象时使用 {@link PropertyPath#compile(String)} 的结果. 路径在类的 {@link BeanHandle} 中缓存
+     *
+     * @param path  属性路径, 如 "a.b[3].c"
+     * @param value 值
+     */
+    public void setValueByPath(String path, Object value) {
+        handle.setValueByPath(target, path, value);
     }
 
     /**
@@ -129,55 +157,34 @@ public class BeanDescriptor {
     }
 
     /**
-     * 获取字段描述符 {@link FieldDescriptor}
+     * 获取字段描述符 {@link FieldDescriptor} 的副本, 见 {@link BeanHandle#getFieldDescriptor()}
      *
-     * @return 返回字段描述符
+     * @return 返回字段描述符的副本
      */
     public FieldDescriptor getFieldDescriptor() {
-        return fieldDescriptor;
+        return handle.getFieldDescriptor();
     }
 
     /**
-     * 获取方法描述符
+     * 获取目标类的 Bean 句柄
      *
-     * @return {@link MethodDescriptor}
+     * @return 返回 {@link BeanHandle}
      */
-    private MethodDescriptor getMethodDescriptor() {
-        if (methodDescriptor == null) {
-            methodDescriptor = new MethodDescriptor(target)
-                    .accessibleSuperclass(true)
-                    .init();
-        }
-        return methodDescriptor;
+    public BeanHandle<?> getHandle() {
+        return handle;
     }
 
     /**
-     * 获取构造器描述符
+     * 创建查找所有属性(包括父类的属性和静态属性)的字段描述符, 尚未初始化
      *
-     * @return {@link ConstructorDescriptor}
-     */
-    private ConstructorDescriptor getConstructorDescriptor() {
-        if (constructorDescriptor == null) {
-            constructorDescriptor = new ConstructorDescriptor(targetClass);
-        }
-        return constructorDescriptor;
-    }
-
-    /**
-     * 预处理, 检查是否已经缓存, 若没有, 则进行初始化并加载到内存缓存
+     * @param type 任意的 Class 类型
+     * @return 返回字段描述符
      */
-    private void preHandle() {
-        synchronized (FIELD_DESCRIPTOR_CACHE) {
-            fieldDescriptor = FIELD_DESCRIPTOR_CACHE.get(targetClass);
-            if (fieldDescriptor == null) {
-                fieldDescriptor = new FieldDescriptor(targetClass)
-                        .accessibleSuperclass(false)
-                        .accessibleStatic(true)
-                        .stopClass(Object.class)
-                        .init();
-                FIELD_DESCRIPTOR_CACHE.put(targetClass, fieldDescriptor);
-            }
-        }
+    static FieldDescriptor newFieldDescriptor(Class<?> type) {
+        return new FieldDescriptor(type)
+                .accessibleSuperclass(false)
+                .accessibleStatic(true)
+                .stopClass(Object.class);
     }
 
 }
\ No newline at end of file
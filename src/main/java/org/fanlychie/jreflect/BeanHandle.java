@@ -0,0 +1,252 @@
+package org.fanlychie.jreflect;
+
+import org.fanlychie.jreflect.util.MethodSignatureUtils;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Bean 句柄, 类级别的 Bean 操作入口, 每个类只解析一次并缓存, 线程安全.
+ * 所有操作都以目标对象为参数, 同一个句柄可操作任意多个该类的对象, 操作过程不创建任何描述符.
+ * 需要以对象为中心操作时, 可通过 {@link #bind(Object)} 获取绑定了目标对象的轻量视图, 视图不创建任何元数据.
+ * 批量处理同一类的对象时, 推荐持有句柄而不是为每个对象创建 {@link BeanDescriptor}
+ * Created by fanlychie on 2026/10/16.
+ */
+public final class BeanHandle<T> {
+
+    /**
+     * Bean 句柄在类元数据中的键
+     */
+    static final ClassMetadata.Key<BeanHandle<?>> BEAN_HANDLE_KEY = new ClassMetadata.Key<BeanHandle<?>>("BeanHandle") {
+        @Override
+        BeanHandle<?> compute(Class<?> type) {
+            return new BeanHandle<>(type);
+        }
+    };
+
+    /**
+     * 属性路径缓存的最大数量, 达到上限时淘汰任意一个已缓存的路径
+     */
+    private static final int MAX_PATHS = 64;
+
+    /**
+     * 操作的目标类
+     */
+    private final Class<T> beanClass;
+
+    /**
+     * 类元数据
+     */
+    private final ClassMetadata metadata;
+
+    /**
+     * 查找所有属性(包括父类的属性和静态属性)的字段描述符
+     */
+    private final FieldDescriptor fieldDescriptor;
+
+    /**
+     * <方法名称, 同名方法的签名组> 对照表(包括父类的方法), 首次调用方法时获取
+     */
+    private volatile Map<String, SignatureGroup<MethodInvoker>> methodSignature;
+
+    /**
+     * 构造器签名组, 首次创建实例时获取
+     */
+    private volatile SignatureGroup<InstanceFactory<?>> constructorSignature;
+
+    /**
+     * <属性路径, 编译后的属性路径> 缓存, 随句柄缓存在类元数据中, 以路径字符串直接查找, 不创建任何对象
+     */
+    private final ConcurrentMap<String, PropertyPath> paths = new ConcurrentHashMap<>();
+
+    /**
+     * 构建实例
+     *
+     * @param beanClass 操作的目标类
+     */
+    private BeanHandle(Class<T> beanClass) {
+        this.beanClass = beanClass;
+        this.metadata = ClassMetadata.forClass(beanClass);
+        this.fieldDescriptor = metadata.get(BeanDescriptor.FIELD_DESCRIPTOR_KEY);
+    }
+
+    /**
+     * 获取参数给定的类的 Bean 句柄, 每个类只创建一次
+     *
+     * @param beanClass 任意的 Class 类型
+     * @param <T>       目标类型
+     * @return 返回 Bean 句柄
+     */
+    public static <T> BeanHandle<T> forClass(Class<T> beanClass) {
+        return (BeanHandle<T>) ClassMetadata.forClass(beanClass).get(BEAN_HANDLE_KEY);
+    }
+
+    /**
+     * 获取绑定了目标对象的视图, 视图与句柄共享所有的元数据
+     *
+     * @param target 目标对象, 操作类属性(静态字段)可传 null
+     * @return 返回绑定了目标对象的 Bean 描述符
+     */
+    public BeanDescriptor bind(Object target) {
+        return new BeanDescriptor(this, target);
+    }
+
+    /**
+     * 调用构造器创建实例, 构造器的选择规则与 {@link ConstructorDescriptor#newInstance(Object...)} 一致
+     *
+     * @param argValues 构造器参数的值列表
+     * @return 返回创建的实例对象
+     */
+    public T newInstance(Object... argValues) {
+        SignatureGroup<InstanceFactory<?>> group = constructorSignature;
+        if (group == null) {
+            constructorSignature = group = metadata.get(ConstructorDescriptor.CONSTRUCTOR_SIGNATURE_KEY);
+        }
+        SignatureGroup.Entry<InstanceFactory<?>> entry = group.lookup(argValues);
+        if (entry == null) {
+            throw MethodSignatureUtils.methodOperationException(beanClass.getSimpleName(), argValues);
+        }
+        return (T) entry.getMember().newInstance(entry.arguments(argValues));
+    }
+
+    /**
+     * 调用方法(包括父类的方法), 方法的选择规则与 {@link MethodDescriptor#invokeMethod(String, Object...)} 一致
+     *
+     * @param target     目标对象, 若调用静态方法, 此项可传 null
+     * @param methodName 方法名称
+     * @param argValues  方法参数的值列表
+     * @param <V>        期望返回的数据类型
+     * @return 返回方法调用的结果
+     */
+    public <V> V invokeMethod(Object target, String methodName, Object... argValues) {
+        Map<String, SignatureGroup<MethodInvoker>> signature = methodSignature;
+        if (signature == null) {
+            methodSignature = signature = metadata.get(MethodDescriptor.methodSignatureKey(true, null));
+        }
+        SignatureGroup<MethodInvoker> group = signature.get(methodName);
+        SignatureGroup.Entry<MethodInvoker> entry = group != null ? group.lookup(argValues) : null;
+        if (entry == null) {
+            throw MethodSignatureUtils.methodOperationException(methodName, argValues);
+        }
+        return entry.getMember().invoke(target, entry.arguments(argValues));
+    }
+
+    /**
+     * 根据属性名称获取对象的属性的值
+     *
+     * @param target 目标对象, 若操作类属性(静态属性), 此项可传 null
+     * @param name   属性名称
+     * @param <V>    期望的类型
+     * @return 返回对象属性的值
+     */
+    public <V> V getValueByName(Object target, String name) {
+        return fieldDescriptor.getFieldAccessorByName(name).get(target);
+    }
+
+    /**
+     * 根据属性名称设置对象属性的值
+     *
+     * @param target 目标对象, 若操作类属性(静态属性), 此项可传 null
+     * @param name   属性名称
+     * @param value  值
+     */
+    public void setValueByName(Object target, String name, Object value) {
+        fieldDescriptor.getFieldAccessorByName(name).set(target, value);
+    }
+
+    /**
+     * 根据属性类型获取对象的属性的值, 若没有找到参数给定类型的属性或找到多于1个以上将抛出异常
+     *
+     * @param target 目标对象, 若操作类属性(静态属性), 此项可传 null
+     * @param type   属性类型, 严格匹配类型, Object.class 无效
+     * @param <V>    期望的类型
+     * @return 返回对象属性的值
+     */
+    public <V> V getValueByType(Object target, Class<?> type) {
+        return fieldDescriptor.getValueByType(target, type);
+    }
+
+    /**
+     * 根据属性值的类型设置对象属性的值, 若没有找到属性值参数的类型的属性或找到多于1个以上将抛出异常
+     *
+     * @param target 目标对象, 若操作类属性(静态属性), 此项可传 null
+     * @param value  值
+     */
+    public void setValueByType(Object target, Object value) {
+        fieldDescriptor.setValueByType(target, value);
+    }
+
+    /**
+     * 根据属性路径获取对象的嵌套属性的值, 路径的格式见 {@link PropertyPath}. 路径在句柄中缓存, 只在首次使用时编译,
+     * 每个类最多缓存 64 个路径
+     *
+     * @param target 目标对象
+     * @param path   属性路径, 如 "a.b[3].c"
+     * @param <V>    期望的类型
+     * @return 返回路径的值
+     */
+    public <V> V getValueByPath(Object target, String path) {
+        return compiledPath(path).get(target);
+    }
+
+    /**
+     * 根据属性路径设置对象的嵌套属性的值, 路径的格式见 {@link PropertyPath}. 路径在句柄中缓存, 只在首次使用时编译.
+     * 中间对象为 null 时抛出异常, 需要自动创建中间对象时使用 {@link PropertyPath#compile(String)} 的结果
+     *
+     * @param target 目标对象
+     * @param path   属性路径, 如 "a.b[3].c"
+     * @param value  值
+     */
+    public void setValueByPath(Object target, String path, Object value) {
+        compiledPath(path).set(target, value);
+    }
+
+    /**
+     * 获取缓存的属性路径, 没有时编译并缓存, 缓存达到上限时淘汰任意一个已缓存的路径
+     *
+     * @param path 属性路径
+     * @return 返回编译后的属性路径, 选项为默认值
+     */
+    private PropertyPath compiledPath(String path) {
+        if (path == null) {
+            throw new NullPointerException();
+        }
+        PropertyPath compiled = paths.get(path);
+        if (compiled == null) {
+            compiled = PropertyPath.compile(path);
+            if (paths.size() >= MAX_PATHS) {
+                Iterator<String> iterator = paths.keySet().iterator();
+                if (iterator.hasNext()) {
+                    paths.remove(iterator.next());
+                }
+            }
+            PropertyPath existing = paths.putIfAbsent(path, compiled);
+            if (existing != null) {
+                compiled = existing;
+            }
+        }
+        return compiled;
+    }
+
+    /**
+     * 获取字段描述符的副本, 每次调用返回新的副本. 副本与句柄共享只读的属性表及按类型、注解查找的索引,
+     * 已建立的索引不会因复制而重新扫描属性; 修改副本的设置(如 {@link FieldDescriptor#fastAccessor(boolean)})不影响句柄和其它调用方
+     *
+     * @return 返回字段描述符的副本
+     */
+    public FieldDescriptor getFieldDescriptor() {
+        return fieldDescriptor.copy();
+    }
+
+    /**
+     * 获取操作的目标类
+     *
+     * @return 返回操作的目标类
+     */
+    public Class<T> getBeanClass() {
+        return beanClass;
+    }
+
+}
@@ -6,10 +6,15 @@ import java.beans.IntrospectionException;
 import java.beans.Introspector;
 import java.beans.PropertyDescriptor;
 import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * Bean 内省, 提供全局的动态操作对象 getter/setter 方法[不支持操作类方法(静态方法)]
@@ -28,9 +33,32 @@ public class BeanIntrospector {
     private NamePropertyDescriptor namePropertyDescriptor;
 
     /**
-     * 内存缓存
+     * {@link NamePropertyDescriptor} 在类元数据中的键
      */
-    private static final Map<Class<?>, NamePropertyDescriptor> NAME_PROPERTY_DESCRIPTOR_CACHE = new HashMap<>();
+    static final ClassMetadata.Key<NamePropertyDescriptor> NAME_PROPERTY_DESCRIPTOR_KEY = new ClassMetadata.Key<NamePropertyDescriptor>("BeanIntrospector") {
+        @Override
+        NamePropertyDescriptor compute(Class<?> type) {
+            try {
+                return new NamePropertyDescriptor(Introspector.getBeanInfo(type).getPropertyDescriptors());
+            } catch (IntrospectionException e) {
+                throw new ReflectionCastException(e);
+            } finally {
+                // 结果已缓存在类元数据中, 清除 Introspector 自身对此类的强引用缓存, 以免阻止类被卸载
+                Introspector.flushFromCaches(type);
+            }
+        }
+    };
+
+    /**
+     * {@link BeanMapper} 在类元数据中的键
+     */
+    static final ClassMetadata.Key<BeanMapper<?>> BEAN_MAPPER_KEY = new ClassMetadata.Key<BeanMapper<?>>("BeanMapper") {
+        @Override
+        BeanMapper<?> compute(Class<?> type) {
+            return new BeanMapper<>(type, ClassMetadata.forClass(type)
+                    .get(NAME_PROPERTY_DESCRIPTOR_KEY).getPropertyDescriptors());
+        }
+    };
 
     /**
      * 构建实例
@@ -73,7 +101,7 @@ public class BeanIntrospector {
     }
 
     /**
-     * 将 Map 转换为 POJO 对象
+     * 将 Map 转换为 POJO 对象, 记录类和不可变类的构造规则见 {@link BeanMapper}
      *
      * @param map         参数
      * @param targetClass 转换为的对象类型
@@ -82,29 +110,51 @@ public class BeanIntrospector {
      */
     public static <T> T convertMapToObject(Map<String, Object> map, Class<T> targetClass) {
         if (map != null && !map.isEmpty()) {
-            T target = null;
-            try {
-                target = targetClass.newInstance();
-            } catch (InstantiationException | IllegalAccessException e) {
-                throw new ReflectionCastException(e);
-            }
-            BeanIntrospector beanIntrospector = new BeanIntrospector(target);
-            Collection<PropertyDescriptor> properties = beanIntrospector.namePropertyDescriptor.getPropertyDescriptors();
-            for (PropertyDescriptor property : properties) {
-                Method setter = property.getWriteMethod();
-                if (setter != null) {
-                    try {
-                        setter.invoke(target, map.get(property.getName()));
-                    } catch (IllegalAccessException | InvocationTargetException e) {
-                        throw new ReflectionCastException(e);
-                    }
-                }
-            }
-            return target;
+            return getBeanMapper(targetClass).toObject(map);
         }
         return null;
     }
 
+    /**
+     * 将 Map 列表转换为 POJO 对象列表, 类的映射器只解析一次
+     *
+     * @param maps        Map 列表
+     * @param targetClass 转换为的对象类型
+     * @param parallel    是否使用 ForkJoinPool 并行转换
+     * @param <T>         期望返回值的类型
+     * @return 返回与 Map 列表一一对应的对象列表, 为 null 或为空的 Map 转换为 null
+     */
+    public static <T> List<T> convertMapsToObjects(List<? extends Map<String, Object>> maps, Class<T> targetClass, boolean parallel) {
+        return getBeanMapper(targetClass).toObjects(maps, parallel);
+    }
+
+    /**
+     * 将 Map 流转换为 POJO 对象流, 每个 Map 在被消费时才转换, 整个结果集不会同时驻留在内存中.
+     * 需要并行转换时传入并行流
+     *
+     * @param maps        Map 流
+     * @param targetClass 转换为的对象类型
+     * @param <T>         期望返回值的类型
+     * @return 返回对象流
+     */
+    public static <T> Stream<T> convertMapsToObjects(Stream<? extends Map<String, Object>> maps, Class<T> targetClass) {
+        return getBeanMapper(targetClass).toObjects(maps);
+    }
+
+    /**
+     * 将 Map 迭代器转换为 POJO 对象流, 每个 Map 在被消费时才转换, 整个结果集不会同时驻留在内存中.
+     * 需要并行转换时调用返回的流的 parallel 方法
+     *
+     * @param maps        Map 迭代器
+     * @param targetClass 转换为的对象类型
+     * @param <T>         期望返回值的类型
+     * @return 返回对象流
+     */
+    public static <T> Stream<T> convertMapsToObjects(Iterator<? extends Map<String, Object>> maps, Class<T> targetClass) {
+        Spliterator<? extends Map<String, Object>> spliterator = Spliterators.spliteratorUnknownSize(maps, Spliterator.ORDERED);
+        return getBeanMapper(targetClass).toObjects(StreamSupport.stream(spliterator, false));
+    }
+
     /**
      * 将 POJO 对象转换为 Map 表示
      *
@@ -113,52 +163,39 @@ public class BeanIntrospector {
      */
     public static Map<String, Object> convertObjectToMap(Object obj) {
         if (obj != null) {
-            Map<String, Object> map = new HashMap<>();
-            BeanIntrospector beanIntrospector = new BeanIntrospector(obj);
-            Collection<PropertyDescriptor> properties = beanIntrospector.namePropertyDescriptor.getPropertyDescriptors();
-            for (PropertyDescriptor property : properties) {
-                Method getter = property.getReadMethod();
-                if (getter != null && !property.getName().equals("class")) {
-                    try {
-                        map.put(property.getName(), getter.invoke(obj));
-                    } catch (IllegalAccessException | InvocationTargetException e) {
-                        throw new ReflectionCastException(e);
-                    }
-                }
-            }
-            return map;
+            return ((BeanMapper<Object>) getBeanMapper(obj.getClass())).toMap(obj);
         }
         return null;
     }
 
+    /**
+     * 获取类的 Bean 映射器, 每个类的映射器只构建一次
+     *
+     * @param beanClass 转换的对象类型
+     * @param <T>       对象类型
+     * @return 返回 Bean 映射器
+     */
+    public static <T> BeanMapper<T> getBeanMapper(Class<T> beanClass) {
+        return (BeanMapper<T>) ClassMetadata.forClass(beanClass).get(BEAN_MAPPER_KEY);
+    }
+
     /**
      * 预处理, 检查是否已经缓存, 若没有, 则进行初始化并加载到内存缓存
      */
     private void preHandle() {
-        synchronized (NAME_PROPERTY_DESCRIPTOR_CACHE) {
-            Class<?> targetClass = null;
-            if (target instanceof Class) {
-                targetClass = (Class<?>) target;
-            } else {
-                targetClass = target.getClass();
-            }
-            namePropertyDescriptor = NAME_PROPERTY_DESCRIPTOR_CACHE.get(targetClass);
-            if (namePropertyDescriptor == null) {
-                try {
-                    namePropertyDescriptor = new NamePropertyDescriptor(
-                            Introspector.getBeanInfo(targetClass).getPropertyDescriptors());
-                } catch (IntrospectionException e) {
-                    throw new ReflectionCastException(e);
-                }
-                NAME_PROPERTY_DESCRIPTOR_CACHE.put(targetClass, namePropertyDescriptor);
-            }
+        Class<?> targetClass = null;
+        if (target instanceof Class) {
+            targetClass = (Class<?>) target;
+        } else {
+            targetClass = target.getClass();
         }
+        namePropertyDescriptor = ClassMetadata.forClass(targetClass).get(NAME_PROPERTY_DESCRIPTOR_KEY);
     }
 
     /**
      * 名称-属性对象 描述符
      */
-    private static class NamePropertyDescriptor {
+    static class NamePropertyDescriptor {
 
         /**
          * 名称-属性对象 Map
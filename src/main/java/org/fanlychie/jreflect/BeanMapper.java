@@ -0,0 +1,366 @@
+package org.fanlychie.jreflect;
+
+import org.fanlychie.jreflect.exception.ReflectionCastException;
+import org.fanlychie.jreflect.util.MethodHandleUtils;
+import org.fanlychie.jreflect.util.RecordUtils;
+
+import java.beans.ConstructorProperties;
+import java.beans.PropertyDescriptor;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Array;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Bean 映射器, 在对象与 Map 之间转换. 每个类的映射器只构建一次, 构建时将所有的 getter/setter
+ * 方法编译为 MethodHandle, 转换时直接调用, 并按属性数量预设 Map 的容量.
+ * 记录类(record), 以及声明了 {@link ConstructorProperties} 注解的构造器且没有可写属性或没有无参构造器的类, 按构造器创建对象:
+ * 构建时确定 Map 的键与构造器参数的对应关系, 转换时以一次构造器调用创建对象, 不再逐个调用 setter 方法,
+ * Map 中没有的参数以 null 或基本数据类型的默认值传入. 记录类的组件同时作为可读属性.
+ * Map 中的值按 {@link ConverterRegistry} 转换为属性的类型, 每个属性按值的类型选择一次转换器并缓存在映射器中
+ * Created by fanlychie on 2026/10/16.
+ */
+public final class BeanMapper<T> {
+
+    /**
+     * 转换的对象类型
+     */
+    private final Class<T> beanClass;
+
+    /**
+     * 可读属性的名称
+     */
+    private final String[] readNames;
+
+    /**
+     * 可读属性的 getter 句柄, 类型为 (Object)Object
+     */
+    private final MethodHandle[] getters;
+
+    /**
+     * 可写属性的名称
+     */
+    private final String[] writeNames;
+
+    /**
+     * 可写属性的 setter 句柄, 类型为 (Object, Object)void
+     */
+    private final MethodHandle[] setters;
+
+    /**
+     * 可写属性的值转换器, 与 setter 句柄一一对应
+     */
+    private final TypeConverter<Object, Object>[] setterConverters;
+
+    /**
+     * 构造器参数对应的属性名称, 不按构造器创建对象时为 null
+     */
+    private final String[] parameterNames;
+
+    /**
+     * 构造器参数在 Map 中没有值时传入的默认值
+     */
+    private final Object[] parameterDefaults;
+
+    /**
+     * 构造器参数的值转换器, 不按构造器创建对象时为 null
+     */
+    private final TypeConverter<Object, Object>[] parameterConverters;
+
+    /**
+     * 按构造器创建对象时的实例工厂, 不按构造器创建对象时为 null
+     */
+    private final InstanceFactory<T> canonicalFactory;
+
+    /**
+     * 转换为 Map 时预设的容量
+     */
+    private final int mapCapacity;
+
+    /**
+     * 无参构造器的实例工厂, 首次转换为对象时获取
+     */
+    private volatile InstanceFactory<T> factory;
+
+    /**
+     * 构建实例
+     *
+     * @param beanClass  转换的对象类型
+     * @param properties 属性描述符列表
+     */
+    BeanMapper(Class<T> beanClass, Collection<PropertyDescriptor> properties) {
+        this.beanClass = beanClass;
+        List<String> readNames = new ArrayList<>();
+        List<MethodHandle> getters = new ArrayList<>();
+        List<String> writeNames = new ArrayList<>();
+        List<MethodHandle> setters = new ArrayList<>();
+        List<TypeConverter<Object, Object>> setterConverters = new ArrayList<>();
+        if (RecordUtils.isRecord(beanClass)) {
+            readNames.addAll(Arrays.asList(RecordUtils.getComponentNames(beanClass)));
+            for (Method accessor : RecordUtils.getAccessors(beanClass)) {
+                accessor.setAccessible(true);
+                getters.add(compile(accessor, MethodType.methodType(Object.class, Object.class)));
+            }
+        }
+        for (PropertyDescriptor property : properties) {
+            Method getter = property.getReadMethod();
+            if (getter != null && !property.getName().equals("class") && !readNames.contains(property.getName())) {
+                readNames.add(property.getName());
+                getters.add(compile(getter, MethodType.methodType(Object.class, Object.class)));
+            }
+            Method setter = property.getWriteMethod();
+            if (setter != null) {
+                writeNames.add(property.getName());
+                setters.add(compile(setter, MethodType.methodType(void.class, Object.class, Object.class)));
+                setterConverters.add(ConverterRegistry.forTargetType(setter.getGenericParameterTypes()[0]));
+            }
+        }
+        Constructor<T> canonical = findCanonicalConstructor(beanClass, !writeNames.isEmpty());
+        if (canonical != null) {
+            this.parameterNames = RecordUtils.isRecord(beanClass) ? RecordUtils.getComponentNames(beanClass)
+                    : canonical.getAnnotation(ConstructorProperties.class).value();
+            Class<?>[] parameterTypes = canonical.getParameterTypes();
+            Type[] genericTypes = canonical.getGenericParameterTypes();
+            this.parameterDefaults = new Object[parameterTypes.length];
+            this.parameterConverters = (TypeConverter<Object, Object>[]) new TypeConverter<?, ?>[parameterTypes.length];
+            for (int i = 0; i < parameterTypes.length; i++) {
+                if (parameterTypes[i].isPrimitive()) {
+                    parameterDefaults[i] = Array.get(Array.newInstance(parameterTypes[i], 1), 0);
+                }
+                parameterConverters[i] = ConverterRegistry.forTargetType(
+                        genericTypes.length == parameterTypes.length ? genericTypes[i] : parameterTypes[i]);
+            }
+            this.canonicalFactory = (InstanceFactory<T>) ClassMetadata.forClass(beanClass)
+                    .get(ConstructorDescriptor.CONSTRUCTOR_SIGNATURE_KEY).find(parameterTypes);
+            // 已由构造器传入的属性不再调用 setter 方法
+            List<String> parameterNameList = Arrays.asList(parameterNames);
+            for (int i = writeNames.size() - 1; i >= 0; i--) {
+                if (parameterNameList.contains(writeNames.get(i))) {
+                    writeNames.remove(i);
+                    setters.remove(i);
+                    setterConverters.remove(i);
+                }
+            }
+        } else {
+            this.parameterNames = null;
+            this.parameterDefaults = null;
+            this.parameterConverters = null;
+            this.canonicalFactory = null;
+        }
+        this.readNames = readNames.toArray(new String[0]);
+        this.getters = getters.toArray(new MethodHandle[0]);
+        this.writeNames = writeNames.toArray(new String[0]);
+        this.setters = setters.toArray(new MethodHandle[0]);
+        this.setterConverters = setterConverters.toArray((TypeConverter<Object, Object>[]) new TypeConverter<?, ?>[0]);
+        this.mapCapacity = (int) (this.readNames.length / 0.75f) + 1;
+    }
+
+    /**
+     * 将 POJO 对象转换为 Map 表示
+     *
+     * @param obj 对象
+     * @return 若参数对象为 null, 则返回 null
+     */
+    public Map<String, Object> toMap(T obj) {
+        if (obj == null) {
+            return null;
+        }
+        Map<String, Object> map = new HashMap<>(mapCapacity);
+        try {
+            for (int i = 0; i < getters.length; i++) {
+                map.put(readNames[i], (Object) getters[i].invokeExact((Object) obj));
+            }
+        } catch (InvocationTargetException e) {
+            throw new ReflectionCastException(e);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new ReflectionCastException(e);
+        }
+        return map;
+    }
+
+    /**
+     * 将 Map 转换为 POJO 对象, Map 中没有的属性以 null 值调用 setter 方法. 按构造器创建对象的类,
+     * 以 Map 中的值调用一次构造器, 构造器参数之外的可写属性再调用 setter 方法.
+     * 值的类型与属性的类型不一致时按 {@link ConverterRegistry} 转换, 不能转换的值原样传入
+     *
+     * @param map 参数
+     * @return 返回转换后的对象, 若 map 参数为 null 或为空, 则返回 null
+     */
+    public T toObject(Map<String, Object> map) {
+        if (map == null || map.isEmpty()) {
+            return null;
+        }
+        T target;
+        if (canonicalFactory != null) {
+            Object[] argValues = new Object[parameterNames.length];
+            for (int i = 0; i < argValues.length; i++) {
+                Object value = map.get(parameterNames[i]);
+                argValues[i] = value != null ? parameterConverters[i].convert(value) : parameterDefaults[i];
+            }
+            target = canonicalFactory.newInstance(argValues);
+        } else {
+            target = getFactory().get();
+        }
+        try {
+            for (int i = 0; i < setters.length; i++) {
+                setters[i].invokeExact((Object) target, setterConverters[i].convert(map.get(writeNames[i])));
+            }
+        } catch (InvocationTargetException e) {
+            throw new ReflectionCastException(e);
+        } catch (ClassCastException | NullPointerException e) {
+            throw new IllegalArgumentException("argument type mismatch", e);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new ReflectionCastException(e);
+        }
+        return target;
+    }
+
+    /**
+     * 将 Map 列表逐个转换为 POJO 对象
+     *
+     * @param maps Map 列表
+     * @return 返回与 Map 列表一一对应的对象列表
+     */
+    public List<T> toObjects(List<? extends Map<String, Object>> maps) {
+        return toObjects(maps, false);
+    }
+
+    /**
+     * 将 Map 列表逐个转换为 POJO 对象
+     *
+     * @param maps     Map 列表
+     * @param parallel 是否使用 ForkJoinPool 并行转换, 返回的列表顺序与 Map 列表一致
+     * @return 返回与 Map 列表一一对应的对象列表
+     */
+    public List<T> toObjects(List<? extends Map<String, Object>> maps, boolean parallel) {
+        if (parallel) {
+            return maps.parallelStream().map(this::toObject).collect(Collectors.<T>toList());
+        }
+        List<T> objects = new ArrayList<>(maps.size());
+        for (Map<String, Object> map : maps) {
+            objects.add(toObject(map));
+        }
+        return objects;
+    }
+
+    /**
+     * 将 Map 流转换为 POJO 对象流, 每个 Map 在被消费时才转换, 并行流按并行方式转换
+     *
+     * @param maps Map 流
+     * @return 返回对象流
+     */
+    public Stream<T> toObjects(Stream<? extends Map<String, Object>> maps) {
+        return maps.map(this::toObject);
+    }
+
+    /**
+     * 将 Map 迭代器转换为 POJO 对象迭代器, 每个 Map 在被迭代时才转换
+     *
+     * @param maps Map 迭代器
+     * @return 返回对象迭代器
+     */
+    public Iterator<T> toObjects(final Iterator<? extends Map<String, Object>> maps) {
+        return new Iterator<T>() {
+            @Override
+            public boolean hasNext() {
+                return maps.hasNext();
+            }
+
+            @Override
+            public T next() {
+                return toObject(maps.next());
+            }
+
+            @Override
+            public void remove() {
+                maps.remove();
+            }
+        };
+    }
+
+    /**
+     * 获取转换的对象类型
+     *
+     * @return 返回转换的对象类型
+     */
+    public Class<T> getBeanClass() {
+        return beanClass;
+    }
+
+    /**
+     * 获取无参构造器的实例工厂
+     *
+     * @return 返回实例工厂
+     */
+    private InstanceFactory<T> getFactory() {
+        InstanceFactory<T> factory = this.factory;
+        if (factory == null) {
+            this.factory = factory = new ConstructorDescriptor<>(beanClass).getInstanceFactory();
+        }
+        return factory;
+    }
+
+    /**
+     * 查找按构造器创建对象时使用的构造器: 记录类的规范构造器; 或声明了 {@link ConstructorProperties} 注解的构造器,
+     * 且类没有可写属性或没有无参构造器, 有多个时取参数最多的
+     *
+     * @param beanClass   转换的对象类型
+     * @param hasWritable 类是否有可写属性
+     * @param <T>         对象类型
+     * @return 返回构造器, 不按构造器创建对象时返回 null
+     */
+    private static <T> Constructor<T> findCanonicalConstructor(Class<T> beanClass, boolean hasWritable) {
+        if (RecordUtils.isRecord(beanClass)) {
+            try {
+                return beanClass.getDeclaredConstructor(RecordUtils.getComponentTypes(beanClass));
+            } catch (NoSuchMethodException e) {
+                throw new ReflectionCastException(e);
+            }
+        }
+        Constructor<T> found = null;
+        boolean hasNoArg = false;
+        for (Constructor<?> constructor : beanClass.getDeclaredConstructors()) {
+            int count = constructor.getParameterTypes().length;
+            hasNoArg |= count == 0;
+            ConstructorProperties annotation = constructor.getAnnotation(ConstructorProperties.class);
+            if (annotation != null && annotation.value().length == count
+                    && (found == null || count > found.getParameterTypes().length)) {
+                found = (Constructor<T>) constructor;
+            }
+        }
+        return found != null && (!hasWritable || !hasNoArg) ? found : null;
+    }
+
+    /**
+     * 将 getter/setter 方法编译为句柄, 访问权限与反射调用方法时一致
+     *
+     * @param method 方法对象
+     * @param type   句柄类型
+     * @return 返回编译后的句柄
+     */
+    private static MethodHandle compile(Method method, MethodType type) {
+        try {
+            return MethodHandleUtils.wrapTargetException(MethodHandles.lookup().unreflect(method).asFixedArity()).asType(type);
+        } catch (IllegalAccessException e) {
+            throw new ReflectionCastException(e);
+        }
+    }
+
+}
@@ -0,0 +1,1319 @@
+package org.fanlychie.jreflect;
+
+import org.fanlychie.jreflect.exception.ReflectionCastException;
+import org.fanlychie.jreflect.util.RecordUtils;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.GenericArrayType;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * 二进制编解码器, 按类预先计算字段布局, 将对象的字段直接写入 {@link ByteBuffer}(包括 MappedByteBuffer), 或从中读出对象.
+ * 布局包括类及其父类(不包括 Object)的非静态、非 transient 字段, 按字段名称排序, 被子类同名字段隐藏的父类字段同样包括在内,
+ * 同名时父类的字段在前; 记录类按组件的顺序, 并以规范构造器创建对象.
+ * 基本数据类型的字段通过 MethodHandle 直接读写, 不装箱; 引用类型的字段先写入 1 个字节的 null 标记.
+ * 支持的引用类型包括: 基本数据类型的包装类型、String、枚举(按序数)、BigInteger、BigDecimal、Date、Instant、LocalDate、
+ * LocalTime、LocalDateTime、UUID, 元素为以上类型的数组、集合和 Map, 以及字段的声明类型本身(不支持子类的实例和循环引用).
+ * 编码时首先写入由类名、字段名称、字段类型计算的模式指纹, 字段类型中的枚举包括常量, 嵌套的类型包括其字段布局,
+ * 数组、集合和 Map 的元素类型同样递归计算, 因此嵌套的类型或元素的枚举被修改时指纹也随之改变. 解码时指纹不一致将抛出异常.
+ * 字节序与缓冲区的设置一致, 缓冲区的空间不足时抛出 {@link java.nio.BufferOverflowException}
+ * Created by fanlychie on 2026/10/16.
+ */
+public final class BinaryCodec<T> {
+
+    /**
+     * 编解码器在类元数据中的键
+     */
+    static final ClassMetadata.Key<BinaryCodec<?>> BINARY_CODEC_KEY = new ClassMetadata.Key<BinaryCodec<?>>("BinaryCodec") {
+        @Override
+        BinaryCodec<?> compute(Class<?> type) {
+            return new BinaryCodec<>(type);
+        }
+    };
+
+    /**
+     * 编解码的对象类型
+     */
+    private final Class<T> type;
+
+    /**
+     * 布局中的字段名称
+     */
+    private final List<String> fieldNames;
+
+    /**
+     * 字段的编解码槽, 与字段名称一一对应
+     */
+    private final Slot[] slots;
+
+    /**
+     * 模式指纹
+     */
+    private final long fingerprint;
+
+    /**
+     * 记录类的规范构造器的实例工厂, 不是记录类时为 null
+     */
+    private final InstanceFactory<T> canonicalFactory;
+
+    /**
+     * 无参构造器的实例工厂, 首次解码时获取
+     */
+    private volatile InstanceFactory<T> factory;
+
+    /**
+     * 构建实例
+     *
+     * @param type 编解码的对象类型
+     */
+    private BinaryCodec(Class<T> type) {
+        this.type = type;
+        List<Field> fields = layoutFields(type);
+        if (RecordUtils.isRecord(type)) {
+            this.canonicalFactory = (InstanceFactory<T>) ClassMetadata.forClass(type)
+                    .get(ConstructorDescriptor.CONSTRUCTOR_SIGNATURE_KEY).find(RecordUtils.getComponentTypes(type));
+        } else {
+            this.canonicalFactory = null;
+        }
+        String[] names = new String[fields.size()];
+        this.slots = new Slot[fields.size()];
+        for (int i = 0; i < slots.length; i++) {
+            Field field = fields.get(i);
+            names[i] = field.getName();
+            slots[i] = newSlot(field, canonicalFactory == null);
+        }
+        StringBuilder schema = new StringBuilder();
+        Set<Class<?>> visited = new HashSet<>();
+        visited.add(type);
+        appendLayout(schema, type, fields, visited);
+        this.fieldNames = Collections.unmodifiableList(Arrays.asList(names));
+        this.fingerprint = fingerprint(schema);
+    }
+
+    /**
+     * 获取参数给定的类的编解码器, 每个类的布局只计算一次
+     *
+     * @param type 编解码的对象类型
+     * @param <T>  对象类型
+     * @return 返回编解码器
+     * @throws IllegalArgumentException 类的字段有不支持的类型时抛出
+     */
+    public static <T> BinaryCodec<T> forClass(Class<T> type) {
+        return (BinaryCodec<T>) ClassMetadata.forClass(type).get(BINARY_CODEC_KEY);
+    }
+
+    /**
+     * 将对象编码写入缓冲区, 从缓冲区的当前位置开始写入模式指纹和对象的字段
+     *
+     * @param obj    对象, 不能为 null
+     * @param buffer 缓冲区
+     * @return 返回写入的字节数
+     */
+    public int encode(T obj, ByteBuffer buffer) {
+        Objects.requireNonNull(obj);
+        int start = buffer.position();
+        buffer.putLong(fingerprint);
+        write(obj, buffer);
+        return buffer.position() - start;
+    }
+
+    /**
+     * 从缓冲区的当前位置读出由 {@link #encode(Object, ByteBuffer)} 写入的对象
+     *
+     * @param buffer 缓冲区
+     * @return 返回解码的对象
+     * @throws IllegalArgumentException 模式指纹不一致或数据损坏时抛出
+     */
+    public T decode(ByteBuffer buffer) {
+        checkFingerprint(buffer);
+        return read(buffer);
+    }
+
+    /**
+     * 将一组对象逐个编码写入缓冲区, 写入模式指纹和对象的数量后, 每个对象依次写入, 不会同时持有所有对象的编码
+     *
+     * @param objects 对象集合, 元素可为 null
+     * @param buffer  缓冲区
+     * @return 返回写入的字节数
+     */
+    public int encodeAll(Iterable<? extends T> objects, ByteBuffer buffer) {
+        int start = buffer.position();
+        buffer.putLong(fingerprint);
+        int countPosition = buffer.position();
+        buffer.putInt(0);
+        int count = 0;
+        for (T obj : objects) {
+            if (obj == null) {
+                buffer.put((byte) 0);
+            } else {
+                buffer.put((byte) 1);
+                write(obj, buffer);
+            }
+            count++;
+        }
+        buffer.putInt(countPosition, count);
+        return buffer.position() - start;
+    }
+
+    /**
+     * 从缓冲区的当前位置读出由 {@link #encodeAll(Iterable, ByteBuffer)} 写入的对象, 每个对象在被迭代时才解码.
+     * 迭代期间不能改变缓冲区的位置
+     *
+     * @param buffer 缓冲区
+     * @return 返回对象迭代器
+     * @throws IllegalArgumentException 模式指纹不一致或对象的数量超出缓冲区的剩余字节时抛出
+     */
+    public Iterator<T> decodeAll(final ByteBuffer buffer) {
+        checkFingerprint(buffer);
+        final int count = getLength(buffer, 1);
+        return new Iterator<T>() {
+
+            private int index;
+
+            @Override
+            public boolean hasNext() {
+                return index < count;
+            }
+
+            @Override
+            public T next() {
+                if (index >= count) {
+                    throw new NoSuchElementException();
+                }
+                index++;
+                return buffer.get() == 0 ? null : read(buffer);
+            }
+
+        };
+    }
+
+    /**
+     * 获取模式指纹
+     *
+     * @return 返回模式指纹
+     */
+    public long getFingerprint() {
+        return fingerprint;
+    }
+
+    /**
+     * 获取布局中的字段名称, 按写入的顺序排列
+     *
+     * @return 返回只读的字段名称列表
+     */
+    public List<String> getFieldNames() {
+        return fieldNames;
+    }
+
+    /**
+     * 获取编解码的对象类型
+     *
+     * @return 返回编解码的对象类型
+     */
+    public Class<T> getType() {
+        return type;
+    }
+
+    /**
+     * 写入对象的字段, 不写入模式指纹
+     *
+     * @param obj    对象
+     * @param buffer 缓冲区
+     */
+    void write(Object obj, ByteBuffer buffer) {
+        try {
+            for (Slot slot : slots) {
+                slot.write(obj, buffer);
+            }
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new ReflectionCastException(e);
+        }
+    }
+
+    /**
+     * 读出对象的字段, 不读取模式指纹
+     *
+     * @param buffer 缓冲区
+     * @return 返回对象
+     */
+    T read(ByteBuffer buffer) {
+        try {
+            if (canonicalFactory != null) {
+                Object[] argValues = new Object[slots.length];
+                for (int i = 0; i < slots.length; i++) {
+                    argValues[i] = slots[i].readValue(buffer);
+                }
+                return canonicalFactory.newInstance(argValues);
+            }
+            T obj = getFactory().get();
+            for (Slot slot : slots) {
+                slot.read(obj, buffer);
+            }
+            return obj;
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new ReflectionCastException(e);
+        }
+    }
+
+    /**
+     * 读取并校验模式指纹
+     *
+     * @param buffer 缓冲区
+     */
+    private void checkFingerprint(ByteBuffer buffer) {
+        long actual = buffer.getLong();
+        if (actual != fingerprint) {
+            throw new IllegalArgumentException("schema fingerprint mismatch for " + type.getName() + ", expected "
+                    + Long.toHexString(fingerprint) + " but was " + Long.toHexString(actual));
+        }
+    }
+
+    /**
+     * 获取无参构造器的实例工厂
+     *
+     * @return 返回实例工厂
+     */
+    private InstanceFactory<T> getFactory() {
+        InstanceFactory<T> factory = this.factory;
+        if (factory == null) {
+            this.factory = factory = new ConstructorDescriptor<>(type).getInstanceFactory();
+        }
+        return factory;
+    }
+
+    /**
+     * 获取类的字段布局: 记录类按组件的顺序; 其它类为类及其父类(不包括 Object)的非静态、非 transient 字段, 按字段名称排序.
+     * 逐个类查找声明的字段, 因此被子类同名字段隐藏的父类字段不会丢失, 同名的字段按父类在前排列
+     *
+     * @param type 类
+     * @return 返回布局中的字段, 已设置为可访问
+     */
+    private static List<Field> layoutFields(Class<?> type) {
+        List<Field> fields = new ArrayList<>();
+        if (RecordUtils.isRecord(type)) {
+            try {
+                for (String name : RecordUtils.getComponentNames(type)) {
+                    Field field = type.getDeclaredField(name);
+                    field.setAccessible(true);
+                    fields.add(field);
+                }
+            } catch (NoSuchFieldException e) {
+                throw new ReflectionCastException(e);
+            }
+            return fields;
+        }
+        for (Class<?> declaringClass = type; declaringClass != null && declaringClass != Object.class;
+             declaringClass = declaringClass.getSuperclass()) {
+            for (Field field : declaringClass.getDeclaredFields()) {
+                int modifiers = field.getModifiers();
+                if (!Modifier.isStatic(modifiers) && !Modifier.isTransient(modifiers)) {
+                    field.setAccessible(true);
+                    fields.add(field);
+                }
+            }
+        }
+        fields.sort(Comparator.comparing(Field::getName).thenComparingInt(field -> depth(field.getDeclaringClass())));
+        return fields;
+    }
+
+    /**
+     * 计算类在继承层次中的深度, Object 为 0
+     *
+     * @param type 类
+     * @return 返回类的父类的个数
+     */
+    private static int depth(Class<?> type) {
+        int depth = 0;
+        while ((type = type.getSuperclass()) != null) {
+            depth++;
+        }
+        return depth;
+    }
+
+    /**
+     * 将类的字段布局追加到模式描述中, 包括每个字段的名称和类型
+     *
+     * @param schema  模式描述
+     * @param type    类
+     * @param fields  类的字段布局
+     * @param visited 已追加过布局的类, 用于终止循环引用
+     */
+    private static void appendLayout(StringBuilder schema, Class<?> type, List<Field> fields, Set<Class<?>> visited) {
+        schema.append(type.getName());
+        for (Field field : fields) {
+            schema.append(';').append(field.getName()).append(':').append(field.getGenericType().getTypeName());
+            appendTypeDetail(schema, field.getGenericType(), visited);
+        }
+    }
+
+    /**
+     * 将类型名称之外影响编码的内容追加到模式描述中: 枚举的常量, 数组、集合和 Map 的元素类型的内容, 嵌套的类型的字段布局.
+     * 已追加过布局的嵌套类型只追加 "{^}" 标记
+     *
+     * @param schema      模式描述
+     * @param genericType 值的声明类型
+     * @param visited     已追加过布局的类, 用于终止循环引用
+     */
+    private static void appendTypeDetail(StringBuilder schema, Type genericType, Set<Class<?>> visited) {
+        Class<?> type = ConverterRegistry.rawType(genericType);
+        if (type.isEnum()) {
+            schema.append(Arrays.toString(type.getEnumConstants()));
+        } else if (type.isArray()) {
+            appendTypeDetail(schema, genericType instanceof GenericArrayType
+                    ? ((GenericArrayType) genericType).getGenericComponentType() : type.getComponentType(), visited);
+        } else if (Collection.class.isAssignableFrom(type)) {
+            appendTypeDetail(schema, typeArgument(genericType, 0), visited);
+        } else if (Map.class.isAssignableFrom(type)) {
+            appendTypeDetail(schema, typeArgument(genericType, 0), visited);
+            appendTypeDetail(schema, typeArgument(genericType, 1), visited);
+        } else if (!type.isPrimitive() && !type.isInterface() && !Modifier.isAbstract(type.getModifiers())
+                && !type.getName().startsWith("java.")) {
+            if (visited.add(type)) {
+                schema.append('{');
+                appendLayout(schema, type, layoutFields(type), visited);
+                schema.append('}');
+            } else {
+                schema.append("{^}");
+            }
+        }
+    }
+
+    /**
+     * 计算模式的 64 位 FNV-1a 指纹
+     *
+     * @param schema 模式描述
+     * @return 返回指纹
+     */
+    private static long fingerprint(CharSequence schema) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < schema.length(); i++) {
+            hash ^= schema.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        return hash;
+    }
+
+    /**
+     * 创建字段的编解码槽
+     *
+     * @param field    字段, 已设置为可访问
+     * @param writable 是否通过字段写入值, 记录类通过构造器写入
+     * @return 返回编解码槽
+     */
+    private static Slot newSlot(Field field, boolean writable) {
+        MethodHandle getter;
+        MethodHandle setter;
+        try {
+            getter = MethodHandles.lookup().unreflectGetter(field);
+            setter = writable ? MethodHandles.lookup().unreflectSetter(field) : null;
+        } catch (IllegalAccessException e) {
+            throw new ReflectionCastException(e);
+        }
+        Class<?> fieldType = field.getType();
+        if (!fieldType.isPrimitive()) {
+            ValueCodec codec = valueCodec(field.getGenericType());
+            if (codec == null) {
+                throw new IllegalArgumentException("unsupported field type " + field.getGenericType().getTypeName() + " of " + field);
+            }
+            return new ObjectSlot(getter, setter, codec);
+        }
+        getter = getter.asType(MethodType.methodType(fieldType, Object.class));
+        setter = setter != null ? setter.asType(MethodType.methodType(void.class, Object.class, fieldType)) : null;
+        if (fieldType == int.class) {
+            return new IntSlot(getter, setter);
+        }
+        if (fieldType == long.class) {
+            return new LongSlot(getter, setter);
+        }
+        if (fieldType == double.class) {
+            return new DoubleSlot(getter, setter);
+        }
+        if (fieldType == boolean.class) {
+            return new BooleanSlot(getter, setter);
+        }
+        if (fieldType == float.class) {
+            return new FloatSlot(getter, setter);
+        }
+        if (fieldType == short.class) {
+            return new ShortSlot(getter, setter);
+        }
+        if (fieldType == byte.class) {
+            return new ByteSlot(getter, setter);
+        }
+        return new CharSlot(getter, setter);
+    }
+
+    /**
+     * 创建引用类型的值的编解码器
+     *
+     * @param genericType 值的声明类型
+     * @return 返回编解码器, 不支持的类型返回 null
+     */
+    private static ValueCodec valueCodec(Type genericType) {
+        Class<?> type = ConverterRegistry.rawType(genericType);
+        if (type == String.class) {
+            return codec((buffer, value) -> putBytes(buffer, ((String) value).getBytes(StandardCharsets.UTF_8)),
+                    buffer -> new String(getBytes(buffer), StandardCharsets.UTF_8));
+        }
+        if (type == Integer.class) {
+            return codec((buffer, value) -> buffer.putInt((Integer) value), ByteBuffer::getInt);
+        }
+        if (type == Long.class) {
+            return codec((buffer, value) -> buffer.putLong((Long) value), ByteBuffer::getLong);
+        }
+        if (type == Double.class) {
+            return codec((buffer, value) -> buffer.putDouble((Double) value), ByteBuffer::getDouble);
+        }
+        if (type == Boolean.class) {
+            return codec((buffer, value) -> buffer.put((byte) ((Boolean) value ? 1 : 0)), buffer -> buffer.get() != 0);
+        }
+        if (type == Float.class) {
+            return codec((buffer, value) -> buffer.putFloat((Float) value), ByteBuffer::getFloat);
+        }
+        if (type == Short.class) {
+            return codec((buffer, value) -> buffer.putShort((Short) value), ByteBuffer::getShort);
+        }
+        if (type == Byte.class) {
+            return codec((buffer, value) -> buffer.put((Byte) value), ByteBuffer::get);
+        }
+        if (type == Character.class) {
+            return codec((buffer, value) -> buffer.putChar((Character) value), ByteBuffer::getChar);
+        }
+        if (type.isEnum()) {
+            Object[] constants = type.getEnumConstants();
+            return codec((buffer, value) -> buffer.putInt(((Enum<?>) value).ordinal()), buffer -> {
+                int ordinal = buffer.getInt();
+                if (ordinal < 0 || ordinal >= constants.length) {
+                    throw new IllegalArgumentException("corrupt ordinal " + ordinal + " of " + type.getName());
+                }
+                return constants[ordinal];
+            });
+        }
+        if (type == BigInteger.class) {
+            return codec((buffer, value) -> putBytes(buffer, ((BigInteger) value).toByteArray()),
+                    buffer -> new BigInteger(getBytes(buffer)));
+        }
+        if (type == BigDecimal.class) {
+            return codec((buffer, value) -> {
+                buffer.putInt(((BigDecimal) value).scale());
+                putBytes(buffer, ((BigDecimal) value).unscaledValue().toByteArray());
+            }, buffer -> {
+                int scale = buffer.getInt();
+                return new BigDecimal(new BigInteger(getBytes(buffer)), scale);
+            });
+        }
+        if (type == Date.class) {
+            return codec((buffer, value) -> buffer.putLong(((Date) value).getTime()), buffer -> new Date(buffer.getLong()));
+        }
+        if (type == Instant.class) {
+            return codec((buffer, value) -> {
+                buffer.putLong(((Instant) value).getEpochSecond());
+                buffer.putInt(((Instant) value).getNano());
+            }, buffer -> {
+                long seconds = buffer.getLong();
+                return Instant.ofEpochSecond(seconds, buffer.getInt());
+            });
+        }
+        if (type == LocalDate.class) {
+            return codec((buffer, value) -> buffer.putLong(((LocalDate) value).toEpochDay()),
+                    buffer -> LocalDate.ofEpochDay(buffer.getLong()));
+        }
+        if (type == LocalTime.class) {
+            return codec((buffer, value) -> buffer.putLong(((LocalTime) value).toNanoOfDay()),
+                    buffer -> LocalTime.ofNanoOfDay(buffer.getLong()));
+        }
+        if (type == LocalDateTime.class) {
+            return codec((buffer, value) -> {
+                buffer.putLong(((LocalDateTime) value).toLocalDate().toEpochDay());
+                buffer.putLong(((LocalDateTime) value).toLocalTime().toNanoOfDay());
+            }, buffer -> {
+                LocalDate date = LocalDate.ofEpochDay(buffer.getLong());
+                return LocalDateTime.of(date, LocalTime.ofNanoOfDay(buffer.getLong()));
+            });
+        }
+        if (type == UUID.class) {
+            return codec((buffer, value) -> {
+                buffer.putLong(((UUID) value).getMostSignificantBits());
+                buffer.putLong(((UUID) value).getLeastSignificantBits());
+            }, buffer -> {
+                long mostSigBits = buffer.getLong();
+                return new UUID(mostSigBits, buffer.getLong());
+            });
+        }
+        if (type.isArray()) {
+            return arrayCodec(type.getComponentType());
+        }
+        if (Collection.class.isAssignableFrom(type)) {
+            return collectionCodec(type, typeArgument(genericType, 0));
+        }
+        if (Map.class.isAssignableFrom(type)) {
+            return mapCodec(type, typeArgument(genericType, 0), typeArgument(genericType, 1));
+        }
+        if (type.isInterface() || Modifier.isAbstract(type.getModifiers()) || type == Object.class
+                || type.getName().startsWith("java.")) {
+            return null;
+        }
+        return new NestedCodec(type);
+    }
+
+    /**
+     * 创建数组的编解码器, 基本数据类型的数组整块读写
+     *
+     * @param componentType 数组的组件类型
+     * @return 返回编解码器, 不支持的组件类型返回 null
+     */
+    private static ValueCodec arrayCodec(Class<?> componentType) {
+        if (componentType == byte.class) {
+            return codec((buffer, value) -> putBytes(buffer, (byte[]) value), BinaryCodec::getBytes);
+        }
+        if (componentType == int.class) {
+            return codec((buffer, value) -> {
+                int[] array = (int[]) value;
+                buffer.putInt(array.length);
+                buffer.asIntBuffer().put(array);
+                buffer.position(buffer.position() + array.length * Integer.BYTES);
+            }, buffer -> {
+                int[] array = new int[getLength(buffer, Integer.BYTES)];
+                buffer.asIntBuffer().get(array);
+                buffer.position(buffer.position() + array.length * Integer.BYTES);
+                return array;
+            });
+        }
+        if (componentType == long.class) {
+            return codec((buffer, value) -> {
+                long[] array = (long[]) value;
+                buffer.putInt(array.length);
+                buffer.asLongBuffer().put(array);
+                buffer.position(buffer.position() + array.length * Long.BYTES);
+            }, buffer -> {
+                long[] array = new long[getLength(buffer, Long.BYTES)];
+                buffer.asLongBuffer().get(array);
+                buffer.position(buffer.position() + array.length * Long.BYTES);
+                return array;
+            });
+        }
+        if (componentType == double.class) {
+            return codec((buffer, value) -> {
+                double[] array = (double[]) value;
+                buffer.putInt(array.length);
+                buffer.asDoubleBuffer().put(array);
+                buffer.position(buffer.position() + array.length * Double.BYTES);
+            }, buffer -> {
+                double[] array = new double[getLength(buffer, Double.BYTES)];
+                buffer.asDoubleBuffer().get(array);
+                buffer.position(buffer.position() + array.length * Double.BYTES);
+                return array;
+            });
+        }
+        if (componentType == float.class) {
+            return codec((buffer, value) -> {
+                float[] array = (float[]) value;
+                buffer.putInt(array.length);
+                buffer.asFloatBuffer().put(array);
+                buffer.position(buffer.position() + array.length * Float.BYTES);
+            }, buffer -> {
+                float[] array = new float[getLength(buffer, Float.BYTES)];
+                buffer.asFloatBuffer().get(array);
+                buffer.position(buffer.position() + array.length * Float.BYTES);
+                return array;
+            });
+        }
+        if (componentType == short.class) {
+            return codec((buffer, value) -> {
+                short[] array = (short[]) value;
+                buffer.putInt(array.length);
+                buffer.asShortBuffer().put(array);
+                buffer.position(buffer.position() + array.length * Short.BYTES);
+            }, buffer -> {
+                short[] array = new short[getLength(buffer, Short.BYTES)];
+                buffer.asShortBuffer().get(array);
+                buffer.position(buffer.position() + array.length * Short.BYTES);
+                return array;
+            });
+        }
+        if (componentType == char.class) {
+            return codec((buffer, value) -> {
+                char[] array = (char[]) value;
+                buffer.putInt(array.length);
+                buffer.asCharBuffer().put(array);
+                buffer.position(buffer.position() + array.length * Character.BYTES);
+            }, buffer -> {
+                char[] array = new char[getLength(buffer, Character.BYTES)];
+                buffer.asCharBuffer().get(array);
+                buffer.position(buffer.position() + array.length * Character.BYTES);
+                return array;
+            });
+        }
+        if (componentType == boolean.class) {
+            return codec((buffer, value) -> {
+                boolean[] array = (boolean[]) value;
+                buffer.putInt(array.length);
+                for (boolean element : array) {
+                    buffer.put((byte) (element ? 1 : 0));
+                }
+            }, buffer -> {
+                boolean[] array = new boolean[getLength(buffer, 1)];
+                for (int i = 0; i < array.length; i++) {
+                    array[i] = buffer.get() != 0;
+                }
+                return array;
+            });
+        }
+        ValueCodec elementCodec = valueCodec(componentType);
+        if (elementCodec == null) {
+            return null;
+        }
+        return codec((buffer, value) -> {
+            Object[] array = (Object[]) value;
+            buffer.putInt(array.length);
+            for (Object element : array) {
+                writeNullable(buffer, elementCodec, element);
+            }
+        }, buffer -> {
+            Object[] array = (Object[]) Array.newInstance(componentType, getLength(buffer, 1));
+            for (int i = 0; i < array.length; i++) {
+                array[i] = readNullable(buffer, elementCodec);
+            }
+            return array;
+        });
+    }
+
+    /**
+     * 创建集合的编解码器
+     *
+     * @param type        集合类型
+     * @param elementType 元素类型
+     * @return 返回编解码器, 不支持的集合或元素类型返回 null
+     */
+    private static ValueCodec collectionCodec(Class<?> type, Type elementType) {
+        ValueCodec elementCodec = valueCodec(elementType);
+        Supplier<Collection<Object>> factory = ConverterRegistry.collectionFactory(type);
+        if (elementCodec == null || factory == null) {
+            return null;
+        }
+        return codec((buffer, value) -> {
+            Collection<?> collection = (Collection<?>) value;
+            buffer.putInt(collection.size());
+            for (Object element : collection) {
+                writeNullable(buffer, elementCodec, element);
+            }
+        }, buffer -> {
+            Collection<Object> collection = factory.get();
+            for (int i = getLength(buffer, 1); i > 0; i--) {
+                collection.add(readNullable(buffer, elementCodec));
+            }
+            return collection;
+        });
+    }
+
+    /**
+     * 创建 Map 的编解码器
+     *
+     * @param type      Map 类型
+     * @param keyType   键的类型
+     * @param valueType 值的类型
+     * @return 返回编解码器, 不支持的 Map、键或值的类型返回 null
+     */
+    private static ValueCodec mapCodec(Class<?> type, Type keyType, Type valueType) {
+        ValueCodec keyCodec = valueCodec(keyType);
+        ValueCodec valueCodec = valueCodec(valueType);
+        Supplier<Map<Object, Object>> factory;
+        if (!type.isInterface() && !Modifier.isAbstract(type.getModifiers())) {
+            factory = (InstanceFactory<Map<Object, Object>>) ClassMetadata.forClass(type)
+                    .get(ConstructorDescriptor.CONSTRUCTOR_SIGNATURE_KEY).find(null);
+        } else if (type.isAssignableFrom(LinkedHashMap.class)) {
+            factory = LinkedHashMap::new;
+        } else if (SortedMap.class.isAssignableFrom(type) && type.isAssignableFrom(TreeMap.class)) {
+            factory = TreeMap::new;
+        } else {
+            factory = null;
+        }
+        if (keyCodec == null || valueCodec == null || factory == null) {
+            return null;
+        }
+        return codec((buffer, value) -> {
+            Map<?, ?> map = (Map<?, ?>) value;
+            buffer.putInt(map.size());
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                writeNullable(buffer, keyCodec, entry.getKey());
+                writeNullable(buffer, valueCodec, entry.getValue());
+            }
+        }, buffer -> {
+            Map<Object, Object> map = factory.get();
+            for (int i = getLength(buffer, 2); i > 0; i--) {
+                Object key = readNullable(buffer, keyCodec);
+                map.put(key, readNullable(buffer, valueCodec));
+            }
+            return map;
+        });
+    }
+
+    /**
+     * 获取泛型类型的参数
+     *
+     * @param genericType 泛型类型
+     * @param index       参数的位置
+     * @return 返回参数类型, 不是泛型类型时返回 Object.class
+     */
+    private static Type typeArgument(Type genericType, int index) {
+        if (genericType instanceof ParameterizedType) {
+            Type[] arguments = ((ParameterizedType) genericType).getActualTypeArguments();
+            if (index < arguments.length) {
+                return arguments[index];
+            }
+        }
+        return Object.class;
+    }
+
+    /**
+     * 创建编解码器
+     *
+     * @param writer 写入值
+     * @param reader 读出值
+     * @return 返回编解码器
+     */
+    private static ValueCodec codec(BiConsumer<ByteBuffer, Object> writer, Function<ByteBuffer, Object> reader) {
+        return new ValueCodec() {
+            @Override
+            public void write(ByteBuffer buffer, Object value) {
+                writer.accept(buffer, value);
+            }
+
+            @Override
+            public Object read(ByteBuffer buffer) {
+                return reader.apply(buffer);
+            }
+        };
+    }
+
+    /**
+     * 写入可为 null 的值, 先写入 1 个字节的 null 标记
+     *
+     * @param buffer 缓冲区
+     * @param codec  值的编解码器
+     * @param value  值
+     */
+    private static void writeNullable(ByteBuffer buffer, ValueCodec codec, Object value) {
+        if (value == null) {
+            buffer.put((byte) 0);
+        } else {
+            buffer.put((byte) 1);
+            codec.write(buffer, value);
+        }
+    }
+
+    /**
+     * 读出由 {@link #writeNullable(ByteBuffer, ValueCodec, Object)} 写入的值
+     *
+     * @param buffer 缓冲区
+     * @param codec  值的编解码器
+     * @return 返回值
+     */
+    private static Object readNullable(ByteBuffer buffer, ValueCodec codec) {
+        return buffer.get() == 0 ? null : codec.read(buffer);
+    }
+
+    /**
+     * 写入字节数组, 先写入长度
+     *
+     * @param buffer 缓冲区
+     * @param bytes  字节数组
+     */
+    private static void putBytes(ByteBuffer buffer, byte[] bytes) {
+        buffer.putInt(bytes.length);
+        buffer.put(bytes);
+    }
+
+    /**
+     * 读出由 {@link #putBytes(ByteBuffer, byte[])} 写入的字节数组
+     *
+     * @param buffer 缓冲区
+     * @return 返回字节数组
+     */
+    private static byte[] getBytes(ByteBuffer buffer) {
+        byte[] bytes = new byte[getLength(buffer, 1)];
+        buffer.get(bytes);
+        return bytes;
+    }
+
+    /**
+     * 读出长度或元素的数量, 并按每个元素至少占用的字节数检查缓冲区的剩余字节是否足够,
+     * 以免损坏的数据在读出元素前就分配过大的数组
+     *
+     * @param buffer       缓冲区
+     * @param elementBytes 每个元素至少占用的字节数, 可为 null 的元素至少占用 1 个字节的标记
+     * @return 返回长度或元素的数量
+     * @throws IllegalArgumentException 长度为负数或超出缓冲区的剩余字节时抛出
+     */
+    private static int getLength(ByteBuffer buffer, int elementBytes) {
+        int length = buffer.getInt();
+        if (length < 0 || length > buffer.remaining() / elementBytes) {
+            throw new IllegalArgumentException("corrupt length " + length + ", only " + buffer.remaining() + " bytes remaining");
+        }
+        return length;
+    }
+
+    /**
+     * 引用类型的值的编解码器, 读写的值不为 null
+     */
+    private interface ValueCodec {
+
+        /**
+         * 将值写入缓冲区
+         *
+         * @param buffer 缓冲区
+         * @param value  值, 不为 null
+         */
+        void write(ByteBuffer buffer, Object value);
+
+        /**
+         * 从缓冲区读出值
+         *
+         * @param buffer 缓冲区
+         * @return 返回值
+         */
+        Object read(ByteBuffer buffer);
+
+    }
+
+    /**
+     * 字段类型本身的编解码器, 首次使用时获取字段类型的 {@link BinaryCodec}, 以支持引用自身类型的字段
+     */
+    private static final class NestedCodec implements ValueCodec {
+
+        /**
+         * 字段类型
+         */
+        private final Class<?> type;
+
+        /**
+         * 字段类型的编解码器
+         */
+        private volatile BinaryCodec<?> codec;
+
+        /**
+         * 构建实例
+         *
+         * @param type 字段类型
+         */
+        NestedCodec(Class<?> type) {
+            this.type = type;
+        }
+
+        @Override
+        public void write(ByteBuffer buffer, Object value) {
+            if (value.getClass() != type) {
+                throw new IllegalArgumentException("can not encode " + value.getClass().getName() + " as " + type.getName());
+            }
+            getCodec().write(value, buffer);
+        }
+
+        @Override
+        public Object read(ByteBuffer buffer) {
+            return getCodec().read(buffer);
+        }
+
+        /**
+         * 获取字段类型的编解码器
+         *
+         * @return 返回编解码器
+         */
+        private BinaryCodec<?> getCodec() {
+            BinaryCodec<?> codec = this.codec;
+            if (codec == null) {
+                this.codec = codec = forClass(type);
+            }
+            return codec;
+        }
+
+    }
+
+    /**
+     * 字段的编解码槽
+     */
+    private abstract static class Slot {
+
+        /**
+         * 字段的 getter 句柄, 基本数据类型的字段为 (Object)基本数据类型, 否则为 (Object)Object
+         */
+        final MethodHandle getter;
+
+        /**
+         * 字段的 setter 句柄, 基本数据类型的字段为 (Object, 基本数据类型)void, 否则为 (Object, Object)void, 记录类为 null
+         */
+        final MethodHandle setter;
+
+        /**
+         * 构建实例
+         *
+         * @param getter 字段的 getter 句柄
+         * @param setter 字段的 setter 句柄, 记录类为 null
+         */
+        Slot(MethodHandle getter, MethodHandle setter) {
+            this.getter = getter;
+            this.setter = setter;
+        }
+
+        /**
+         * 将对象的字段的值写入缓冲区
+         *
+         * @param obj    对象
+         * @param buffer 缓冲区
+         * @throws Throwable 读取字段失败时抛出
+         */
+        abstract void write(Object obj, ByteBuffer buffer) throws Throwable;
+
+        /**
+         * 从缓冲区读出值并写入对象的字段
+         *
+         * @param obj    对象
+         * @param buffer 缓冲区
+         * @throws Throwable 写入字段失败时抛出
+         */
+        abstract void read(Object obj, ByteBuffer buffer) throws Throwable;
+
+        /**
+         * 从缓冲区读出值
+         *
+         * @param buffer 缓冲区
+         * @return 返回值, 基本数据类型返回包装类型
+         */
+        abstract Object readValue(ByteBuffer buffer);
+
+    }
+
+    /**
+     * 引用类型的字段的编解码槽, 先写入 1 个字节的 null 标记, 再由值的编解码器写入值
+     */
+    private static final class ObjectSlot extends Slot {
+
+        /**
+         * 值的编解码器
+         */
+        private final ValueCodec codec;
+
+        /**
+         * 构建实例
+         *
+         * @param getter 字段的 getter 句柄
+         * @param setter 字段的 setter 句柄, 记录类为 null
+         * @param codec  值的编解码器
+         */
+        ObjectSlot(MethodHandle getter, MethodHandle setter, ValueCodec codec) {
+            super(getter.asType(MethodType.methodType(Object.class, Object.class)),
+                    setter != null ? setter.asType(MethodType.methodType(void.class, Object.class, Object.class)) : null);
+            this.codec = codec;
+        }
+
+        @Override
+        void write(Object obj, ByteBuffer buffer) throws Throwable {
+            writeNullable(buffer, codec, (Object) getter.invokeExact(obj));
+        }
+
+        @Override
+        void read(Object obj, ByteBuffer buffer) throws Throwable {
+            setter.invokeExact(obj, readNullable(buffer, codec));
+        }
+
+        @Override
+        Object readValue(ByteBuffer buffer) {
+            return readNullable(buffer, codec);
+        }
+
+    }
+
+    /**
+     * int 类型的字段的编解码槽, 不装箱
+     */
+    private static final class IntSlot extends Slot {
+
+        /**
+         * 构建实例
+         *
+         * @param getter 字段的 getter 句柄, 类型为 (Object)int
+         * @param setter 字段的 setter 句柄, 类型为 (Object, int)void, 记录类为 null
+         */
+        IntSlot(MethodHandle getter, MethodHandle setter) {
+            super(getter, setter);
+        }
+
+        @Override
+        void write(Object obj, ByteBuffer buffer) throws Throwable {
+            buffer.putInt((int) getter.invokeExact(obj));
+        }
+
+        @Override
+        void read(Object obj, ByteBuffer buffer) throws Throwable {
+            setter.invokeExact(obj, buffer.getInt());
+        }
+
+        @Override
+        Object readValue(ByteBuffer buffer) {
+            return buffer.getInt();
+        }
+
+    }
+
+    /**
+     * long 类型的字段的编解码槽, 不装箱
+     */
+    private static final class LongSlot extends Slot {
+
+        /**
+         * 构建实例
+         *
+         * @param getter 字段的 getter 句柄, 类型为 (Object)long
+         * @param setter 字段的 setter 句柄, 类型为 (Object, long)void, 记录类为 null
+         */
+        LongSlot(MethodHandle getter, MethodHandle setter) {
+            super(getter, setter);
+        }
+
+        @Override
+        void write(Object obj, ByteBuffer buffer) throws Throwable {
+            buffer.putLong((long) getter.invokeExact(obj));
+        }
+
+        @Override
+        void read(Object obj, ByteBuffer buffer) throws Throwable {
+            setter.invokeExact(obj, buffer.getLong());
+        }
+
+        @Override
+        Object readValue(ByteBuffer buffer) {
+            return buffer.getLong();
+        }
+
+    }
+
+    /**
+     * double 类型的字段的编解码槽, 不装箱
+     */
+    private static final class DoubleSlot extends Slot {
+
+        /**
+         * 构建实例
+         *
+         * @param getter 字段的 getter 句柄, 类型为 (Object)double
+         * @param setter 字段的 setter 句柄, 类型为 (Object, double)void, 记录类为 null
+         */
+        DoubleSlot(MethodHandle getter, MethodHandle setter) {
+            super(getter, setter);
+        }
+
+        @Override
+        void write(Object obj, ByteBuffer buffer) throws Throwable {
+            buffer.putDouble((double) getter.invokeExact(obj));
+        }
+
+        @Override
+        void read(Object obj, ByteBuffer buffer) throws Throwable {
+            setter.invokeExact(obj, buffer.getDouble());
+        }
+
+        @Override
+        Object readValue(ByteBuffer buffer) {
+            return buffer.getDouble();
+        }
+
+    }
+
+    /**
+     * float 类型的字段的编解码槽, 不装箱
+     */
+    private static final class FloatSlot extends Slot {
+
+        /**
+         * 构建实例
+         *
+         * @param getter 字段的 getter 句柄, 类型为 (Object)float
+         * @param setter 字段的 setter 句柄, 类型为 (Object, float)void, 记录类为 null
+         */
+        FloatSlot(MethodHandle getter, MethodHandle setter) {
+            super(getter, setter);
+        }
+
+        @Override
+        void write(Object obj, ByteBuffer buffer) throws Throwable {
+            buffer.putFloat((float) getter.invokeExact(obj));
+        }
+
+        @Override
+        void read(Object obj, ByteBuffer buffer) throws Throwable {
+            setter.invokeExact(obj, buffer.getFloat());
+        }
+
+        @Override
+        Object readValue(ByteBuffer buffer) {
+            return buffer.getFloat();
+        }
+
+    }
+
+    /**
+     * short 类型的字段的编解码槽, 不装箱
+     */
+    private static final class ShortSlot extends Slot {
+
+        /**
+         * 构建实例
+         *
+         * @param getter 字段的 getter 句柄, 类型为 (Object)short
+         * @param setter 字段的 setter 句柄, 类型为 (Object, short)void, 记录类为 null
+         */
+        ShortSlot(MethodHandle getter, MethodHandle setter) {
+            super(getter, setter);
+        }
+
+        @Override
+        void write(Object obj, ByteBuffer buffer) throws Throwable {
+            buffer.putShort((short) getter.invokeExact(obj));
+        }
+
+        @Override
+        void read(Object obj, ByteBuffer buffer) throws Throwable {
+            setter.invokeExact(obj, buffer.getShort());
+        }
+
+        @Override
+        Object readValue(ByteBuffer buffer) {
+            return buffer.getShort();
+        }
+
+    }
+
+    /**
+     * byte 类型的字段的编解码槽, 不装箱
+     */
+    private static final class ByteSlot extends Slot {
+
+        /**
+         * 构建实例
+         *
+         * @param getter 字段的 getter 句柄, 类型为 (Object)byte
+         * @param setter 字段的 setter 句柄, 类型为 (Object, byte)void, 记录类为 null
+         */
+        ByteSlot(MethodHandle getter, MethodHandle setter) {
+            super(getter, setter);
+        }
+
+        @Override
+        void write(Object obj, ByteBuffer buffer) throws Throwable {
+            buffer.put((byte) getter.invokeExact(obj));
+        }
+
+        @Override
+        void read(Object obj, ByteBuffer buffer) throws Throwable {
+            setter.invokeExact(obj, buffer.get());
+        }
+
+        @Override
+        Object readValue(ByteBuffer buffer) {
+            return buffer.get();
+        }
+
+    }
+
+    /**
+     * char 类型的字段的编解码槽, 不装箱
+     */
+    private static final class CharSlot extends Slot {
+
+        /**
+         * 构建实例
+         *
+         * @param getter 字段的 getter 句柄, 类型为 (Object)char
+         * @param setter 字段的 setter 句柄, 类型为 (Object, char)void, 记录类为 null
+         */
+        CharSlot(MethodHandle getter, MethodHandle setter) {
+            super(getter, setter);
+        }
+
+        @Override
+        void write(Object obj, ByteBuffer buffer) throws Throwable {
+            buffer.putChar((char) getter.invokeExact(obj));
+        }
+
+        @Override
+        void read(Object obj, ByteBuffer buffer) throws Throwable {
+            setter.invokeExact(obj, buffer.getChar());
+        }
+
+        @Override
+        Object readValue(ByteBuffer buffer) {
+            return buffer.getChar();
+        }
+
+    }
+
+    /**
+     * boolean 类型的字段的编解码槽, 以 1 个字节写入
+     */
+    private static final class BooleanSlot extends Slot {
+
+        /**
+         * 构建实例
+         *
+         * @param getter 字段的 getter 句柄, 类型为 (Object)boolean
+         * @param setter 字段的 setter 句柄, 类型为 (Object, boolean)void, 记录类为 null
+         */
+        BooleanSlot(MethodHandle getter, MethodHandle setter) {
+            super(getter, setter);
+        }
+
+        @Override
+        void write(Object obj, ByteBuffer buffer) throws Throwable {
+            buffer.put((byte) ((boolean) getter.invokeExact(obj) ? 1 : 0));
+        }
+
+        @Override
+        void read(Object obj, ByteBuffer buffer) throws Throwable {
+            setter.invokeExact(obj, buffer.get() != 0);
+        }
+
+        @Override
+        Object readValue(ByteBuffer buffer) {
+            return buffer.get() != 0;
+        }
+
+    }
+
+}
@@ -0,0 +1,180 @@
+package org.fanlychie.jreflect;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 一类元数据缓存的统计, 包括命中次数、未命中次数和构建耗时的直方图.
+ * 直方图按微秒划分为 {@link #BUCKETS} 个以 2 为底的指数区间, 第 i 个区间统计耗时在 [2^i, 2^(i+1)) 微秒的构建次数,
+ * 第一个区间同时包括不足 1 微秒的构建, 最后一个区间同时包括更长的构建
+ * Created by fanlychie on 2026/10/16.
+ */
+public final class CacheStats {
+
+    /**
+     * 直方图的区间数量
+     */
+    public static final int BUCKETS = 24;
+
+    /**
+     * 缓存名称
+     */
+    private final String name;
+
+    /**
+     * 命中次数
+     */
+    private final LongAdder hits = new LongAdder();
+
+    /**
+     * 未命中次数
+     */
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * 构建的总耗时, 单位纳秒
+     */
+    private final LongAdder buildNanos = new LongAdder();
+
+    /**
+     * 最长的构建耗时, 单位纳秒
+     */
+    private final LongAccumulator maxBuildNanos = new LongAccumulator(Math::max, 0);
+
+    /**
+     * 构建耗时的直方图
+     */
+    private final LongAdder[] histogram = new LongAdder[BUCKETS];
+
+    /**
+     * 构建实例
+     *
+     * @param name 缓存名称
+     */
+    CacheStats(String name) {
+        this.name = name;
+        for (int i = 0; i < BUCKETS; i++) {
+            histogram[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * 记录一次命中
+     */
+    void hit() {
+        hits.increment();
+    }
+
+    /**
+     * 记录一次未命中
+     */
+    void miss() {
+        misses.increment();
+    }
+
+    /**
+     * 记录一次构建
+     *
+     * @param nanos 构建耗时, 单位纳秒
+     */
+    void build(long nanos) {
+        buildNanos.add(nanos);
+        maxBuildNanos.accumulate(nanos);
+        long micros = nanos / 1000;
+        int bucket = micros == 0 ? 0 : 63 - Long.numberOfLeadingZeros(micros);
+        histogram[Math.min(bucket, BUCKETS - 1)].increment();
+    }
+
+    /**
+     * 清零所有统计
+     */
+    void reset() {
+        hits.reset();
+        misses.reset();
+        buildNanos.reset();
+        maxBuildNanos.reset();
+        for (LongAdder bucket : histogram) {
+            bucket.reset();
+        }
+    }
+
+    /**
+     * 获取缓存名称
+     *
+     * @return 返回缓存名称
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * 获取命中次数
+     *
+     * @return 返回命中次数
+     */
+    public long getHits() {
+        return hits.sum();
+    }
+
+    /**
+     * 获取未命中次数, 每次未命中都会构建一次元数据
+     *
+     * @return 返回未命中次数
+     */
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    /**
+     * 获取命中率
+     *
+     * @return 返回命中率, 没有任何访问时返回 0
+     */
+    public double getHitRate() {
+        long hits = getHits();
+        long total = hits + getMisses();
+        return total == 0 ? 0 : (double) hits / total;
+    }
+
+    /**
+     * 获取构建的总耗时
+     *
+     * @param unit 时间单位
+     * @return 返回构建的总耗时
+     */
+    public long getTotalBuildTime(TimeUnit unit) {
+        return unit.convert(buildNanos.sum(), TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * 获取最长的构建耗时
+     *
+     * @param unit 时间单位
+     * @return 返回最长的构建耗时
+     */
+    public long getMaxBuildTime(TimeUnit unit) {
+        return unit.convert(maxBuildNanos.get(), TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * 获取构建耗时的直方图
+     *
+     * @return 返回各区间的构建次数
+     */
+    public long[] getBuildTimeHistogram() {
+        long[] counts = new long[BUCKETS];
+        for (int i = 0; i < BUCKETS; i++) {
+            counts[i] = histogram[i].sum();
+        }
+        return counts;
+    }
+
+    @Override
+    public String toString() {
+        return "CacheStats{name=" + name + ", hits=" + getHits() + ", misses=" + getMisses()
+                + ", totalBuildTime=" + getTotalBuildTime(TimeUnit.MICROSECONDS) + "us"
+                + ", maxBuildTime=" + getMaxBuildTime(TimeUnit.MICROSECONDS) + "us}";
+    }
+
+}
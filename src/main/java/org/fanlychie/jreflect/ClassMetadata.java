@@ -0,0 +1,448 @@
+package org.fanlychie.jreflect;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Predicate;
+
+/**
+ * 类元数据, 全局共享的类元数据注册表中的条目, 每个 Class 对应一个实例.
+ * 各描述符通过 {@link Key} 在此存取各自的元数据, 命中时不加锁;
+ * 未命中时仅锁定当前类的当前条目进行构建, 不会阻塞其它类的查找和构建.
+ * 由本库的类加载器或其后代加载的类, 条目存放在 {@link ClassValue} 中, 随所属的类一起被回收.
+ * 其它类加载器加载的类(如 JDK 的类、父类加载器的类、无关的插件类加载器的类)不存放在 ClassValue 中,
+ * 否则这些类上的条目会强引用本库的类, 在本库随应用重新部署后仍阻止旧的类加载器被卸载;
+ * 这些条目由本库的静态 Map 持有, 随本库一起被回收, 无关的类加载器被丢弃前应调用 {@link MetadataCache#invalidate(ClassLoader)}.
+ * 注册表只以弱引用跟踪存活的条目, 用于按容量淘汰({@link MetadataCache#setMaximumSize(long)})和按类加载器失效
+ * Created by fanlychie on 2026/10/16.
+ */
+final class ClassMetadata {
+
+    /**
+     * 全局的类元数据注册表
+     */
+    private static final ClassValue<ClassMetadata> REGISTRY = new ClassValue<ClassMetadata>() {
+        @Override
+        protected ClassMetadata computeValue(Class<?> type) {
+            ClassMetadata metadata = new ClassMetadata(type);
+            register(metadata);
+            return metadata;
+        }
+    };
+
+    /**
+     * 本库的类加载器
+     */
+    private static final ClassLoader LOADER = ClassMetadata.class.getClassLoader();
+
+    /**
+     * <类, 条目> Map, 存放不由本库的类加载器或其后代加载的类的条目
+     */
+    private static final ConcurrentMap<Class<?>, ClassMetadata> FOREIGN = new ConcurrentHashMap<>();
+
+    /**
+     * 存活的条目, 条目所属的类被卸载后自动清除
+     */
+    private static final Set<Entry> ENTRIES = ConcurrentHashMap.newKeySet();
+
+    /**
+     * 已被回收的条目的引用队列
+     */
+    private static final ReferenceQueue<ClassMetadata> QUEUE = new ReferenceQueue<>();
+
+    /**
+     * 逻辑时钟, 每创建一个条目或构建一次元数据前进一步, 用于近似地记录条目最近被访问的先后
+     */
+    private static final AtomicLong CLOCK = new AtomicLong();
+
+    /**
+     * 被淘汰或失效的条目的数量
+     */
+    private static final LongAdder EVICTIONS = new LongAdder();
+
+    /**
+     * 淘汰时使用的锁
+     */
+    private static final Object EVICTION_LOCK = new Object();
+
+    /**
+     * 条目的最大数量, 不大于 0 时不限制
+     */
+    static volatile long maximumSize;
+
+    /**
+     * 淘汰策略
+     */
+    static volatile MetadataCache.EvictionPolicy evictionPolicy = MetadataCache.EvictionPolicy.LRU;
+
+    /**
+     * 元数据所属的类
+     */
+    private final Class<?> type;
+
+    /**
+     * <元数据键, 元数据槽> Map
+     */
+    private final ConcurrentMap<Key<?>, Slot> slots = new ConcurrentHashMap<>();
+
+    /**
+     * 开启统计之后构建元数据的总耗时, 单位纳秒
+     */
+    private final LongAdder buildNanos = new LongAdder();
+
+    /**
+     * 注册表跟踪此条目的弱引用
+     */
+    private final Entry entry;
+
+    /**
+     * 最近一次被访问时的逻辑时钟, 只在限制容量时记录
+     */
+    private long lastAccess;
+
+    /**
+     * 被访问的次数, 只在限制容量时记录
+     */
+    private int frequency;
+
+    /**
+     * 构建实例
+     *
+     * @param type 元数据所属的类
+     */
+    private ClassMetadata(Class<?> type) {
+        this.type = type;
+        this.entry = new Entry(this);
+        this.lastAccess = CLOCK.incrementAndGet();
+    }
+
+    /**
+     * 获取参数给定的类的元数据
+     *
+     * @param type 任意的 Class 类型
+     * @return 返回类元数据
+     */
+    static ClassMetadata forClass(Class<?> type) {
+        ClassLoader classLoader = type.getClassLoader();
+        if (classLoader == LOADER) {
+            return REGISTRY.get(type);
+        }
+        ClassMetadata metadata = FOREIGN.get(type);
+        if (metadata != null) {
+            return metadata;
+        }
+        if (isOwnedLoader(classLoader)) {
+            return REGISTRY.get(type);
+        }
+        metadata = new ClassMetadata(type);
+        ClassMetadata existing = FOREIGN.putIfAbsent(type, metadata);
+        if (existing != null) {
+            return existing;
+        }
+        register(metadata);
+        return metadata;
+    }
+
+    /**
+     * 判断类加载器是否为本库的类加载器或其后代, 这样的类加载器加载的类不会比本库存活得更久
+     *
+     * @param classLoader 类加载器
+     * @return 是返回 true, 否则返回 false
+     */
+    private static boolean isOwnedLoader(ClassLoader classLoader) {
+        for (ClassLoader loader = classLoader; loader != null; loader = loader.getParent()) {
+            if (loader == LOADER) {
+                return true;
+            }
+        }
+        return LOADER == null;
+    }
+
+    /**
+     * 跟踪新创建的条目, 超出最大数量时淘汰
+     *
+     * @param metadata 条目
+     */
+    private static void register(ClassMetadata metadata) {
+        expunge();
+        ENTRIES.add(metadata.entry);
+        if (maximumSize > 0 && ENTRIES.size() > maximumSize) {
+            evict(metadata);
+        }
+    }
+
+    /**
+     * 获取元数据, 若尚未构建, 则构建一次并缓存
+     *
+     * @param key 元数据键
+     * @param <V> 元数据类型
+     * @return 返回元数据
+     */
+    <V> V get(Key<V> key) {
+        Slot slot = slots.get(key);
+        if (slot != null) {
+            Object value = slot.value;
+            if (value != null) {
+                if (ReflectionMetrics.enabled) {
+                    key.stats.hit();
+                }
+                if (maximumSize > 0) {
+                    lastAccess = CLOCK.get();
+                    frequency++;
+                }
+                return (V) value;
+            }
+        } else {
+            slot = slots.computeIfAbsent(key, k -> new Slot());
+        }
+        slot.lock();
+        try {
+            boolean enabled = ReflectionMetrics.enabled;
+            Object value = slot.value;
+            if (value == null) {
+                long start = enabled ? System.nanoTime() : 0;
+                value = key.compute(type);
+                if (value == null) {
+                    throw new NullPointerException(key + " computed null for " + type);
+                }
+                slot.value = value;
+                lastAccess = CLOCK.incrementAndGet();
+                if (enabled) {
+                    long nanos = System.nanoTime() - start;
+                    key.stats.miss();
+                    key.stats.build(nanos);
+                    buildNanos.add(nanos);
+                }
+            } else if (enabled) {
+                key.stats.hit();
+            }
+            return (V) value;
+        } finally {
+            slot.unlock();
+        }
+    }
+
+    /**
+     * 预置元数据, 只在元数据尚未构建时生效, 用于从快照等外部来源加载已计算好的元数据
+     *
+     * @param key   元数据键
+     * @param value 元数据, 不能为 null
+     * @param <V>   元数据类型
+     * @return 预置成功返回 true, 元数据已存在返回 false
+     */
+    <V> boolean preset(Key<V> key, V value) {
+        if (value == null) {
+            throw new NullPointerException(key + " preset null for " + type);
+        }
+        Slot slot = slots.computeIfAbsent(key, k -> new Slot());
+        if (slot.value != null) {
+            return false;
+        }
+        slot.lock();
+        try {
+            if (slot.value != null) {
+                return false;
+            }
+            slot.value = value;
+            return true;
+        } finally {
+            slot.unlock();
+        }
+    }
+
+    /**
+     * 获取元数据所属的类
+     *
+     * @return 返回元数据所属的类
+     */
+    Class<?> getType() {
+        return type;
+    }
+
+    /**
+     * 获取开启统计之后构建元数据的总耗时
+     *
+     * @return 返回总耗时, 单位纳秒
+     */
+    long getBuildNanos() {
+        return buildNanos.sum();
+    }
+
+    /**
+     * 获取存活的条目的数量
+     *
+     * @return 返回条目的数量
+     */
+    static int size() {
+        expunge();
+        return ENTRIES.size();
+    }
+
+    /**
+     * 获取存活的条目, 返回的是调用时的副本
+     *
+     * @return 返回存活的条目
+     */
+    static List<ClassMetadata> entries() {
+        expunge();
+        List<ClassMetadata> list = new ArrayList<>(ENTRIES.size());
+        for (Entry entry : ENTRIES) {
+            ClassMetadata metadata = entry.get();
+            if (metadata != null) {
+                list.add(metadata);
+            }
+        }
+        return list;
+    }
+
+    /**
+     * 获取被淘汰或失效的条目的数量
+     *
+     * @return 返回条目的数量
+     */
+    static long evictionCount() {
+        return EVICTIONS.sum();
+    }
+
+    /**
+     * 使所属的类满足条件的条目失效, 失效的类在下次使用时重新内省. 已经持有元数据的描述符不受影响
+     *
+     * @param filter 类的条件
+     */
+    static void invalidate(Predicate<Class<?>> filter) {
+        synchronized (EVICTION_LOCK) {
+            expunge();
+            for (Entry entry : ENTRIES) {
+                ClassMetadata metadata = entry.get();
+                if (metadata != null && filter.test(metadata.type)) {
+                    remove(metadata);
+                }
+            }
+        }
+    }
+
+    /**
+     * 淘汰条目直至不超过最大数量的九成, 一次淘汰一批以分摊排序的开销
+     *
+     * @param keep 不参与淘汰的条目, 可为 null
+     */
+    static void evict(ClassMetadata keep) {
+        synchronized (EVICTION_LOCK) {
+            expunge();
+            long maximumSize = ClassMetadata.maximumSize;
+            if (maximumSize <= 0 || ENTRIES.size() <= maximumSize) {
+                return;
+            }
+            List<ClassMetadata> candidates = new ArrayList<>(ENTRIES.size());
+            for (Entry entry : ENTRIES) {
+                ClassMetadata metadata = entry.get();
+                if (metadata != null && metadata != keep) {
+                    candidates.add(metadata);
+                }
+            }
+            Comparator<ClassMetadata> recency = Comparator.comparingLong(metadata -> metadata.lastAccess);
+            Comparator<ClassMetadata> frequency = Comparator.comparingInt(metadata -> metadata.frequency);
+            candidates.sort(evictionPolicy == MetadataCache.EvictionPolicy.LFU
+                    ? frequency.thenComparing(recency) : recency.thenComparing(frequency));
+            long excess = Math.min(ENTRIES.size() - (maximumSize - maximumSize / 10), candidates.size());
+            for (int i = 0; i < excess; i++) {
+                remove(candidates.get(i));
+            }
+        }
+    }
+
+    /**
+     * 从注册表中移除条目
+     *
+     * @param metadata 条目
+     */
+    private static void remove(ClassMetadata metadata) {
+        if (!FOREIGN.remove(metadata.type, metadata)) {
+            REGISTRY.remove(metadata.type);
+        }
+        if (ENTRIES.remove(metadata.entry)) {
+            EVICTIONS.increment();
+        }
+    }
+
+    /**
+     * 清除已被回收的条目
+     */
+    private static void expunge() {
+        Reference<? extends ClassMetadata> reference;
+        while ((reference = QUEUE.poll()) != null) {
+            ENTRIES.remove(reference);
+        }
+    }
+
+    /**
+     * 元数据键, 负责构建对应的元数据. 需要区分构建参数的键应覆写 equals 和 hashCode
+     *
+     * @param <V> 元数据类型
+     */
+    abstract static class Key<V> {
+
+        /**
+         * 同一名称的键共享的缓存统计
+         */
+        private final CacheStats stats;
+
+        /**
+         * 构建实例
+         *
+         * @param name 缓存名称, 用于统计
+         */
+        Key(String name) {
+            this.stats = ReflectionMetrics.cacheStats(name);
+        }
+
+        /**
+         * 构建元数据
+         *
+         * @param type 元数据所属的类
+         * @return 返回构建的元数据, 不能为 null
+         */
+        abstract V compute(Class<?> type);
+
+    }
+
+    /**
+     * 注册表跟踪条目的弱引用
+     */
+    private static final class Entry extends WeakReference<ClassMetadata> {
+
+        /**
+         * 构建实例
+         *
+         * @param metadata 条目
+         */
+        private Entry(ClassMetadata metadata) {
+            super(metadata, QUEUE);
+        }
+
+    }
+
+    /**
+     * 元数据槽, 锁只在构建时使用
+     */
+    private static final class Slot extends ReentrantLock {
+
+        private static final long serialVersionUID = 1L;
+
+        /**
+         * 已构建的元数据
+         */
+        private volatile Object value;
+
+    }
+
+}
@@ -1,12 +1,8 @@
 package org.fanlychie.jreflect;
 
-import org.fanlychie.jreflect.exception.ReflectionCastException;
 import org.fanlychie.jreflect.util.MethodSignatureUtils;
 
 import java.lang.reflect.Constructor;
-import java.lang.reflect.InvocationTargetException;
-import java.util.HashMap;
-import java.util.Map;
 
 /**
  * 构造器描述符, 提供全局的操作类的构造器的方法
@@ -20,14 +16,24 @@ public class ConstructorDescriptor<T> {
     private Class<T> pojoClass;
 
     /**
-     * 构造器签名对照表
+     * 构造器签名组
      */
-    private Map<String, Constructor<?>> constructorSignature;
+    private SignatureGroup<InstanceFactory<?>> constructorSignature;
 
     /**
-     * 内存缓存
+     * 无参构造器的实例工厂, 类没有声明无参构造器时为 null
      */
-    private static final Map<Class<?>, Map<String, Constructor<?>>> CLASS_CONSTRUCTOR_DESCRIPTOR_CACHE = new HashMap<>();
+    private InstanceFactory<T> noArgFactory;
+
+    /**
+     * 构造器签名组在类元数据中的键
+     */
+    static final ClassMetadata.Key<SignatureGroup<InstanceFactory<?>>> CONSTRUCTOR_SIGNATURE_KEY = new ClassMetadata.Key<SignatureGroup<InstanceFactory<?>>>("ConstructorDescriptor") {
+        @Override
+        SignatureGroup<InstanceFactory<?>> compute(Class<?> type) {
+            return toConstructorSignature(type, type.getDeclaredConstructors());
+        }
+    };
 
     /**
      * 构建实例
@@ -40,39 +46,51 @@ public class ConstructorDescriptor<T> {
     }
 
     /**
-     * 创建实例
+     * 创建实例. 参数值的类型与构造器的参数类型不完全一致时, 按与 Java 编译器相近的规则选择最具体的构造器,
+     * 支持传入参数类型的子类型、null 和可变参数, 选择的结果按参数值的类型元组缓存
      *
      * @param argValues 构造器参数的值列表
      * @return 返回创建的实例对象
      */
     public T newInstance(Object... argValues) {
-        String signature = MethodSignatureUtils.hashCodeString(null, argValues);
-        Constructor<T> constructor = (Constructor<T>) constructorSignature.get(signature);
-        if (constructor == null) {
+        if (noArgFactory != null && (argValues == null || argValues.length == 0)) {
+            return noArgFactory.get();
+        }
+        SignatureGroup.Entry<InstanceFactory<?>> entry = constructorSignature.lookup(argValues);
+        if (entry == null) {
             throw MethodSignatureUtils.methodOperationException(pojoClass.getSimpleName(), argValues);
         }
-        try {
-            return constructor.newInstance(argValues);
-        } catch (InstantiationException | IllegalAccessException | InvocationTargetException e) {
-            throw new ReflectionCastException(e);
+        return (T) entry.getMember().newInstance(entry.arguments(argValues));
+    }
+
+    /**
+     * 获取实例工厂, 调用方可持有返回的工厂, 重复创建实例时无需再查找构造器.
+     * 无参构造器的工厂可作为 Supplier 使用, 有参构造器的工厂可作为 Function 使用
+     *
+     * @param parameterTypes 构造器参数的类型列表
+     * @return 返回实例工厂
+     */
+    public InstanceFactory<T> getInstanceFactory(Class<?>... parameterTypes) {
+        InstanceFactory<T> factory = (InstanceFactory<T>) constructorSignature.find(parameterTypes);
+        if (factory == null) {
+            throw MethodSignatureUtils.methodOperationException(pojoClass.getSimpleName(), parameterTypes);
         }
+        return factory;
     }
 
     /**
-     * 获取类声明的构造器
+     * 构建类的构造器签名组
      *
-     * @return 返回类声明的构造器参数签名对照表
+     * @param pojoClass    任意的 Class 类型
+     * @param constructors 类声明的构造器
+     * @return 返回类声明的构造器签名组
      */
-    private Map<String, Constructor<?>> getDeclaredConstructors() {
-        Map<String, Constructor<?>> constructorSignature = new HashMap<>();
-        Constructor<?>[] constructors = pojoClass.getDeclaredConstructors();
+    static SignatureGroup<InstanceFactory<?>> toConstructorSignature(Class<?> pojoClass, Constructor<?>[] constructors) {
+        SignatureGroup<InstanceFactory<?>> constructorSignature = new SignatureGroup<>(pojoClass.getSimpleName(), pojoClass.getClassLoader());
         if (constructors != null) {
             for (Constructor<?> constructor : constructors) {
-                String signature = MethodSignatureUtils.hashCodeString(null, constructor.getParameterTypes());
-                if (!constructorSignature.containsKey(signature)) {
-                    constructor.setAccessible(true);
-                    constructorSignature.put(signature, constructor);
-                }
+                constructor.setAccessible(true);
+                constructorSignature.add(constructor.getParameterTypes(), constructor.isVarArgs(), new InstanceFactory<>(constructor));
             }
         }
         return constructorSignature;
@@ -82,13 +100,8 @@ public class ConstructorDescriptor<T> {
      * 预处理, 检查是否已经缓存, 若没有, 则进行初始化并加载到内存缓存
      */
     private void preHandle() {
-        synchronized (CLASS_CONSTRUCTOR_DESCRIPTOR_CACHE) {
-            constructorSignature = CLASS_CONSTRUCTOR_DESCRIPTOR_CACHE.get(pojoClass);
-            if (constructorSignature == null) {
-                constructorSignature = getDeclaredConstructors();
-                CLASS_CONSTRUCTOR_DESCRIPTOR_CACHE.put(pojoClass, constructorSignature);
-            }
-        }
+        constructorSignature = ClassMetadata.forClass(pojoClass).get(CONSTRUCTOR_SIGNATURE_KEY);
+        noArgFactory = (InstanceFactory<T>) constructorSignature.find(null);
     }
 
 }
\ No newline at end of file
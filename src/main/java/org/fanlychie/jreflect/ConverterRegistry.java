@@ -0,0 +1,681 @@
+package org.fanlychie.jreflect;
+
+import org.fanlychie.jreflect.exception.ReflectionCastException;
+import org.fanlychie.jreflect.util.PrimitiveWrapperTypeUtils;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Array;
+import java.lang.reflect.GenericArrayType;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.lang.reflect.TypeVariable;
+import java.lang.reflect.WildcardType;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Supplier;
+
+/**
+ * 类型转换器注册表, 按 (源类型, 目标类型) 选择转换器, 转换时直接调用选中的转换器, 不再逐次判断类型.
+ * 注册表本身不缓存选择的结果, 以免全局地持有调用方的类; 选择的结果由调用方持有的转换器缓存,
+ * 如 {@link #forTargetType(Type)} 返回的转换器和 {@link BeanMapper} 中每个属性的转换器.
+ * 内置的转换包括:
+ * 1. 数值类型(包括基本数据类型、BigInteger、BigDecimal)之间的转换, 收窄时检查范围和小数部分, 超出目标类型的范围或丢失小数部分时
+ *    抛出 IllegalArgumentException, 转换为浮点数时只允许舍入精度;
+ * 2. 字符串与数值、Boolean、Character、枚举、UUID、java.time 中提供 parse 方法的类型之间的转换, CharSequence、数值、
+ *    Character、Boolean、枚举(按名称)、UUID 和 java.time 中的类型转换为字符串, 其它类型(如 Date)须注册转换器才能转换为字符串,
+ *    字符串转换为 Boolean 只接受忽略大小写的 "true" 和 "false", 其它字符串抛出 IllegalArgumentException;
+ * 3. 数值(序数)转换为枚举, 数值转换为 Boolean(非 0 为 true);
+ * 4. java.util.Date 与 java.time 的时间类型之间的转换, 数值(毫秒数)转换为 Instant 和 Date, 按系统默认时区;
+ * 5. 数组、集合转换为数组或集合, 元素按目标的元素类型(数组的组件类型或集合的泛型参数)逐个转换, 指定了元素类型的集合总是复制.
+ * 注册的转换器优先于内置的转换, 源类型为其子类的值同样适用. 转换器应在首次转换前注册, 已选中的转换器不会被替换
+ * Created by fanlychie on 2026/10/16.
+ */
+public final class ConverterRegistry {
+
+    /**
+     * 不转换的转换器, 值的类型已与目标类型匹配时使用
+     */
+    private static final TypeConverter<Object, Object> IDENTITY = value -> value;
+
+    /**
+     * 注册的转换器, 后注册的排在前面
+     */
+    private static final List<Registration> REGISTRATIONS = new CopyOnWriteArrayList<>();
+
+    /**
+     * 私有化构造器
+     */
+    private ConverterRegistry() {
+
+    }
+
+    /**
+     * 注册转换器, 同一对类型后注册的优先
+     *
+     * @param sourceType 源类型
+     * @param targetType 目标类型
+     * @param converter  转换器
+     * @param <S>        源类型
+     * @param <T>        目标类型
+     */
+    public static <S, T> void register(Class<S> sourceType, Class<T> targetType, TypeConverter<? super S, ? extends T> converter) {
+        Objects.requireNonNull(sourceType);
+        Objects.requireNonNull(targetType);
+        Objects.requireNonNull(converter);
+        REGISTRATIONS.add(0, new Registration(sourceType, wrap(targetType), (TypeConverter<Object, Object>) converter));
+    }
+
+    /**
+     * 获取 (源类型, 目标类型) 的转换器, 每次调用都重新选择, 调用方应持有返回的转换器重复使用
+     *
+     * @param sourceType 源类型, 即值的实际类型
+     * @param targetType 目标类型, 集合类型可通过泛型参数指定元素类型
+     * @return 返回转换器, 不能转换时返回 null
+     */
+    public static TypeConverter<Object, Object> getConverter(Class<?> sourceType, Type targetType) {
+        return resolve(sourceType, targetType);
+    }
+
+    /**
+     * 获取转换为目标类型的转换器, 按值的实际类型选择转换器, 并缓存最近一次选择的结果, 值的类型不变时直接调用.
+     * 返回的转换器将 null 原样返回, 无法转换的值也原样返回, 由使用方按类型不匹配处理
+     *
+     * @param targetType 目标类型, 集合类型可通过泛型参数指定元素类型
+     * @return 返回转换器
+     */
+    public static TypeConverter<Object, Object> forTargetType(Type targetType) {
+        return new TargetConverter(targetType);
+    }
+
+    /**
+     * 将值转换为目标类型, 每次调用都重新选择转换器, 频繁转换同一目标类型时使用 {@link #forTargetType(Type)}
+     *
+     * @param value      值
+     * @param targetType 目标类型
+     * @param <T>        目标类型
+     * @return 返回转换后的值, 若值为 null, 则返回 null
+     * @throws IllegalArgumentException 值不能转换为目标类型时抛出
+     */
+    public static <T> T convert(Object value, Class<T> targetType) {
+        if (value == null) {
+            return null;
+        }
+        TypeConverter<Object, Object> converter = getConverter(value.getClass(), targetType);
+        if (converter == null) {
+            throw new IllegalArgumentException("can not convert " + value.getClass().getName() + " to " + targetType.getName());
+        }
+        return (T) converter.convert(value);
+    }
+
+    /**
+     * 选择转换器
+     *
+     * @param sourceType 源类型
+     * @param targetType 目标类型
+     * @return 返回转换器, 不能转换时返回 null
+     */
+    private static TypeConverter<Object, Object> resolve(Class<?> sourceType, Type targetType) {
+        Class<?> type = wrap(rawType(targetType));
+        Type elementType = elementType(targetType);
+        if (type.isAssignableFrom(sourceType) && (type.isArray() || elementType == Object.class)) {
+            return IDENTITY;
+        }
+        for (Registration registration : REGISTRATIONS) {
+            if (registration.targetType == type && registration.sourceType.isAssignableFrom(sourceType)) {
+                return registration.converter;
+            }
+        }
+        if (elementType != Object.class || type.isArray() || Collection.class.isAssignableFrom(type)) {
+            return resolveContainer(sourceType, type, elementType);
+        }
+        if (type == String.class) {
+            if (Enum.class.isAssignableFrom(sourceType)) {
+                return value -> ((Enum<?>) value).name();
+            }
+            return hasTextForm(sourceType) ? Object::toString : null;
+        }
+        if (sourceType == String.class) {
+            return resolveString(type);
+        }
+        if (Number.class.isAssignableFrom(sourceType)) {
+            return resolveNumber(sourceType, type);
+        }
+        if (Date.class.isAssignableFrom(sourceType)) {
+            TypeConverter<Object, Object> converter = resolveInstant(type);
+            return converter != null ? value -> converter.convert(Instant.ofEpochMilli(((Date) value).getTime())) : null;
+        }
+        if (type == Date.class) {
+            if (sourceType == Instant.class) {
+                return value -> Date.from((Instant) value);
+            }
+            if (sourceType == LocalDateTime.class) {
+                return value -> Date.from(((LocalDateTime) value).atZone(ZoneId.systemDefault()).toInstant());
+            }
+            if (sourceType == LocalDate.class) {
+                return value -> Date.from(((LocalDate) value).atStartOfDay(ZoneId.systemDefault()).toInstant());
+            }
+            if (sourceType == ZonedDateTime.class) {
+                return value -> Date.from(((ZonedDateTime) value).toInstant());
+            }
+            if (sourceType == OffsetDateTime.class) {
+                return value -> Date.from(((OffsetDateTime) value).toInstant());
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 判断类型的 toString 是否为可以转换回来的文本形式, 只有这些类型可以不注册转换器直接转换为字符串
+     *
+     * @param sourceType 源类型
+     * @return 是返回 true, 否则返回 false
+     */
+    private static boolean hasTextForm(Class<?> sourceType) {
+        return CharSequence.class.isAssignableFrom(sourceType) || Number.class.isAssignableFrom(sourceType)
+                || sourceType == Character.class || sourceType == Boolean.class || sourceType == UUID.class
+                || sourceType.getName().startsWith("java.time.");
+    }
+
+    /**
+     * 选择字符串的转换器
+     *
+     * @param type 目标类型, 已转换为包装类型
+     * @return 返回转换器, 不能转换时返回 null
+     */
+    private static TypeConverter<Object, Object> resolveString(Class<?> type) {
+        if (type == Integer.class) {
+            return value -> Integer.valueOf(((String) value).trim());
+        }
+        if (type == Long.class) {
+            return value -> Long.valueOf(((String) value).trim());
+        }
+        if (type == Double.class) {
+            return value -> Double.valueOf(((String) value).trim());
+        }
+        if (type == Float.class) {
+            return value -> Float.valueOf(((String) value).trim());
+        }
+        if (type == Short.class) {
+            return value -> Short.valueOf(((String) value).trim());
+        }
+        if (type == Byte.class) {
+            return value -> Byte.valueOf(((String) value).trim());
+        }
+        if (type == BigDecimal.class) {
+            return value -> new BigDecimal(((String) value).trim());
+        }
+        if (type == BigInteger.class) {
+            return value -> new BigInteger(((String) value).trim());
+        }
+        if (type == Boolean.class) {
+            return value -> {
+                String string = ((String) value).trim();
+                if ("true".equalsIgnoreCase(string)) {
+                    return Boolean.TRUE;
+                }
+                if ("false".equalsIgnoreCase(string)) {
+                    return Boolean.FALSE;
+                }
+                throw new IllegalArgumentException("can not convert \"" + value + "\" to boolean");
+            };
+        }
+        if (type == Character.class) {
+            return value -> {
+                String string = (String) value;
+                if (string.length() != 1) {
+                    throw new IllegalArgumentException("can not convert \"" + string + "\" to char");
+                }
+                return string.charAt(0);
+            };
+        }
+        if (type.isEnum()) {
+            Map<String, Object> constants = new HashMap<>();
+            for (Object constant : type.getEnumConstants()) {
+                constants.put(((Enum<?>) constant).name(), constant);
+            }
+            return value -> {
+                String name = ((String) value).trim();
+                Object constant = constants.get(name);
+                if (constant == null) {
+                    throw new IllegalArgumentException("No enum constant " + type.getName() + "." + name);
+                }
+                return constant;
+            };
+        }
+        if (type == UUID.class) {
+            return value -> UUID.fromString(((String) value).trim());
+        }
+        if (type.getName().startsWith("java.time.")) {
+            MethodHandle parse;
+            try {
+                parse = MethodHandles.publicLookup().findStatic(type, "parse", MethodType.methodType(type, CharSequence.class))
+                        .asType(MethodType.methodType(Object.class, Object.class));
+            } catch (NoSuchMethodException | IllegalAccessException e) {
+                return null;
+            }
+            return value -> {
+                try {
+                    return parse.invokeExact(value);
+                } catch (RuntimeException | Error e) {
+                    throw e;
+                } catch (Throwable e) {
+                    throw new ReflectionCastException(e);
+                }
+            };
+        }
+        return null;
+    }
+
+    /**
+     * 选择数值的转换器
+     *
+     * @param sourceType 源类型, 数值类型
+     * @param type       目标类型, 已转换为包装类型
+     * @return 返回转换器, 不能转换时返回 null
+     */
+    private static TypeConverter<Object, Object> resolveNumber(Class<?> sourceType, Class<?> type) {
+        if (type == Integer.class) {
+            return value -> (int) longValueExact(value, type, Integer.MIN_VALUE, Integer.MAX_VALUE);
+        }
+        if (type == Long.class) {
+            return value -> longValueExact(value, type, Long.MIN_VALUE, Long.MAX_VALUE);
+        }
+        if (type == Double.class) {
+            boolean bounded = sourceType != BigDecimal.class && sourceType != BigInteger.class;
+            return value -> {
+                double number = ((Number) value).doubleValue();
+                if (!bounded && Double.isInfinite(number)) {
+                    throw lossyConversion(value, type);
+                }
+                return number;
+            };
+        }
+        if (type == Float.class) {
+            return value -> {
+                float number = ((Number) value).floatValue();
+                if (Float.isInfinite(number) && !Double.isInfinite(((Number) value).doubleValue())) {
+                    throw lossyConversion(value, type);
+                }
+                return number;
+            };
+        }
+        if (type == Short.class) {
+            return value -> (short) longValueExact(value, type, Short.MIN_VALUE, Short.MAX_VALUE);
+        }
+        if (type == Byte.class) {
+            return value -> (byte) longValueExact(value, type, Byte.MIN_VALUE, Byte.MAX_VALUE);
+        }
+        if (type == BigDecimal.class) {
+            if (sourceType == BigInteger.class) {
+                return value -> new BigDecimal((BigInteger) value);
+            }
+            if (sourceType == Double.class || sourceType == Float.class) {
+                return value -> {
+                    try {
+                        return BigDecimal.valueOf(((Number) value).doubleValue());
+                    } catch (NumberFormatException e) {
+                        throw lossyConversion(value, type);
+                    }
+                };
+            }
+            return value -> new BigDecimal(value.toString());
+        }
+        if (type == BigInteger.class) {
+            if (sourceType == BigDecimal.class || sourceType == Double.class || sourceType == Float.class) {
+                return value -> {
+                    try {
+                        BigDecimal decimal = value instanceof BigDecimal ? (BigDecimal) value
+                                : BigDecimal.valueOf(((Number) value).doubleValue());
+                        return decimal.toBigIntegerExact();
+                    } catch (ArithmeticException | NumberFormatException e) {
+                        throw lossyConversion(value, type);
+                    }
+                };
+            }
+            return value -> BigInteger.valueOf(longValueExact(value, type, Long.MIN_VALUE, Long.MAX_VALUE));
+        }
+        if (type == Boolean.class) {
+            return value -> ((Number) value).doubleValue() != 0;
+        }
+        if (type.isEnum()) {
+            Object[] constants = type.getEnumConstants();
+            return value -> {
+                int ordinal = (int) longValueExact(value, type, Integer.MIN_VALUE, Integer.MAX_VALUE);
+                if (ordinal < 0 || ordinal >= constants.length) {
+                    throw new IllegalArgumentException("no " + type.getName() + " constant with ordinal " + ordinal);
+                }
+                return constants[ordinal];
+            };
+        }
+        if (type == Date.class) {
+            return value -> new Date(longValueExact(value, type, Long.MIN_VALUE, Long.MAX_VALUE));
+        }
+        if (type == Instant.class) {
+            return value -> Instant.ofEpochMilli(longValueExact(value, type, Long.MIN_VALUE, Long.MAX_VALUE));
+        }
+        return null;
+    }
+
+    /**
+     * 将数值转换为整数, 数值有小数部分或超出参数给定的范围时抛出异常
+     *
+     * @param value 数值
+     * @param type  目标类型, 用于异常信息
+     * @param min   允许的最小值
+     * @param max   允许的最大值
+     * @return 返回转换后的整数
+     * @throws IllegalArgumentException 转换会丢失数值时抛出
+     */
+    private static long longValueExact(Object value, Class<?> type, long min, long max) {
+        long number;
+        try {
+            if (value instanceof BigDecimal) {
+                number = ((BigDecimal) value).longValueExact();
+            } else if (value instanceof BigInteger) {
+                number = ((BigInteger) value).longValueExact();
+            } else if (value instanceof Double || value instanceof Float) {
+                double real = ((Number) value).doubleValue();
+                if (!(real >= -0x1p63 && real < 0x1p63) || real != Math.floor(real)) {
+                    throw lossyConversion(value, type);
+                }
+                number = (long) real;
+            } else {
+                number = ((Number) value).longValue();
+            }
+        } catch (ArithmeticException e) {
+            throw lossyConversion(value, type);
+        }
+        if (number < min || number > max) {
+            throw lossyConversion(value, type);
+        }
+        return number;
+    }
+
+    /**
+     * 创建数值转换会丢失数值的异常
+     *
+     * @param value 数值
+     * @param type  目标类型
+     * @return 返回异常对象
+     */
+    private static IllegalArgumentException lossyConversion(Object value, Class<?> type) {
+        return new IllegalArgumentException("can not convert " + value + " (" + value.getClass().getName() + ") to "
+                + type.getName() + " without loss");
+    }
+
+    /**
+     * 选择时间点的转换器
+     *
+     * @param type 目标类型
+     * @return 返回以 Instant 为参数的转换器, 不能转换时返回 null
+     */
+    private static TypeConverter<Object, Object> resolveInstant(Class<?> type) {
+        if (type == Instant.class) {
+            return IDENTITY;
+        }
+        if (type == LocalDateTime.class) {
+            return value -> LocalDateTime.ofInstant((Instant) value, ZoneId.systemDefault());
+        }
+        if (type == LocalDate.class) {
+            return value -> LocalDateTime.ofInstant((Instant) value, ZoneId.systemDefault()).toLocalDate();
+        }
+        if (type == LocalTime.class) {
+            return value -> LocalDateTime.ofInstant((Instant) value, ZoneId.systemDefault()).toLocalTime();
+        }
+        if (type == ZonedDateTime.class) {
+            return value -> ZonedDateTime.ofInstant((Instant) value, ZoneId.systemDefault());
+        }
+        if (type == OffsetDateTime.class) {
+            return value -> OffsetDateTime.ofInstant((Instant) value, ZoneId.systemDefault());
+        }
+        return null;
+    }
+
+    /**
+     * 选择数组或集合的转换器, 源类型必须为数组或集合
+     *
+     * @param sourceType  源类型
+     * @param type        目标类型, 数组或集合
+     * @param elementType 目标的元素类型
+     * @return 返回转换器, 不能转换时返回 null
+     */
+    private static TypeConverter<Object, Object> resolveContainer(Class<?> sourceType, Class<?> type, Type elementType) {
+        if (!sourceType.isArray() && !Collection.class.isAssignableFrom(sourceType)) {
+            return null;
+        }
+        TypeConverter<Object, Object> elementConverter = forTargetType(elementType);
+        if (type.isArray()) {
+            Class<?> componentType = type.getComponentType();
+            return value -> {
+                Object[] elements = toArray(value);
+                Object array = Array.newInstance(componentType, elements.length);
+                for (int i = 0; i < elements.length; i++) {
+                    Array.set(array, i, elementConverter.convert(elements[i]));
+                }
+                return array;
+            };
+        }
+        Supplier<Collection<Object>> factory = collectionFactory(type);
+        if (factory == null) {
+            return null;
+        }
+        return value -> {
+            Collection<Object> collection = factory.get();
+            for (Object element : toArray(value)) {
+                collection.add(elementConverter.convert(element));
+            }
+            return collection;
+        };
+    }
+
+    /**
+     * 获取创建集合的工厂, 接口和抽象类按常用的实现类创建
+     *
+     * @param type 集合类型
+     * @return 返回集合工厂, 不能创建时返回 null
+     */
+    static Supplier<Collection<Object>> collectionFactory(Class<?> type) {
+        if (type.isInterface() || Modifier.isAbstract(type.getModifiers())) {
+            if (type.isAssignableFrom(ArrayList.class)) {
+                return ArrayList::new;
+            }
+            if (type.isAssignableFrom(LinkedHashSet.class)) {
+                return LinkedHashSet::new;
+            }
+            if (type.isAssignableFrom(TreeSet.class)) {
+                return TreeSet::new;
+            }
+            if (type.isAssignableFrom(ArrayDeque.class)) {
+                return ArrayDeque::new;
+            }
+            return null;
+        }
+        return (InstanceFactory<Collection<Object>>) ClassMetadata.forClass(type)
+                .get(ConstructorDescriptor.CONSTRUCTOR_SIGNATURE_KEY).find(null);
+    }
+
+    /**
+     * 将数组或集合转换为对象数组
+     *
+     * @param value 数组或集合
+     * @return 返回对象数组
+     */
+    private static Object[] toArray(Object value) {
+        if (value instanceof Collection) {
+            return ((Collection<?>) value).toArray();
+        }
+        if (value instanceof Object[]) {
+            return (Object[]) value;
+        }
+        Object[] elements = new Object[Array.getLength(value)];
+        for (int i = 0; i < elements.length; i++) {
+            elements[i] = Array.get(value, i);
+        }
+        return elements;
+    }
+
+    /**
+     * 获取类型的原始类型
+     *
+     * @param type 类型
+     * @return 返回原始类型
+     */
+    static Class<?> rawType(Type type) {
+        if (type instanceof Class) {
+            return (Class<?>) type;
+        }
+        if (type instanceof ParameterizedType) {
+            return rawType(((ParameterizedType) type).getRawType());
+        }
+        if (type instanceof GenericArrayType) {
+            return Array.newInstance(rawType(((GenericArrayType) type).getGenericComponentType()), 0).getClass();
+        }
+        if (type instanceof TypeVariable) {
+            return rawType(((TypeVariable<?>) type).getBounds()[0]);
+        }
+        if (type instanceof WildcardType) {
+            return rawType(((WildcardType) type).getUpperBounds()[0]);
+        }
+        return Object.class;
+    }
+
+    /**
+     * 获取数组或集合类型的元素类型
+     *
+     * @param type 类型
+     * @return 返回元素类型, 不是数组或集合, 或没有指定元素类型时返回 Object.class
+     */
+    private static Type elementType(Type type) {
+        if (type instanceof Class) {
+            Class<?> componentType = ((Class<?>) type).getComponentType();
+            return componentType != null ? componentType : Object.class;
+        }
+        if (type instanceof GenericArrayType) {
+            return ((GenericArrayType) type).getGenericComponentType();
+        }
+        if (type instanceof ParameterizedType && Collection.class.isAssignableFrom(rawType(type))) {
+            Type[] arguments = ((ParameterizedType) type).getActualTypeArguments();
+            if (arguments.length == 1 && rawType(arguments[0]) != Object.class) {
+                return arguments[0];
+            }
+        }
+        return Object.class;
+    }
+
+    /**
+     * 获取基本数据类型的包装类型
+     *
+     * @param type 类型
+     * @return 基本数据类型返回其包装类型, 否则返回类型本身
+     */
+    private static Class<?> wrap(Class<?> type) {
+        return type.isPrimitive() ? PrimitiveWrapperTypeUtils.getWrapperType(type) : type;
+    }
+
+    /**
+     * 转换为目标类型的转换器, 按值的实际类型选择具体的转换器, 并缓存最近一次选择的结果
+     */
+    private static final class TargetConverter implements TypeConverter<Object, Object> {
+
+        /**
+         * 目标类型
+         */
+        private final Type targetType;
+
+        /**
+         * 最近一次选择的结果
+         */
+        private volatile Binding binding;
+
+        TargetConverter(Type targetType) {
+            this.targetType = targetType;
+        }
+
+        @Override
+        public Object convert(Object value) {
+            if (value == null) {
+                return null;
+            }
+            Class<?> sourceType = value.getClass();
+            Binding binding = this.binding;
+            if (binding == null || binding.sourceType != sourceType) {
+                this.binding = binding = new Binding(sourceType, getConverter(sourceType, targetType));
+            }
+            return binding.converter != null ? binding.converter.convert(value) : value;
+        }
+
+    }
+
+    /**
+     * 源类型与选中的转换器
+     */
+    private static final class Binding {
+
+        /**
+         * 源类型
+         */
+        private final Class<?> sourceType;
+
+        /**
+         * 转换器, 不能转换时为 null
+         */
+        private final TypeConverter<Object, Object> converter;
+
+        Binding(Class<?> sourceType, TypeConverter<Object, Object> converter) {
+            this.sourceType = sourceType;
+            this.converter = converter;
+        }
+
+    }
+
+    /**
+     * 注册的转换器
+     */
+    private static final class Registration {
+
+        /**
+         * 源类型
+         */
+        private final Class<?> sourceType;
+
+        /**
+         * 目标类型
+         */
+        private final Class<?> targetType;
+
+        /**
+         * 转换器
+         */
+        private final TypeConverter<Object, Object> converter;
+
+        Registration(Class<?> sourceType, Class<?> targetType, TypeConverter<Object, Object> converter) {
+            this.sourceType = sourceType;
+            this.targetType = targetType;
+            this.converter = converter;
+        }
+
+    }
+
+}
@@ -0,0 +1,729 @@
+package org.fanlychie.jreflect;
+
+import org.fanlychie.jreflect.exception.FieldOperationException;
+import org.fanlychie.jreflect.exception.ReflectionCastException;
+import org.fanlychie.jreflect.util.PrimitiveWrapperTypeUtils;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.invoke.VarHandle;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+
+/**
+ * 属性访问器, 将属性对象一次性转换为 MethodHandle, 之后的读写不再经过反射的访问检查.
+ * 基本数据类型的属性可通过 getInt/setInt 等方法读写, 读写过程不创建包装类型对象.
+ * 需要内存顺序或原子操作时, 可通过基于 {@link VarHandle} 的 getVolatile/setRelease/compareAndSet/getAndAdd 等方法读写,
+ * VarHandle 在首次使用时解析, 之后随访问器缓存, 可代替 AtomicXxxFieldUpdater 参与无锁算法
+ * Created by fanlychie on 2026/10/16.
+ */
+public final class FieldAccessor {
+
+    /**
+     * 属性对象
+     */
+    private final Field field;
+
+    /**
+     * Getter 句柄, 类型为 (Object)Object
+     */
+    private final MethodHandle getter;
+
+    /**
+     * Setter 句柄, 类型为 (Object, Object)void, 属性不允许写时为 null
+     */
+    private final MethodHandle setter;
+
+    /**
+     * 基本数据类型属性对应的包装类型, 非基本数据类型属性为 null
+     */
+    private final Class<?> wrapperType;
+
+    /**
+     * 基本数据类型属性的 Getter 句柄, 类型为 (Object)属性类型, 非基本数据类型属性为 null
+     */
+    private final MethodHandle primitiveGetter;
+
+    /**
+     * 基本数据类型属性的 Setter 句柄, 类型为 (Object, 属性类型)void, 非基本数据类型属性或属性不允许写时为 null
+     */
+    private final MethodHandle primitiveSetter;
+
+    /**
+     * 创建 Setter 句柄时的异常, 属性允许写时为 null
+     */
+    private final IllegalAccessException setterFailure;
+
+    /**
+     * 属性的 VarHandle, 首次使用时解析
+     */
+    private volatile VarHandle varHandle;
+
+    /**
+     * 构建实例
+     *
+     * @param field 属性对象, 必须已经设置为可访问
+     */
+    FieldAccessor(Field field) {
+        this.field = field;
+        this.wrapperType = PrimitiveWrapperTypeUtils.getWrapperType(field.getType());
+        MethodHandles.Lookup lookup = MethodHandles.lookup();
+        boolean isStatic = Modifier.isStatic(field.getModifiers());
+        Class<?> type = field.getType();
+        try {
+            MethodHandle handle = lookup.unreflectGetter(field);
+            if (isStatic) {
+                handle = MethodHandles.dropArguments(handle, 0, Object.class);
+            }
+            this.getter = handle.asType(MethodType.methodType(Object.class, Object.class));
+            this.primitiveGetter = type.isPrimitive() ? handle.asType(MethodType.methodType(type, Object.class)) : null;
+        } catch (IllegalAccessException e) {
+            throw new ReflectionCastException(e);
+        }
+        MethodHandle handle = null;
+        IllegalAccessException setterFailure = null;
+        try {
+            handle = lookup.unreflectSetter(field);
+            if (isStatic) {
+                handle = MethodHandles.dropArguments(handle, 0, Object.class);
+            }
+        } catch (IllegalAccessException e) {
+            // 静态常量等不允许写的属性
+            setterFailure = e;
+        }
+        this.setterFailure = setterFailure;
+        this.setter = handle != null ? handle.asType(MethodType.methodType(void.class, Object.class, Object.class)) : null;
+        this.primitiveSetter = handle != null && type.isPrimitive() ? handle.asType(MethodType.methodType(void.class, Object.class, type)) : null;
+    }
+
+    /**
+     * 获取对象的属性的值
+     *
+     * @param obj 具体对象, 若操作类属性(静态属性), 此项可传 null
+     * @param <T> 期望的类型
+     * @return 返回对象属性的值
+     */
+    public <T> T get(Object obj) {
+        try {
+            return (T) (Object) getter.invokeExact(obj);
+        } catch (Throwable e) {
+            throw failure(e, obj);
+        }
+    }
+
+    /**
+     * 设置对象属性的值
+     *
+     * @param obj   具体对象, 若操作类属性(静态属性), 此项可传 null
+     * @param value 值
+     */
+    public void set(Object obj, Object value) {
+        // 不允许写的属性, 以及基本数据类型属性的 null 值和需要拓宽转换的值, 交由 Field.set 处理
+        if (setter == null || (wrapperType != null && (value == null || value.getClass() != wrapperType))) {
+            try {
+                field.set(obj, value);
+                return;
+            } catch (IllegalAccessException e) {
+                throw new ReflectionCastException(e);
+            }
+        }
+        try {
+            setter.invokeExact(obj, value);
+        } catch (ClassCastException e) {
+            if (obj != null && !field.getDeclaringClass().isInstance(obj)) {
+                throw illegalTarget(obj);
+            }
+            throw illegalValue(value, e);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new ReflectionCastException(e);
+        }
+    }
+
+    /**
+     * 获取 boolean 类型属性的值, 不创建包装类型对象
+     *
+     * @param obj 具体对象, 若操作类属性(静态属性), 此项可传 null
+     * @return 返回对象属性的值
+     */
+    public boolean getBoolean(Object obj) {
+        checkPrimitiveType(boolean.class);
+        try {
+            return (boolean) primitiveGetter.invokeExact(obj);
+        } catch (Throwable e) {
+            throw failure(e, obj);
+        }
+    }
+
+    /**
+     * 设置 boolean 类型属性的值, 不创建包装类型对象
+     *
+     * @param obj   具体对象, 若操作类属性(静态属性), 此项可传 null
+     * @param value 值
+     */
+    public void setBoolean(Object obj, boolean value) {
+        checkPrimitiveSetter(boolean.class);
+        try {
+            primitiveSetter.invokeExact(obj, value);
+        } catch (Throwable e) {
+            throw failure(e, obj);
+        }
+    }
+
+    /**
+     * 获取 byte 类型属性的值, 不创建包装类型对象
+     *
+     * @param obj 具体对象, 若操作类属性(静态属性), 此项可传 null
+     * @return 返回对象属性的值
+     */
+    public byte getByte(Object obj) {
+        checkPrimitiveType(byte.class);
+        try {
+            return (byte) primitiveGetter.invokeExact(obj);
+        } catch (Throwable e) {
+            throw failure(e, obj);
+        }
+    }
+
+    /**
+     * 设置 byte 类型属性的值, 不创建包装类型对象
+     *
+     * @param obj   具体对象, 若操作类属性(静态属性), 此项可传 null
+     * @param value 值
+     */
+    public void setByte(Object obj, byte value) {
+        checkPrimitiveSetter(byte.class);
+        try {
+            primitiveSetter.invokeExact(obj, value);
+        } catch (Throwable e) {
+            throw failure(e, obj);
+        }
+    }
+
+    /**
+     * 获取 char 类型属性的值, 不创建包装类型对象
+     *
+     * @param obj 具体对象, 若操作类属性(静态属性), 此项可传 null
+     * @return 返回对象属性的值
+     */
+    public char getChar(Object obj) {
+        checkPrimitiveType(char.class);
+        try {
+            return (char) primitiveGetter.invokeExact(obj);
+        } catch (Throwable e) {
+            throw failure(e, obj);
+        }
+    }
+
+    /**
+     * 设置 char 类型属性的值, 不创建包装类型对象
+     *
+     * @param obj   具体对象, 若操作类属性(静态属性), 此项可传 null
+     * @param value 值
+     */
+    public void setChar(Object obj, char value) {
+        checkPrimitiveSetter(char.class);
+        try {
+            primitiveSetter.invokeExact(obj, value);
+        } catch (Throwable e) {
+            throw failure(e, obj);
+        }
+    }
+
+    /**
+     * 获取 short 类型属性的值, 不创建包装类型对象
+     *
+     * @param obj 具体对象, 若操作类属性(静态属性), 此项可传 null
+     * @return 返回对象属性的值
+     */
+    public short getShort(Object obj) {
+        checkPrimitiveType(short.class);
+        try {
+            return (short) primitiveGetter.invokeExact(obj);
+        } catch (Throwable e) {
+            throw failure(e, obj);
+        }
+    }
+
+    /**
+     * 设置 short 类型属性的值, 不创建包装类型对象
+     *
+     * @param obj   具体对象, 若操作类属性(静态属性), 此项可传 null
+     * @param value 值
+     */
+    public void setShort(Object obj, short value) {
+        checkPrimitiveSetter(short.class);
+        try {
+            primitiveSetter.invokeExact(obj, value);
+        } catch (Throwable e) {
+            throw failure(e, obj);
+        }
+    }
+
+    /**
+     * 获取 int 类型属性的值, 不创建包装类型对象
+     *
+     * @param obj 具体对象, 若操作类属性(静态属性), 此项可传 null
+     * @return 返回对象属性的值
+     */
+    public int getInt(Object obj) {
+        checkPrimitiveType(int.class);
+        try {
+            return (int) primitiveGetter.invokeExact(obj);
+        } catch (Throwable e) {
+            throw failure(e, obj);
+        }
+    }
+
+    /**
+     * 设置 int 类型属性的值, 不创建包装类型对象
+     *
+     * @param obj   具体对象, 若操作类属性(静态属性), 此项可传 null
+     * @param value 值
+     */
+    public void setInt(Object obj, int value) {
+        checkPrimitiveSetter(int.class);
+        try {
+            primitiveSetter.invokeExact(obj, value);
+        } catch (Throwable e) {
+            throw failure(e, obj);
+        }
+    }
+
+    /**
+     * 获取 long 类型属性的值, 不创建包装类型对象
+     *
+     * @param obj 具体对象, 若操作类属性(静态属性), 此项可传 null
+     * @return 返回对象属性的值
+     */
+    public long getLong(Object obj) {
+        checkPrimitiveType(long.class);
+        try {
+            return (long) primitiveGetter.invokeExact(obj);
+        } catch (Throwable e) {
+            throw failure(e, obj);
+        }
+    }
+
+    /**
+     * 设置 long 类型属性的值, 不创建包装类型对象
+     *
+     * @param obj   具体对象, 若操作类属性(静态属性), 此项可传 null
+     * @param value 值
+     */
+    public void setLong(Object obj, long value) {
+        checkPrimitiveSetter(long.class);
+        try {
+            primitiveSetter.invokeExact(obj, value);
+        } catch (Throwable e) {
+            throw failure(e, obj);
+        }
+    }
+
+    /**
+     * 获取 float 类型属性的值, 不创建包装类型对象
+     *
+     * @param obj 具体对象, 若操作类属性(静态属性), 此项可传 null
+     * @return 返回对象属性的值
+     */
+    public float getFloat(Object obj) {
+        checkPrimitiveType(float.class);
+        try {
+            return (float) primitiveGetter.invokeExact(obj);
+        } catch (Throwable e) {
+            throw failure(e, obj);
+        }
+    }
+
+    /**
+     * 设置 float 类型属性的值, 不创建包装类型对象
+     *
+     * @param obj   具体对象, 若操作类属性(静态属性), 此项可传 null
+     * @param value 值
+     */
+    public void setFloat(Object obj, float value) {
+        checkPrimitiveSetter(float.class);
+        try {
+            primitiveSetter.invokeExact(obj, value);
+        } catch (Throwable e) {
+            throw failure(e, obj);
+        }
+    }
+
+    /**
+     * 获取 double 类型属性的值, 不创建包装类型对象
+     *
+     * @param obj 具体对象, 若操作类属性(静态属性), 此项可传 null
+     * @return 返回对象属性的值
+     */
+    public double getDouble(Object obj) {
+        checkPrimitiveType(double.class);
+        try {
+            return (double) primitiveGetter.invokeExact(obj);
+        } catch (Throwable e) {
+            throw failure(e, obj);
+        }
+    }
+
+    /**
+     * 设置 double 类型属性的值, 不创建包装类型对象
+     *
+     * @param obj   具体对象, 若操作类属性(静态属性), 此项可传 null
+     * @param value 值
+     */
+    public void setDouble(Object obj, double value) {
+        checkPrimitiveSetter(double.class);
+        try {
+            primitiveSetter.invokeExact(obj, value);
+        } catch (Throwable e) {
+            throw failure(e, obj);
+        }
+    }
+
+    /**
+     * 以 volatile 语义获取对象的属性的值
+     *
+     * @param obj 具体对象, 若操作类属性(静态属性), 此项可传 null
+     * @param <T> 期望的类型
+     * @return 返回对象属性的值
+     */
+    public <T> T getVolatile(Object obj) {
+        VarHandle handle = getVarHandle();
+        try {
+            return (T) (isStatic() ? handle.getVolatile() : handle.getVolatile(obj));
+        } catch (Throwable e) {
+            throw failure(e, obj);
+        }
+    }
+
+    /**
+     * 以 volatile 语义设置对象属性的值
+     *
+     * @param obj   具体对象, 若操作类属性(静态属性), 此项可传 null
+     * @param value 值
+     */
+    public void setVolatile(Object obj, Object value) {
+        VarHandle handle = getVarHandle();
+        try {
+            if (isStatic()) {
+                handle.setVolatile(value);
+            } else {
+                handle.setVolatile(obj, value);
+            }
+        } catch (Throwable e) {
+            throw failure(e, obj, value);
+        }
+    }
+
+    /**
+     * 以 acquire 语义获取对象的属性的值, 之后的读写不会被重排序到此次读取之前
+     *
+     * @param obj 具体对象, 若操作类属性(静态属性), 此项可传 null
+     * @param <T> 期望的类型
+     * @return 返回对象属性的值
+     */
+    public <T> T getAcquire(Object obj) {
+        VarHandle handle = getVarHandle();
+        try {
+            return (T) (isStatic() ? handle.getAcquire() : handle.getAcquire(obj));
+        } catch (Throwable e) {
+            throw failure(e, obj);
+        }
+    }
+
+    /**
+     * 以 release 语义设置对象属性的值, 之前的读写不会被重排序到此次写入之后
+     *
+     * @param obj   具体对象, 若操作类属性(静态属性), 此项可传 null
+     * @param value 值
+     */
+    public void setRelease(Object obj, Object value) {
+        VarHandle handle = getVarHandle();
+        try {
+            if (isStatic()) {
+                handle.setRelease(value);
+            } else {
+                handle.setRelease(obj, value);
+            }
+        } catch (Throwable e) {
+            throw failure(e, obj, value);
+        }
+    }
+
+    /**
+     * 以 opaque 语义获取对象的属性的值, 保证读取的原子性和对同一属性访问的顺序
+     *
+     * @param obj 具体对象, 若操作类属性(静态属性), 此项可传 null
+     * @param <T> 期望的类型
+     * @return 返回对象属性的值
+     */
+    public <T> T getOpaque(Object obj) {
+        VarHandle handle = getVarHandle();
+        try {
+            return (T) (isStatic() ? handle.getOpaque() : handle.getOpaque(obj));
+        } catch (Throwable e) {
+            throw failure(e, obj);
+        }
+    }
+
+    /**
+     * 以 opaque 语义设置对象属性的值, 保证写入的原子性和对同一属性访问的顺序
+     *
+     * @param obj   具体对象, 若操作类属性(静态属性), 此项可传 null
+     * @param value 值
+     */
+    public void setOpaque(Object obj, Object value) {
+        VarHandle handle = getVarHandle();
+        try {
+            if (isStatic()) {
+                handle.setOpaque(value);
+            } else {
+                handle.setOpaque(obj, value);
+            }
+        } catch (Throwable e) {
+            throw failure(e, obj, value);
+        }
+    }
+
+    /**
+     * 若属性的当前值与期望值相同, 则原子地设置为新值, 以 volatile 语义读写.
+     * 引用类型的属性按 '==' 比较, 基本数据类型的属性按拆箱后的值比较
+     *
+     * @param obj    具体对象, 若操作类属性(静态属性), 此项可传 null
+     * @param expect 期望值
+     * @param update 新值
+     * @return 设置成功返回 true, 否则返回 false
+     */
+    public boolean compareAndSet(Object obj, Object expect, Object update) {
+        VarHandle handle = getVarHandle();
+        try {
+            return isStatic() ? handle.compareAndSet(expect, update) : handle.compareAndSet(obj, expect, update);
+        } catch (Throwable e) {
+            throw failure(e, obj, expect, update);
+        }
+    }
+
+    /**
+     * 原子地设置属性的值, 并返回原来的值, 以 volatile 语义读写
+     *
+     * @param obj   具体对象, 若操作类属性(静态属性), 此项可传 null
+     * @param value 新值
+     * @param <T>   期望的类型
+     * @return 返回属性原来的值
+     */
+    public <T> T getAndSet(Object obj, Object value) {
+        VarHandle handle = getVarHandle();
+        try {
+            return (T) (isStatic() ? handle.getAndSet(value) : handle.getAndSet(obj, value));
+        } catch (Throwable e) {
+            throw failure(e, obj, value);
+        }
+    }
+
+    /**
+     * 若 int 类型属性的当前值与期望值相同, 则原子地设置为新值, 不创建包装类型对象
+     *
+     * @param obj    具体对象, 若操作类属性(静态属性), 此项可传 null
+     * @param expect 期望值
+     * @param update 新值
+     * @return 设置成功返回 true, 否则返回 false
+     */
+    public boolean compareAndSetInt(Object obj, int expect, int update) {
+        checkPrimitiveType(int.class);
+        VarHandle handle = getVarHandle();
+        try {
+            return isStatic() ? handle.compareAndSet(expect, update) : handle.compareAndSet(obj, expect, update);
+        } catch (Throwable e) {
+            throw failure(e, obj);
+        }
+    }
+
+    /**
+     * 原子地将 int 类型属性的值加上增量, 并返回原来的值, 不创建包装类型对象
+     *
+     * @param obj   具体对象, 若操作类属性(静态属性), 此项可传 null
+     * @param delta 增量
+     * @return 返回属性原来的值
+     */
+    public int getAndAddInt(Object obj, int delta) {
+        checkPrimitiveType(int.class);
+        VarHandle handle = getVarHandle();
+        try {
+            return isStatic() ? (int) handle.getAndAdd(delta) : (int) handle.getAndAdd(obj, delta);
+        } catch (Throwable e) {
+            throw failure(e, obj);
+        }
+    }
+
+    /**
+     * 若 long 类型属性的当前值与期望值相同, 则原子地设置为新值, 不创建包装类型对象
+     *
+     * @param obj    具体对象, 若操作类属性(静态属性), 此项可传 null
+     * @param expect 期望值
+     * @param update 新值
+     * @return 设置成功返回 true, 否则返回 false
+     */
+    public boolean compareAndSetLong(Object obj, long expect, long update) {
+        checkPrimitiveType(long.class);
+        VarHandle handle = getVarHandle();
+        try {
+            return isStatic() ? handle.compareAndSet(expect, update) : handle.compareAndSet(obj, expect, update);
+        } catch (Throwable e) {
+            throw failure(e, obj);
+        }
+    }
+
+    /**
+     * 原子地将 long 类型属性的值加上增量, 并返回原来的值, 不创建包装类型对象
+     *
+     * @param obj   具体对象, 若操作类属性(静态属性), 此项可传 null
+     * @param delta 增量
+     * @return 返回属性原来的值
+     */
+    public long getAndAddLong(Object obj, long delta) {
+        checkPrimitiveType(long.class);
+        VarHandle handle = getVarHandle();
+        try {
+            return isStatic() ? (long) handle.getAndAdd(delta) : (long) handle.getAndAdd(obj, delta);
+        } catch (Throwable e) {
+            throw failure(e, obj);
+        }
+    }
+
+    /**
+     * 获取属性的 VarHandle, 首次获取时解析. 静态属性的 VarHandle 没有坐标参数, 非静态属性以对象为唯一的坐标参数.
+     * final 属性的 VarHandle 只读, 写操作将抛出 UnsupportedOperationException
+     *
+     * @return 返回属性的 VarHandle
+     */
+    public VarHandle getVarHandle() {
+        VarHandle handle = varHandle;
+        if (handle == null) {
+            try {
+                varHandle = handle = MethodHandles.privateLookupIn(field.getDeclaringClass(), MethodHandles.lookup())
+                        .unreflectVarHandle(field);
+            } catch (IllegalAccessException e) {
+                throw new ReflectionCastException(e);
+            }
+        }
+        return handle;
+    }
+
+    /**
+     * 获取属性对象
+     *
+     * @return 返回属性对象
+     */
+    public Field getField() {
+        return field;
+    }
+
+    /**
+     * 获取与属性类型一致的 Getter 句柄, 类型为 (Object)属性类型, 基本数据类型属性不涉及装箱
+     *
+     * @return 返回 Getter 句柄
+     */
+    MethodHandle getTypedGetter() {
+        return primitiveGetter != null ? primitiveGetter : getter;
+    }
+
+    /**
+     * 获取与属性类型一致的 Setter 句柄, 类型为 (Object, 属性类型)void, 基本数据类型属性不涉及拆箱
+     *
+     * @return 返回 Setter 句柄, 属性不允许写时返回 null
+     */
+    MethodHandle getTypedSetter() {
+        return field.getType().isPrimitive() ? primitiveSetter : setter;
+    }
+
+    /**
+     * 判断属性是否为静态属性
+     *
+     * @return 静态属性返回 true, 否则返回 false
+     */
+    private boolean isStatic() {
+        return Modifier.isStatic(field.getModifiers());
+    }
+
+    /**
+     * 检查属性是否为参数给定的基本数据类型
+     *
+     * @param type 基本数据类型
+     */
+    private void checkPrimitiveType(Class<?> type) {
+        if (field.getType() != type) {
+            throw new FieldOperationException(field.getName() + " property is " + field.getType().getName()
+                    + " type, not " + type.getName() + " type in " + field.getDeclaringClass());
+        }
+    }
+
+    /**
+     * 检查属性是否为参数给定的基本数据类型, 并且允许写
+     *
+     * @param type 基本数据类型
+     */
+    private void checkPrimitiveSetter(Class<?> type) {
+        checkPrimitiveType(type);
+        if (primitiveSetter == null) {
+            throw new ReflectionCastException(setterFailure);
+        }
+    }
+
+    /**
+     * 将句柄调用时的异常转换为与 Field.get/set 一致的运行时异常. 类型转换异常按目标对象和写入的值分别判断:
+     * 非静态属性的目标对象不是属性声明的类的实例时为目标对象不匹配, 否则为写入的值与属性类型不匹配
+     *
+     * @param e      句柄调用时的异常
+     * @param obj    具体对象
+     * @param values 写入的值, 读操作为空
+     * @return 返回运行时异常
+     */
+    private RuntimeException failure(Throwable e, Object obj, Object... values) {
+        if (e instanceof ClassCastException) {
+            if (!isStatic() && obj != null && !field.getDeclaringClass().isInstance(obj)) {
+                return illegalTarget(obj);
+            }
+            Class<?> valueType = wrapperType != null ? wrapperType : field.getType();
+            for (Object value : values) {
+                if (value != null && !valueType.isInstance(value)) {
+                    return illegalValue(value, e);
+                }
+            }
+            return illegalTarget(obj);
+        }
+        if (e instanceof RuntimeException) {
+            return (RuntimeException) e;
+        }
+        if (e instanceof Error) {
+            throw (Error) e;
+        }
+        return new ReflectionCastException(e);
+    }
+
+    /**
+     * 目标对象与属性声明的类不匹配时的异常, 与 Field.get/set 抛出的异常类型一致
+     *
+     * @param obj 具体对象
+     * @return 返回 IllegalArgumentException
+     */
+    private IllegalArgumentException illegalTarget(Object obj) {
+        return new IllegalArgumentException("Can not access " + field.getDeclaringClass().getName()
+                + "." + field.getName() + " on " + (obj != null ? obj.getClass().getName() : "null"));
+    }
+
+    /**
+     * 写入的值与属性类型不匹配时的异常, 与 Field.set 抛出的异常类型和信息一致
+     *
+     * @param value 写入的值, 不为 null
+     * @param cause 句柄调用时的异常
+     * @return 返回 IllegalArgumentException
+     */
+    private IllegalArgumentException illegalValue(Object value, Throwable cause) {
+        return new IllegalArgumentException("Can not set " + (isStatic() ? "static " : "") + field.getType().getName()
+                + " field " + field.getDeclaringClass().getName() + "." + field.getName()
+                + " to " + value.getClass().getName(), cause);
+    }
+
+}
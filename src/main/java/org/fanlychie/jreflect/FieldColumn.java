@@ -0,0 +1,715 @@
+package org.fanlychie.jreflect;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * 属性列, 对一组对象的同一个属性进行批量读写. 属性只在创建时解析一次, 之后按下标顺序读写,
+ * 基本数据类型的属性读写为对应的基本数据类型数组. 对象数量达到并行阈值时, 自动拆分到 ForkJoinPool 中并行执行
+ * Created by fanlychie on 2026/10/16.
+ */
+public final class FieldColumn {
+
+    /**
+     * 默认的并行阈值
+     */
+    private static final int DEFAULT_PARALLEL_THRESHOLD = 1 << 13;
+
+    /**
+     * 属性访问器
+     */
+    private final FieldAccessor accessor;
+
+    /**
+     * 执行并行任务的 ForkJoinPool
+     */
+    private ForkJoinPool pool = ForkJoinPool.commonPool();
+
+    /**
+     * 并行阈值, 对象数量达到此值时并行执行, 拆分后每个任务处理的对象数量也不少于此值的一半
+     */
+    private int parallelThreshold = DEFAULT_PARALLEL_THRESHOLD;
+
+    /**
+     * 构建实例
+     *
+     * @param accessor 属性访问器
+     */
+    public FieldColumn(FieldAccessor accessor) {
+        this.accessor = accessor;
+    }
+
+    /**
+     * 读取对象列表中每个对象的属性值
+     *
+     * @param objs 对象列表
+     * @return 返回与对象列表一一对应的属性值数组
+     */
+    public Object[] getValues(List<?> objs) {
+        final List<?> list = randomAccess(objs);
+        final Object[] values = new Object[list.size()];
+        forEach(values.length, new RangeAction() {
+            @Override
+            public void apply(int from, int to) {
+                for (int i = from; i < to; i++) {
+                    values[i] = accessor.get(list.get(i));
+                }
+            }
+        });
+        return values;
+    }
+
+    /**
+     * 读取对象数组中每个对象的属性值
+     *
+     * @param objs 对象数组
+     * @return 返回与对象数组一一对应的属性值数组
+     */
+    public Object[] getValues(Object[] objs) {
+        return getValues(Arrays.asList(objs));
+    }
+
+    /**
+     * 将值依次写入对象列表中每个对象的属性
+     *
+     * @param objs   对象列表
+     * @param values 与对象列表一一对应的属性值数组
+     */
+    public void setValues(List<?> objs, final Object[] values) {
+        final List<?> list = randomAccess(objs);
+        checkLength(list.size(), values.length);
+        forEach(values.length, new RangeAction() {
+            @Override
+            public void apply(int from, int to) {
+                for (int i = from; i < to; i++) {
+                    accessor.set(list.get(i), values[i]);
+                }
+            }
+        });
+    }
+
+    /**
+     * 将值依次写入对象数组中每个对象的属性
+     *
+     * @param objs   对象数组
+     * @param values 与对象数组一一对应的属性值数组
+     */
+    public void setValues(Object[] objs, Object[] values) {
+        setValues(Arrays.asList(objs), values);
+    }
+
+    /**
+     * 读取对象列表中每个对象的 boolean 类型属性值, 不创建包装类型对象
+     *
+     * @param objs 对象列表
+     * @return 返回与对象列表一一对应的属性值数组
+     */
+    public boolean[] getBooleans(List<?> objs) {
+        final List<?> list = randomAccess(objs);
+        final boolean[] values = new boolean[list.size()];
+        forEach(values.length, new RangeAction() {
+            @Override
+            public void apply(int from, int to) {
+                for (int i = from; i < to; i++) {
+                    values[i] = accessor.getBoolean(list.get(i));
+                }
+            }
+        });
+        return values;
+    }
+
+    /**
+     * 读取对象数组中每个对象的 boolean 类型属性值, 不创建包装类型对象
+     *
+     * @param objs 对象数组
+     * @return 返回与对象数组一一对应的属性值数组
+     */
+    public boolean[] getBooleans(Object[] objs) {
+        return getBooleans(Arrays.asList(objs));
+    }
+
+    /**
+     * 将 boolean 类型的值依次写入对象列表中每个对象的属性, 不创建包装类型对象
+     *
+     * @param objs   对象列表
+     * @param values 与对象列表一一对应的属性值数组
+     */
+    public void setBooleans(List<?> objs, final boolean[] values) {
+        final List<?> list = randomAccess(objs);
+        checkLength(list.size(), values.length);
+        forEach(values.length, new RangeAction() {
+            @Override
+            public void apply(int from, int to) {
+                for (int i = from; i < to; i++) {
+                    accessor.setBoolean(list.get(i), values[i]);
+                }
+            }
+        });
+    }
+
+    /**
+     * 将 boolean 类型的值依次写入对象数组中每个对象的属性, 不创建包装类型对象
+     *
+     * @param objs   对象数组
+     * @param values 与对象数组一一对应的属性值数组
+     */
+    public void setBooleans(Object[] objs, boolean[] values) {
+        setBooleans(Arrays.asList(objs), values);
+    }
+
+    /**
+     * 读取对象列表中每个对象的 byte 类型属性值, 不创建包装类型对象
+     *
+     * @param objs 对象列表
+     * @return 返回与对象列表一一对应的属性值数组
+     */
+    public byte[] getBytes(List<?> objs) {
+        final List<?> list = randomAccess(objs);
+        final byte[] values = new byte[list.size()];
+        forEach(values.length, new RangeAction() {
+            @Override
+            public void apply(int from, int to) {
+                for (int i = from; i < to; i++) {
+                    values[i] = accessor.getByte(list.get(i));
+                }
+            }
+        });
+        return values;
+    }
+
+    /**
+     * 读取对象数组中每个对象的 byte 类型属性值, 不创建包装类型对象
+     *
+     * @param objs 对象数组
+     * @return 返回与对象数组一一对应的属性值数组
+     */
+    public byte[] getBytes(Object[] objs) {
+        return getBytes(Arrays.asList(objs));
+    }
+
+    /**
+     * 将 byte 类型的值依次写入对象列表中每个对象的属性, 不创建包装类型对象
+     *
+     * @param objs   对象列表
+     * @param values 与对象列表一一对应的属性值数组
+     */
+    public void setBytes(List<?> objs, final byte[] values) {
+        final List<?> list = randomAccess(objs);
+        checkLength(list.size(), values.length);
+        forEach(values.length, new RangeAction() {
+            @Override
+            public void apply(int from, int to) {
+                for (int i = from; i < to; i++) {
+                    accessor.setByte(list.get(i), values[i]);
+                }
+            }
+        });
+    }
+
+    /**
+     * 将 byte 类型的值依次写入对象数组中每个对象的属性, 不创建包装类型对象
+     *
+     * @param objs   对象数组
+     * @param values 与对象数组一一对应的属性值数组
+     */
+    public void setBytes(Object[] objs, byte[] values) {
+        setBytes(Arrays.asList(objs), values);
+    }
+
+    /**
+     * 读取对象列表中每个对象的 char 类型属性值, 不创建包装类型对象
+     *
+     * @param objs 对象列表
+     * @return 返回与对象列表一一对应的属性值数组
+     */
+    public char[] getChars(List<?> objs) {
+        final List<?> list = randomAccess(objs);
+        final char[] values = new char[list.size()];
+        forEach(values.length, new RangeAction() {
+            @Override
+            public void apply(int from, int to) {
+                for (int i = from; i < to; i++) {
+                    values[i] = accessor.getChar(list.get(i));
+                }
+            }
+        });
+        return values;
+    }
+
+    /**
+     * 读取对象数组中每个对象的 char 类型属性值, 不创建包装类型对象
+     *
+     * @param objs 对象数组
+     * @return 返回与对象数组一一对应的属性值数组
+     */
+    public char[] getChars(Object[] objs) {
+        return getChars(Arrays.asList(objs));
+    }
+
+    /**
+     * 将 char 类型的值依次写入对象列表中每个对象的属性, 不创建包装类型对象
+     *
+     * @param objs   对象列表
+     * @param values 与对象列表一一对应的属性值数组
+     */
+    public void setChars(List<?> objs, final char[] values) {
+        final List<?> list = randomAccess(objs);
+        checkLength(list.size(), values.length);
+        forEach(values.length, new RangeAction() {
+            @Override
+            public void apply(int from, int to) {
+                for (int i = from; i < to; i++) {
+                    accessor.setChar(list.get(i), values[i]);
+                }
+            }
+        });
+    }
+
+    /**
+     * 将 char 类型的值依次写入对象数组中每个对象的属性, 不创建包装类型对象
+     *
+     * @param objs   对象数组
+     * @param values 与对象数组一一对应的属性值数组
+     */
+    public void setChars(Object[] objs, char[] values) {
+        setChars(Arrays.asList(objs), values);
+    }
+
+    /**
+     * 读取对象列表中每个对象的 short 类型属性值, 不创建包装类型对象
+     *
+     * @param objs 对象列表
+     * @return 返回与对象列表一一对应的属性值数组
+     */
+    public short[] getShorts(List<?> objs) {
+        final List<?> list = randomAccess(objs);
+        final short[] values = new short[list.size()];
+        forEach(values.length, new RangeAction() {
+            @Override
+            public void apply(int from, int to) {
+                for (int i = from; i < to; i++) {
+                    values[i] = accessor.getShort(list.get(i));
+                }
+            }
+        });
+        return values;
+    }
+
+    /**
+     * 读取对象数组中每个对象的 short 类型属性值, 不创建包装类型对象
+     *
+     * @param objs 对象数组
+     * @return 返回与对象数组一一对应的属性值数组
+     */
+    public short[] getShorts(Object[] objs) {
+        return getShorts(Arrays.asList(objs));
+    }
+
+    /**
+     * 将 short 类型的值依次写入对象列表中每个对象的属性, 不创建包装类型对象
+     *
+     * @param objs   对象列表
+     * @param values 与对象列表一一对应的属性值数组
+     */
+    public void setShorts(List<?> objs, final short[] values) {
+        final List<?> list = randomAccess(objs);
+        checkLength(list.size(), values.length);
+        forEach(values.length, new RangeAction() {
+            @Override
+            public void apply(int from, int to) {
+                for (int i = from; i < to; i++) {
+                    accessor.setShort(list.get(i), values[i]);
+                }
+            }
+        });
+    }
+
+    /**
+     * 将 short 类型的值依次写入对象数组中每个对象的属性, 不创建包装类型对象
+     *
+     * @param objs   对象数组
+     * @param values 与对象数组一一对应的属性值数组
+     */
+    public void setShorts(Object[] objs, short[] values) {
+        setShorts(Arrays.asList(objs), values);
+    }
+
+    /**
+     * 读取对象列表中每个对象的 int 类型属性值, 不创建包装类型对象
+     *
+     * @param objs 对象列表
+     * @return 返回与对象列表一一对应的属性值数组
+     */
+    public int[] getInts(List<?> objs) {
+        final List<?> list = randomAccess(objs);
+        final int[] values = new int[list.size()];
+        forEach(values.length, new RangeAction() {
+            @Override
+            public void apply(int from, int to) {
+                for (int i = from; i < to; i++) {
+                    values[i] = accessor.getInt(list.get(i));
+                }
+            }
+        });
+        return values;
+    }
+
+    /**
+     * 读取对象数组中每个对象的 int 类型属性值, 不创建包装类型对象
+     *
+     * @param objs 对象数组
+     * @return 返回与对象数组一一对应的属性值数组
+     */
+    public int[] getInts(Object[] objs) {
+        return getInts(Arrays.asList(objs));
+    }
+
+    /**
+     * 将 int 类型的值依次写入对象列表中每个对象的属性, 不创建包装类型对象
+     *
+     * @param objs   对象列表
+     * @param values 与对象列表一一对应的属性值数组
+     */
+    public void setInts(List<?> objs, final int[] values) {
+        final List<?> list = randomAccess(objs);
+        checkLength(list.size(), values.length);
+        forEach(values.length, new RangeAction() {
+            @Override
+            public void apply(int from, int to) {
+                for (int i = from; i < to; i++) {
+                    accessor.setInt(list.get(i), values[i]);
+                }
+            }
+        });
+    }
+
+    /**
+     * 将 int 类型的值依次写入对象数组中每个对象的属性, 不创建包装类型对象
+     *
+     * @param objs   对象数组
+     * @param values 与对象数组一一对应的属性值数组
+     */
+    public void setInts(Object[] objs, int[] values) {
+        setInts(Arrays.asList(objs), values);
+    }
+
+    /**
+     * 读取对象列表中每个对象的 long 类型属性值, 不创建包装类型对象
+     *
+     * @param objs 对象列表
+     * @return 返回与对象列表一一对应的属性值数组
+     */
+    public long[] getLongs(List<?> objs) {
+        final List<?> list = randomAccess(objs);
+        final long[] values = new long[list.size()];
+        forEach(values.length, new RangeAction() {
+            @Override
+            public void apply(int from, int to) {
+                for (int i = from; i < to; i++) {
+                    values[i] = accessor.getLong(list.get(i));
+                }
+            }
+        });
+        return values;
+    }
+
+    /**
+     * 读取对象数组中每个对象的 long 类型属性值, 不创建包装类型对象
+     *
+     * @param objs 对象数组
+     * @return 返回与对象数组一一对应的属性值数组
+     */
+    public long[] getLongs(Object[] objs) {
+        return getLongs(Arrays.asList(objs));
+    }
+
+    /**
+     * 将 long 类型的值依次写入对象列表中每个对象的属性, 不创建包装类型对象
+     *
+     * @param objs   对象列表
+     * @param values 与对象列表一一对应的属性值数组
+     */
+    public void setLongs(List<?> objs, final long[] values) {
+        final List<?> list = randomAccess(objs);
+        checkLength(list.size(), values.length);
+        forEach(values.length, new RangeAction() {
+            @Override
+            public void apply(int from, int to) {
+                for (int i = from; i < to; i++) {
+                    accessor.setLong(list.get(i), values[i]);
+                }
+            }
+        });
+    }
+
+    /**
+     * 将 long 类型的值依次写入对象数组中每个对象的属性, 不创建包装类型对象
+     *
+     * @param objs   对象数组
+     * @param values 与对象数组一一对应的属性值数组
+     */
+    public void setLongs(Object[] objs, long[] values) {
+        setLongs(Arrays.asList(objs), values);
+    }
+
+    /**
+     * 读取对象列表中每个对象的 float 类型属性值, 不创建包装类型对象
+     *
+     * @param objs 对象列表
+     * @return 返回与对象列表一一对应的属性值数组
+     */
+    public float[] getFloats(List<?> objs) {
+        final List<?> list = randomAccess(objs);
+        final float[] values = new float[list.size()];
+        forEach(values.length, new RangeAction() {
+            @Override
+            public void apply(int from, int to) {
+                for (int i = from; i < to; i++) {
+                    values[i] = accessor.getFloat(list.get(i));
+                }
+            }
+        });
+        return values;
+    }
+
+    /**
+     * 读取对象数组中每个对象的 float 类型属性值, 不创建包装类型对象
+     *
+     * @param objs 对象数组
+     * @return 返回与对象数组一一对应的属性值数组
+     */
+    public float[] getFloats(Object[] objs) {
+        return getFloats(Arrays.asList(objs));
+    }
+
+    /**
+     * 将 float 类型的值依次写入对象列表中每个对象的属性, 不创建包装类型对象
+     *
+     * @param objs   对象列表
+     * @param values 与对象列表一一对应的属性值数组
+     */
+    public void setFloats(List<?> objs, final float[] values) {
+        final List<?> list = randomAccess(objs);
+        checkLength(list.size(), values.length);
+        forEach(values.length, new RangeAction() {
+            @Override
+            public void apply(int from, int to) {
+                for (int i = from; i < to; i++) {
+                    accessor.setFloat(list.get(i), values[i]);
+                }
+            }
+        });
+    }
+
+    /**
+     * 将 float 类型的值依次写入对象数组中每个对象的属性, 不创建包装类型对象
+     *
+     * @param objs   对象数组
+     * @param values 与对象数组一一对应的属性值数组
+     */
+    public void setFloats(Object[] objs, float[] values) {
+        setFloats(Arrays.asList(objs), values);
+    }
+
+    /**
+     * 读取对象列表中每个对象的 double 类型属性值, 不创建包装类型对象
+     *
+     * @param objs 对象列表
+     * @return 返回与对象列表一一对应的属性值数组
+     */
+    public double[] getDoubles(List<?> objs) {
+        final List<?> list = randomAccess(objs);
+        final double[] values = new double[list.size()];
+        forEach(values.length, new RangeAction() {
+            @Override
+            public void apply(int from, int to) {
+                for (int i = from; i < to; i++) {
+                    values[i] = accessor.getDouble(list.get(i));
+                }
+            }
+        });
+        return values;
+    }
+
+    /**
+     * 读取对象数组中每个对象的 double 类型属性值, 不创建包装类型对象
+     *
+     * @param objs 对象数组
+     * @return 返回与对象数组一一对应的属性值数组
+     */
+    public double[] getDoubles(Object[] objs) {
+        return getDoubles(Arrays.asList(objs));
+    }
+
+    /**
+     * 将 double 类型的值依次写入对象列表中每个对象的属性, 不创建包装类型对象
+     *
+     * @param objs   对象列表
+     * @param values 与对象列表一一对应的属性值数组
+     */
+    public void setDoubles(List<?> objs, final double[] values) {
+        final List<?> list = randomAccess(objs);
+        checkLength(list.size(), values.length);
+        forEach(values.length, new RangeAction() {
+            @Override
+            public void apply(int from, int to) {
+                for (int i = from; i < to; i++) {
+                    accessor.setDouble(list.get(i), values[i]);
+                }
+            }
+        });
+    }
+
+    /**
+     * 将 double 类型的值依次写入对象数组中每个对象的属性, 不创建包装类型对象
+     *
+     * @param objs   对象数组
+     * @param values 与对象数组一一对应的属性值数组
+     */
+    public void setDoubles(Object[] objs, double[] values) {
+        setDoubles(Arrays.asList(objs), values);
+    }
+
+    /**
+     * 设置执行并行任务的 ForkJoinPool, 默认使用 {@link ForkJoinPool#commonPool()}
+     *
+     * @param pool ForkJoinPool
+     * @return 返回当前对象
+     */
+    public FieldColumn forkJoinPool(ForkJoinPool pool) {
+        this.pool = pool;
+        return this;
+    }
+
+    /**
+     * 设置并行阈值, 对象数量达到此值时并行执行, 设为 Integer.MAX_VALUE 则总是顺序执行
+     *
+     * @param parallelThreshold 并行阈值
+     * @return 返回当前对象
+     */
+    public FieldColumn parallelThreshold(int parallelThreshold) {
+        if (parallelThreshold < 2) {
+            throw new IllegalArgumentException("parallel threshold must be greater than 1");
+        }
+        this.parallelThreshold = parallelThreshold;
+        return this;
+    }
+
+    /**
+     * 获取属性访问器
+     *
+     * @return 返回属性访问器
+     */
+    public FieldAccessor getAccessor() {
+        return accessor;
+    }
+
+    /**
+     * 对 [0, size) 区间执行操作, 达到并行阈值时拆分到 ForkJoinPool 中执行
+     *
+     * @param size   区间大小
+     * @param action 区间操作
+     */
+    private void forEach(int size, RangeAction action) {
+        if (size < parallelThreshold) {
+            action.apply(0, size);
+        } else {
+            pool.invoke(new RangeTask(action, 0, size, parallelThreshold / 2));
+        }
+    }
+
+    /**
+     * 获取支持按下标快速访问的列表, 不支持的列表复制为数组视图
+     *
+     * @param objs 对象列表
+     * @return 返回支持按下标快速访问的列表
+     */
+    private static List<?> randomAccess(List<?> objs) {
+        return objs instanceof RandomAccess ? objs : Arrays.asList(objs.toArray());
+    }
+
+    /**
+     * 检查对象数量与值的数量是否一致
+     *
+     * @param size   对象数量
+     * @param length 值的数量
+     */
+    private static void checkLength(int size, int length) {
+        if (size != length) {
+            throw new IllegalArgumentException("values length " + length + " does not match objects size " + size);
+        }
+    }
+
+    /**
+     * 区间操作
+     */
+    private interface RangeAction {
+
+        /**
+         * 对 [from, to) 区间执行操作
+         *
+         * @param from 起始下标(包含)
+         * @param to   结束下标(不包含)
+         */
+        void apply(int from, int to);
+
+    }
+
+    /**
+     * 按区间二分拆分的 ForkJoin 任务
+     */
+    private static final class RangeTask extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        /**
+         * 区间操作
+         */
+        private final RangeAction action;
+
+        /**
+         * 起始下标(包含)
+         */
+        private final int from;
+
+        /**
+         * 结束下标(不包含)
+         */
+        private final int to;
+
+        /**
+         * 不再拆分的区间大小
+         */
+        private final int grain;
+
+        /**
+         * 构建实例
+         *
+         * @param action 区间操作
+         * @param from   起始下标(包含)
+         * @param to     结束下标(不包含)
+         * @param grain  不再拆分的区间大小
+         */
+        private RangeTask(RangeAction action, int from, int to, int grain) {
+            this.action = action;
+            this.from = from;
+            this.to = to;
+            this.grain = grain;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= grain) {
+                action.apply(from, to);
+            } else {
+                int middle = (from + to) >>> 1;
+                invokeAll(new RangeTask(action, from, middle, grain), new RangeTask(action, middle, to, grain));
+            }
+        }
+
+    }
+
+}
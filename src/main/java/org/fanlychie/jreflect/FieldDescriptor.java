@@ -2,13 +2,13 @@ package org.fanlychie.jreflect;
 
 import org.fanlychie.jreflect.exception.FieldOperationException;
 import org.fanlychie.jreflect.exception.ReflectionCastException;
-import org.fanlychie.jreflect.util.PrimitiveWrapperTypeUtils;
 
 import java.lang.annotation.Annotation;
+import java.lang.invoke.VarHandle;
 import java.lang.reflect.Field;
 import java.lang.reflect.Modifier;
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 
@@ -39,9 +39,14 @@ public class FieldDescriptor {
     private Class<?> stopClass;
 
     /**
-     * 查找到的 <属性名称, 属性对象> Map
+     * 是否使用属性访问器读写属性
      */
-    private Map<String, Field> nameFieldMap;
+    private boolean fastAccessor;
+
+    /**
+     * 查找到的属性表, 按类型和注解查找的索引也建立在属性表上
+     */
+    private FieldTable fieldTable;
 
     /**
      * 构建实例
@@ -61,6 +66,9 @@ public class FieldDescriptor {
      * @return 返回对象属性的值
      */
     public <T> T getValueByName(Object obj, String name) {
+        if (fastAccessor) {
+            return getFieldAccessorByName(name).get(obj);
+        }
         try {
             return (T) getFieldByName(name).get(obj);
         } catch (IllegalAccessException e) {
@@ -77,8 +85,12 @@ public class FieldDescriptor {
      * @return 返回对象属性的值
      */
     public <T> T getValueByType(Object obj, Class<?> type) {
+        Field field = getFieldByType(type);
+        if (fastAccessor) {
+            return getNameAccessorMap().get(field.getName()).get(obj);
+        }
         try {
-            return (T) getFieldByType(type).get(obj);
+            return (T) field.get(obj);
         } catch (IllegalAccessException e) {
             throw new ReflectionCastException(e);
         }
@@ -92,6 +104,10 @@ public class FieldDescriptor {
      * @param value 值
      */
     public void setValueByName(Object obj, String name, Object value) {
+        if (fastAccessor) {
+            getFieldAccessorByName(name).set(obj, value);
+            return;
+        }
         try {
             getFieldByName(name).set(obj, value);
         } catch (IllegalAccessException e) {
@@ -106,22 +122,10 @@ public class FieldDescriptor {
      * @param value 值
      */
     public void setValueByType(Object obj, Object value) {
-        Field field = null;
-        FieldOperationException foe = null;
-        Class<?> valueType = value.getClass();
-        try {
-            field = getFieldByType(valueType);
-        } catch (FieldOperationException e) {
-            foe = e;
-            try {
-                Class<?> primitiveType = PrimitiveWrapperTypeUtils.getPrimitiveType(valueType);
-                if (primitiveType != null) {
-                    field = getFieldByType(primitiveType);
-                }
-            } catch (Exception ex) {}
-        }
-        if (field == null) {
-            throw foe;
+        Field field = getFieldTable().getFields().get(typePosition(getFieldTable().indexOfValueType(value.getClass()), value.getClass()));
+        if (fastAccessor) {
+            getNameAccessorMap().get(field.getName()).set(obj, value);
+            return;
         }
         try {
             field.set(obj, value);
@@ -131,22 +135,191 @@ public class FieldDescriptor {
     }
 
     /**
-     * 获取属性声明的注解表 <属性对象, 注解对象>
+     * 根据属性名称获取 boolean 类型属性的值, 不创建包装类型对象, 属性类型不是 boolean 时抛出异常
+     *
+     * @param obj  具体对象, 若操作类属性(静态属性), 此项可传 null
+     * @param name 属性名称
+     * @return 返回对象属性的值
+     */
+    public boolean getBoolean(Object obj, String name) {
+        return getFieldAccessorByName(name).getBoolean(obj);
+    }
+
+    /**
+     * 根据属性名称设置 boolean 类型属性的值, 不创建包装类型对象, 属性类型不是 boolean 时抛出异常
+     *
+     * @param obj   具体对象, 若操作类属性(静态属性), 此项可传 null
+     * @param name  属性名称
+     * @param value 值
+     */
+    public void setBoolean(Object obj, String name, boolean value) {
+        getFieldAccessorByName(name).setBoolean(obj, value);
+    }
+
+    /**
+     * 根据属性名称获取 byte 类型属性的值, 不创建包装类型对象, 属性类型不是 byte 时抛出异常
+     *
+     * @param obj  具体对象, 若操作类属性(静态属性), 此项可传 null
+     * @param name 属性名称
+     * @return 返回对象属性的值
+     */
+    public byte getByte(Object obj, String name) {
+        return getFieldAccessorByName(name).getByte(obj);
+    }
+
+    /**
+     * 根据属性名称设置 byte 类型属性的值, 不创建包装类型对象, 属性类型不是 byte 时抛出异常
+     *
+     * @param obj   具体对象, 若操作类属性(静态属性), 此项可传 null
+     * @param name  属性名称
+     * @param value 值
+     */
+    public void setByte(Object obj, String name, byte value) {
+        getFieldAccessorByName(name).setByte(obj, value);
+    }
+
+    /**
+     * 根据属性名称获取 char 类型属性的值, 不创建包装类型对象, 属性类型不是 char 时抛出异常
+     *
+     * @param obj  具体对象, 若操作类属性(静态属性), 此项可传 null
+     * @param name 属性名称
+     * @return 返回对象属性的值
+     */
+    public char getChar(Object obj, String name) {
+        return getFieldAccessorByName(name).getChar(obj);
+    }
+
+    /**
+     * 根据属性名称设置 char 类型属性的值, 不创建包装类型对象, 属性类型不是 char 时抛出异常
+     *
+     * @param obj   具体对象, 若操作类属性(静态属性), 此项可传 null
+     * @param name  属性名称
+     * @param value 值
+     */
+    public void setChar(Object obj, String name, char value) {
+        getFieldAccessorByName(name).setChar(obj, value);
+    }
+
+    /**
+     * 根据属性名称获取 short 类型属性的值, 不创建包装类型对象, 属性类型不是 short 时抛出异常
+     *
+     * @param obj  具体对象, 若操作类属性(静态属性), 此项可传 null
+     * @param name 属性名称
+     * @return 返回对象属性的值
+     */
+    public short getShort(Object obj, String name) {
+        return getFieldAccessorByName(name).getShort(obj);
+    }
+
+    /**
+     * 根据属性名称设置 short 类型属性的值, 不创建包装类型对象, 属性类型不是 short 时抛出异常
+     *
+     * @param obj   具体对象, 若操作类属性(静态属性), 此项可传 null
+     * @param name  属性名称
+     * @param value 值
+     */
+    public void setShort(Object obj, String name, short value) {
+        getFieldAccessorByName(name).setShort(obj, value);
+    }
+
+    /**
+     * 根据属性名称获取 int 类型属性的值, 不创建包装类型对象, 属性类型不是 int 时抛出异常
+     *
+     * @param obj  具体对象, 若操作类属性(静态属性), 此项可传 null
+     * @param name 属性名称
+     * @return 返回对象属性的值
+     */
+    public int getInt(Object obj, String name) {
+        return getFieldAccessorByName(name).getInt(obj);
+    }
+
+    /**
+     * 根据属性名称设置 int 类型属性的值, 不创建包装类型对象, 属性类型不是 int 时抛出异常
+     *
+     * @param obj   具体对象, 若操作类属性(静态属性), 此项可传 null
+     * @param name  属性名称
+     * @param value 值
+     */
+    public void setInt(Object obj, String name, int value) {
+        getFieldAccessorByName(name).setInt(obj, value);
+    }
+
+    /**
+     * 根据属性名称获取 long 类型属性的值, 不创建包装类型对象, 属性类型不是 long 时抛出异常
+     *
+     * @param obj  具体对象, 若操作类属性(静态属性), 此项可传 null
+     * @param name 属性名称
+     * @return 返回对象属性的值
+     */
+    public long getLong(Object obj, String name) {
+        return getFieldAccessorByName(name).getLong(obj);
+    }
+
+    /**
+     * 根据属性名称设置 long 类型属性的值, 不创建包装类型对象, 属性类型不是 long 时抛出异常
+     *
+     * @param obj   具体对象, 若操作类属性(静态属性), 此项可传 null
+     * @param name  属性名称
+     * @param value 值
+     */
+    public void setLong(Object obj, String name, long value) {
+        getFieldAccessorByName(name).setLong(obj, value);
+    }
+
+    /**
+     * 根据属性名称获取 float 类型属性的值, 不创建包装类型对象, 属性类型不是 float 时抛出异常
+     *
+     * @param obj  具体对象, 若操作类属性(静态属性), 此项可传 null
+     * @param name 属性名称
+     * @return 返回对象属性的值
+     */
+    public float getFloat(Object obj, String name) {
+        return getFieldAccessorByName(name).getFloat(obj);
+    }
+
+    /**
+     * 根据属性名称设置 float 类型属性的值, 不创建包装类型对象, 属性类型不是 float 时抛出异常
+     *
+     * @param obj   具体对象, 若操作类属性(静态属性), 此项可传 null
+     * @param name  属性名称
+     * @param value 值
+     */
+    public void setFloat(Object obj, String name, float value) {
+        getFieldAccessorByName(name).setFloat(obj, value);
+    }
+
+    /**
+     * 根据属性名称获取 double 类型属性的值, 不创建包装类型对象, 属性类型不是 double 时抛出异常
+     *
+     * @param obj  具体对象, 若操作类属性(静态属性), 此项可传 null
+     * @param name 属性名称
+     * @return 返回对象属性的值
+     */
+    public double getDouble(Object obj, String name) {
+        return getFieldAccessorByName(name).getDouble(obj);
+    }
+
+    /**
+     * 根据属性名称设置 double 类型属性的值, 不创建包装类型对象, 属性类型不是 double 时抛出异常
+     *
+     * @param obj   具体对象, 若操作类属性(静态属性), 此项可传 null
+     * @param name  属性名称
+     * @param value 值
+     */
+    public void setDouble(Object obj, String name, double value) {
+        getFieldAccessorByName(name).setDouble(obj, value);
+    }
+
+    /**
+     * 获取属性声明的注解表 <属性对象, 注解对象>, 每种注解类型只扫描一次属性, 之后返回缓存的结果.
+     * 需要包括元注解或方法、构造器上的注解时使用 {@link AnnotationIndex}
      *
      * @param annotationClass 注解类型
      * @param <T>             期望的返回值类型
-     * @return 返回参数给定的类型的注解表
+     * @return 返回参数给定的类型的只读的注解表, 按属性的查找顺序排列
      */
     public <T extends Annotation> Map<Field, T> getFieldAnnotationMap(Class<T> annotationClass) {
-        Map<Field, T> map = new HashMap<>();
-        List<Field> fields = getFields();
-        for (Field field : fields) {
-            T annotation = field.getAnnotation(annotationClass);
-            if (annotation != null) {
-                map.put(field, annotation);
-            }
-        }
-        return map;
+        return getFieldTable().getAnnotationMap(annotationClass);
     }
 
     /**
@@ -159,13 +332,51 @@ public class FieldDescriptor {
         if (name == null) {
             throw new NullPointerException();
         }
-        Field field = getNameFieldMap().get(name);
+        Field field = getFieldTable().get(name);
         if (field == null) {
             throw new FieldOperationException(name + " property can not be found in " + pojoClass);
         }
         return field;
     }
 
+    /**
+     * 根据名称获取属性访问器
+     *
+     * @param name 属性名称
+     * @return 返回得到的属性访问器
+     */
+    public FieldAccessor getFieldAccessorByName(String name) {
+        if (name == null) {
+            throw new NullPointerException();
+        }
+        FieldAccessor accessor = getFieldTable().getAccessor(name);
+        if (accessor == null) {
+            throw new FieldOperationException(name + " property can not be found in " + pojoClass);
+        }
+        return accessor;
+    }
+
+    /**
+     * 根据名称获取属性的 VarHandle, 用于以 volatile、acquire/release、opaque 语义读写属性, 或进行原子操作.
+     * VarHandle 随属性访问器缓存, 每个属性只解析一次, 常用的操作可直接使用 {@link FieldAccessor} 的同名方法
+     *
+     * @param name 属性名称
+     * @return 返回属性的 VarHandle
+     */
+    public VarHandle getVarHandleByName(String name) {
+        return getFieldAccessorByName(name).getVarHandle();
+    }
+
+    /**
+     * 根据名称获取属性列, 用于对一组对象的同一个属性进行批量读写
+     *
+     * @param name 属性名称
+     * @return 返回属性列
+     */
+    public FieldColumn getFieldColumn(String name) {
+        return new FieldColumn(getFieldAccessorByName(name));
+    }
+
     /**
      * 根据类型获取属性对象
      *
@@ -176,51 +387,43 @@ public class FieldDescriptor {
         if (type == null) {
             throw new NullPointerException();
         }
-        List<Field> fields = getFields();
-        List<Field> matches = new ArrayList<>();
-        for (Field field : fields) {
-            Class<?> fieldType = field.getType();
-            if (fieldType != Object.class && (PrimitiveWrapperTypeUtils.matche(fieldType, type) || fieldType.isAssignableFrom(type))) {
-                matches.add(field);
-            }
-        }
-        if (matches.isEmpty()) {
-            throw new FieldOperationException(type.getName() + " type property can not be found in " + pojoClass);
-        }
-        if (matches.size() > 1) {
-            throw new FieldOperationException("find more than one " + type.getName() + " type property in " + pojoClass);
-        }
-        return matches.get(0);
+        return getFieldTable().getFields().get(typePosition(getFieldTable().indexOfType(type), type));
     }
 
     /**
-     * 获取查找到的 <属性名称, 属性对象> Map
+     * 获取查找到的 <属性名称, 属性对象> Map, 按查找顺序迭代的只读视图
      *
      * @return 返回查找到的 <属性名称, 属性对象> Map
      */
     public Map<String, Field> getNameFieldMap() {
-        if (nameFieldMap == null) {
-            init();
-        }
-        return nameFieldMap;
+        return getFieldTable().getFieldMap();
     }
 
     /**
-     * 获取查找到的属性对象集合
+     * 获取 <属性名称, 属性访问器> Map, 按查找顺序迭代的只读视图, 属性访问器在首次获取时一次性创建
+     *
+     * @return 返回 <属性名称, 属性访问器> Map
+     */
+    public Map<String, FieldAccessor> getNameAccessorMap() {
+        return getFieldTable().getAccessorMap();
+    }
+
+    /**
+     * 获取查找到的属性对象集合, 按查找顺序(先子类后父类, 类内按声明顺序)排列的只读视图, 获取时不复制
      *
      * @return 返回查找到的属性对象集合
      */
     public List<Field> getFields() {
-        return new ArrayList<>(getNameFieldMap().values());
+        return getFieldTable().getFields();
     }
 
     /**
-     * 获取查找到的属性名称集合
+     * 获取查找到的属性名称集合, 与 {@link #getFields()} 的顺序一致的只读视图, 获取时不复制
      *
      * @return 返回查找到的属性名称集合
      */
     public List<String> getFieldNames() {
-        return new ArrayList<>(getNameFieldMap().keySet());
+        return getFieldTable().getNames();
     }
 
     /**
@@ -245,6 +448,18 @@ public class FieldDescriptor {
         return this;
     }
 
+    /**
+     * 设置是否使用属性访问器读写属性, 默认通过 Field.get/set 读写. 设为 true 时, 每个属性在首次使用前
+     * 转换为 {@link FieldAccessor}, 之后的读写接近直接访问属性的速度, 查找规则和抛出的异常保持不变
+     *
+     * @param fastAccessor 是否使用属性访问器读写属性
+     * @return 返回当前对象
+     */
+    public FieldDescriptor fastAccessor(boolean fastAccessor) {
+        this.fastAccessor = fastAccessor;
+        return this;
+    }
+
     /**
      * 在递归查找时, 遇到此类则终止
      *
@@ -263,10 +478,68 @@ public class FieldDescriptor {
      * @return 返回当前对象
      */
     FieldDescriptor init() {
-        this.nameFieldMap = lookupClassNameFieldMap(pojoClass);
+        return init(lookupClassFields(pojoClass));
+    }
+
+    /**
+     * 以已查找好的属性初始化, 属性必须已经设置为可访问
+     *
+     * @param fields 按查找顺序排列的属性, 同名的属性保留先出现的
+     * @return 返回当前对象
+     */
+    FieldDescriptor init(Collection<Field> fields) {
+        this.fieldTable = new FieldTable(fields);
+        if (fastAccessor) {
+            getNameAccessorMap();
+        }
         return this;
     }
 
+    /**
+     * 创建副本, 只复制查找和读写属性的设置, 副本与当前对象共享只读的属性表及建立在属性表上的按类型、注解查找的索引,
+     * 任一方建立的索引另一方直接复用. 修改副本的设置不影响当前对象
+     *
+     * @return 返回副本
+     */
+    FieldDescriptor copy() {
+        FieldDescriptor copy = new FieldDescriptor(pojoClass);
+        copy.accessibleStatic = accessibleStatic;
+        copy.accessibleSuperclass = accessibleSuperclass;
+        copy.stopClass = stopClass;
+        copy.fastAccessor = fastAccessor;
+        copy.fieldTable = getFieldTable();
+        return copy;
+    }
+
+    /**
+     * 获取属性表, 尚未初始化时进行初始化
+     *
+     * @return 返回属性表
+     */
+    private FieldTable getFieldTable() {
+        if (fieldTable == null) {
+            init();
+        }
+        return fieldTable;
+    }
+
+    /**
+     * 检查按类型查找到的属性的位置
+     *
+     * @param position 按类型查找到的属性的位置
+     * @param type     查找的类型
+     * @return 返回属性的位置, 若没有找到或找到多于1个, 则抛出异常
+     */
+    private int typePosition(int position, Class<?> type) {
+        if (position == FieldTable.NOT_FOUND) {
+            throw new FieldOperationException(type.getName() + " type property can not be found in " + pojoClass);
+        }
+        if (position == FieldTable.AMBIGUOUS) {
+            throw new FieldOperationException("find more than one " + type.getName() + " type property in " + pojoClass);
+        }
+        return position;
+    }
+
     /**
      * 判断属性是否为静态的
      *
@@ -299,23 +572,17 @@ public class FieldDescriptor {
     }
 
     /**
-     * 查找参数给定的类的 <属性名称, 属性对象> Map
+     * 查找参数给定的类的属性, 先子类后父类
      *
      * @param pojoClass POJO 类
-     * @return 返回参数给定的类的 <属性名称, 属性对象> Map
+     * @return 返回参数给定的类的属性列表
      */
-    private Map<String, Field> lookupClassNameFieldMap(Class<?> pojoClass) {
-        Map<String, Field> nameFieldMap = new HashMap<>();
+    private List<Field> lookupClassFields(Class<?> pojoClass) {
+        List<Field> fields = new ArrayList<>();
         do {
-            List<Field> fields = getClassDeclaredFields(pojoClass);
-            for (Field field : fields) {
-                String name = field.getName();
-                if (!nameFieldMap.containsKey(name)) {
-                    nameFieldMap.put(name, field);
-                }
-            }
-        } while (accessibleSuperclass && (pojoClass = pojoClass.getSuperclass()) != stopClass);
-        return nameFieldMap;
+            fields.addAll(getClassDeclaredFields(pojoClass));
+        } while (accessibleSuperclass && (pojoClass = pojoClass.getSuperclass()) != stopClass && pojoClass != null);
+        return fields;
     }
 
-}
\ No newline at end of file
+}
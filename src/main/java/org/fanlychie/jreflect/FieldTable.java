@@ -0,0 +1,421 @@
+package org.fanlychie.jreflect;
+
+import org.fanlychie.jreflect.util.PrimitiveWrapperTypeUtils;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Field;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * 属性表, 以数组按查找顺序(先子类后父类, 类内按声明顺序)紧凑地存放一个类的属性, 构建完成后不可修改.
+ * 按名称查找使用开放寻址的名称索引, 不创建任何对象; 属性列表、名称列表和各 Map 均为直接基于数组的只读视图, 获取时不复制.
+ * 按类型和注解查找的索引同样建立在属性表上, 共享同一属性表的字段描述符及其副本共用这些索引
+ * Created by fanlychie on 2026/10/16.
+ */
+final class FieldTable {
+
+    /**
+     * 属性数组
+     */
+    private final Field[] fields;
+
+    /**
+     * 属性名称数组, 与属性数组一一对应
+     */
+    private final String[] names;
+
+    /**
+     * 名称索引, 长度为 2 的幂, 存放属性的位置加 1, 0 表示空位
+     */
+    private final int[] index;
+
+    /**
+     * 属性列表视图
+     */
+    private final List<Field> fieldList;
+
+    /**
+     * 属性名称列表视图
+     */
+    private final List<String> nameList;
+
+    /**
+     * <属性名称, 属性对象> Map 视图
+     */
+    private final Map<String, Field> fieldMap;
+
+    /**
+     * 属性访问器数组, 首次获取时一次性创建
+     */
+    private volatile FieldAccessor[] accessors;
+
+    /**
+     * <属性名称, 属性访问器> Map 视图, 首次获取时创建
+     */
+    private volatile Map<String, FieldAccessor> accessorMap;
+
+    /**
+     * 按类型查找时没有匹配的属性
+     */
+    static final int NOT_FOUND = -1;
+
+    /**
+     * 按类型查找时匹配的属性多于1个
+     */
+    static final int AMBIGUOUS = -2;
+
+    /**
+     * <属性类型, 属性的位置> 索引, 按类型查找属性时逐步建立, 每个属性表只有一个.
+     * 以 ClassValue 弱关联查找的类型, 不会阻止其被卸载; 值只是位置, 不持有属性对象, 以免查找类型间接引用属性所属的类
+     */
+    private final ClassValue<Integer> typeIndex = new ClassValue<Integer>() {
+        @Override
+        protected Integer computeValue(Class<?> type) {
+            int found = NOT_FOUND;
+            for (int i = 0; i < fields.length; i++) {
+                Class<?> fieldType = fields[i].getType();
+                if (fieldType != Object.class && (PrimitiveWrapperTypeUtils.matche(fieldType, type) || fieldType.isAssignableFrom(type))) {
+                    if (found != NOT_FOUND) {
+                        return AMBIGUOUS;
+                    }
+                    found = i;
+                }
+            }
+            return found;
+        }
+    };
+
+    /**
+     * <属性值类型, 属性的位置> 索引, 包装类型的值没有匹配时, 按对应的基本数据类型再匹配一次, 同样以 ClassValue 弱关联值的类型
+     */
+    private final ClassValue<Integer> valueTypeIndex = new ClassValue<Integer>() {
+        @Override
+        protected Integer computeValue(Class<?> valueType) {
+            Integer position = typeIndex.get(valueType);
+            if (position < 0) {
+                Class<?> primitiveType = PrimitiveWrapperTypeUtils.getPrimitiveType(valueType);
+                if (primitiveType != null && typeIndex.get(primitiveType) >= 0) {
+                    position = typeIndex.get(primitiveType);
+                }
+            }
+            return position;
+        }
+    };
+
+    /**
+     * <注解类型, 只读的 <属性对象, 注解对象> Map> 索引, 按注解类型查找时逐步建立
+     */
+    private final ConcurrentMap<Class<?>, Map<Field, ?>> annotationIndex = new ConcurrentHashMap<>();
+
+    /**
+     * 构建实例, 同名的属性保留先出现的
+     *
+     * @param candidates 按查找顺序排列的属性, 必须已经设置为可访问
+     */
+    FieldTable(Collection<Field> candidates) {
+        Field[] fields = new Field[candidates.size()];
+        String[] names = new String[fields.length];
+        int[] index = new int[tableSize(fields.length)];
+        int size = 0;
+        for (Field field : candidates) {
+            String name = field.getName();
+            int slot = slot(index, names, name);
+            if (index[slot] == 0) {
+                fields[size] = field;
+                names[size] = name;
+                index[slot] = ++size;
+            }
+        }
+        this.fields = size == fields.length ? fields : Arrays.copyOf(fields, size);
+        this.names = size == names.length ? names : Arrays.copyOf(names, size);
+        this.index = index;
+        this.fieldList = Collections.unmodifiableList(Arrays.asList(this.fields));
+        this.nameList = Collections.unmodifiableList(Arrays.asList(this.names));
+        this.fieldMap = new TableMap<Field>() {
+            @Override
+            Field valueAt(int position) {
+                return FieldTable.this.fields[position];
+            }
+        };
+    }
+
+    /**
+     * 获取属性的数量
+     *
+     * @return 返回属性的数量
+     */
+    int size() {
+        return fields.length;
+    }
+
+    /**
+     * 获取属性名称的位置
+     *
+     * @param name 属性名称
+     * @return 返回属性的位置, 没有此名称的属性返回 -1
+     */
+    int indexOf(String name) {
+        return index[slot(index, names, name)] - 1;
+    }
+
+    /**
+     * 获取唯一可以赋值给参数给定的类型的属性的位置, 声明为 Object 的属性不参与匹配. 每种类型只扫描一次属性
+     *
+     * @param type 属性类型
+     * @return 返回属性的位置, 没有匹配返回 {@link #NOT_FOUND}, 匹配多于1个返回 {@link #AMBIGUOUS}
+     */
+    int indexOfType(Class<?> type) {
+        return typeIndex.get(type);
+    }
+
+    /**
+     * 获取唯一可以存放参数给定的类型的值的属性的位置, 包装类型的值没有匹配时按对应的基本数据类型匹配
+     *
+     * @param valueType 属性值的类型
+     * @return 返回属性的位置, 没有匹配返回 {@link #NOT_FOUND}, 匹配多于1个返回 {@link #AMBIGUOUS}
+     */
+    int indexOfValueType(Class<?> valueType) {
+        return valueTypeIndex.get(valueType);
+    }
+
+    /**
+     * 获取属性声明的注解表, 每种注解类型只扫描一次属性
+     *
+     * @param annotationClass 注解类型
+     * @param <T>             注解类型
+     * @return 返回只读的 <属性对象, 注解对象> Map, 按属性表的顺序排列
+     */
+    <T extends Annotation> Map<Field, T> getAnnotationMap(Class<T> annotationClass) {
+        Map<Field, T> map = (Map<Field, T>) annotationIndex.get(annotationClass);
+        if (map == null) {
+            map = new LinkedHashMap<>();
+            for (Field field : fields) {
+                T annotation = field.getAnnotation(annotationClass);
+                if (annotation != null) {
+                    map.put(field, annotation);
+                }
+            }
+            map = map.isEmpty() ? Collections.<Field, T>emptyMap() : Collections.unmodifiableMap(map);
+            annotationIndex.put(annotationClass, map);
+        }
+        return map;
+    }
+
+    /**
+     * 根据名称获取属性
+     *
+     * @param name 属性名称
+     * @return 返回属性对象, 没有此名称的属性返回 null
+     */
+    Field get(String name) {
+        int position = indexOf(name);
+        return position < 0 ? null : fields[position];
+    }
+
+    /**
+     * 根据名称获取属性访问器
+     *
+     * @param name 属性名称
+     * @return 返回属性访问器, 没有此名称的属性返回 null
+     */
+    FieldAccessor getAccessor(String name) {
+        int position = indexOf(name);
+        return position < 0 ? null : getAccessors()[position];
+    }
+
+    /**
+     * 获取属性列表的只读视图
+     *
+     * @return 返回属性列表
+     */
+    List<Field> getFields() {
+        return fieldList;
+    }
+
+    /**
+     * 获取属性名称列表的只读视图
+     *
+     * @return 返回属性名称列表
+     */
+    List<String> getNames() {
+        return nameList;
+    }
+
+    /**
+     * 获取 <属性名称, 属性对象> Map 的只读视图
+     *
+     * @return 返回 <属性名称, 属性对象> Map
+     */
+    Map<String, Field> getFieldMap() {
+        return fieldMap;
+    }
+
+    /**
+     * 获取 <属性名称, 属性访问器> Map 的只读视图, 属性访问器在首次获取时一次性创建
+     *
+     * @return 返回 <属性名称, 属性访问器> Map
+     */
+    Map<String, FieldAccessor> getAccessorMap() {
+        Map<String, FieldAccessor> map = accessorMap;
+        if (map == null) {
+            FieldAccessor[] accessors = getAccessors();
+            accessorMap = map = new TableMap<FieldAccessor>() {
+                @Override
+                FieldAccessor valueAt(int position) {
+                    return accessors[position];
+                }
+            };
+        }
+        return map;
+    }
+
+    /**
+     * 获取属性访问器数组, 首次获取时一次性创建
+     *
+     * @return 返回属性访问器数组
+     */
+    private FieldAccessor[] getAccessors() {
+        FieldAccessor[] accessors = this.accessors;
+        if (accessors == null) {
+            accessors = new FieldAccessor[fields.length];
+            for (int i = 0; i < accessors.length; i++) {
+                accessors[i] = new FieldAccessor(fields[i]);
+            }
+            this.accessors = accessors;
+        }
+        return accessors;
+    }
+
+    /**
+     * 计算名称索引的长度, 不小于属性数量的 2 倍的 2 的幂
+     *
+     * @param size 属性的数量
+     * @return 返回名称索引的长度
+     */
+    private static int tableSize(int size) {
+        return Integer.highestOneBit(Math.max(1, size) * 2 - 1) << 1;
+    }
+
+    /**
+     * 线性探测名称在索引中的位置
+     *
+     * @param index 名称索引
+     * @param names 属性名称数组
+     * @param name  属性名称
+     * @return 返回名称所在的位置, 名称不存在时返回探测到的空位
+     */
+    private static int slot(int[] index, String[] names, String name) {
+        int mask = index.length - 1;
+        int hash = name.hashCode();
+        int slot = (hash ^ (hash >>> 16)) & mask;
+        int position;
+        while ((position = index[slot]) != 0 && !names[position - 1].equals(name)) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    /**
+     * 基于属性表的只读 Map 视图, 按属性表的顺序迭代
+     *
+     * @param <V> 值类型
+     */
+    private abstract class TableMap<V> extends AbstractMap<String, V> {
+
+        /**
+         * 条目集合
+         */
+        private final Set<Map.Entry<String, V>> entrySet = new AbstractSet<Map.Entry<String, V>>() {
+            @Override
+            public Iterator<Map.Entry<String, V>> iterator() {
+                return new Iterator<Map.Entry<String, V>>() {
+
+                    private int position;
+
+                    @Override
+                    public boolean hasNext() {
+                        return position < names.length;
+                    }
+
+                    @Override
+                    public Map.Entry<String, V> next() {
+                        if (position >= names.length) {
+                            throw new NoSuchElementException();
+                        }
+                        int i = position++;
+                        return new SimpleImmutableEntry<>(names[i], valueAt(i));
+                    }
+
+                };
+            }
+
+            @Override
+            public int size() {
+                return names.length;
+            }
+        };
+
+        /**
+         * 获取参数给定的位置的值
+         *
+         * @param position 属性的位置
+         * @return 返回值
+         */
+        abstract V valueAt(int position);
+
+        @Override
+        public V get(Object key) {
+            int position = key instanceof String ? indexOf((String) key) : -1;
+            return position < 0 ? null : valueAt(position);
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return key instanceof String && indexOf((String) key) >= 0;
+        }
+
+        @Override
+        public int size() {
+            return names.length;
+        }
+
+        @Override
+        public Set<Map.Entry<String, V>> entrySet() {
+            return entrySet;
+        }
+
+        @Override
+        public Set<String> keySet() {
+            return new AbstractSet<String>() {
+                @Override
+                public Iterator<String> iterator() {
+                    return nameList.iterator();
+                }
+
+                @Override
+                public boolean contains(Object o) {
+                    return containsKey(o);
+                }
+
+                @Override
+                public int size() {
+                    return names.length;
+                }
+            };
+        }
+
+    }
+
+}
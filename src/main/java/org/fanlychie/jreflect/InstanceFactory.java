@@ -0,0 +1,160 @@
+package org.fanlychie.jreflect;
+
+import org.fanlychie.jreflect.exception.ReflectionCastException;
+import org.fanlychie.jreflect.util.MethodHandleUtils;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Modifier;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * 实例工厂, 将构造器编译为展开参数数组的 MethodHandle, 编译只在首次创建实例时进行一次.
+ * 无参构造器的工厂可作为 {@link Supplier} 使用, 有参构造器的工厂可作为 {@link Function} 使用
+ * Created by fanlychie on 2026/10/16.
+ */
+public final class InstanceFactory<T> implements Supplier<T>, Function<Object[], T> {
+
+    /**
+     * 空参数列表
+     */
+    private static final Object[] NO_ARGS = new Object[0];
+
+    /**
+     * 构造器
+     */
+    private final Constructor<T> constructor;
+
+    /**
+     * 编译后的句柄, 类型为 (Object[])Object
+     */
+    private volatile MethodHandle handle;
+
+    /**
+     * 调用计数器, 开启成员调用次数的统计后首次调用时获取
+     */
+    private LongAdder invocations;
+
+    /**
+     * 构建实例
+     *
+     * @param constructor 构造器, 必须已经设置为可访问
+     */
+    InstanceFactory(Constructor<T> constructor) {
+        this.constructor = constructor;
+    }
+
+    /**
+     * 创建实例, 异常的处理与 {@link Constructor#newInstance(Object...)} 保持一致,
+     * 构造器抛出的异常包装为 InvocationTargetException 后再包装为 {@link ReflectionCastException}
+     *
+     * @param argValues 构造器参数的值列表
+     * @return 返回创建的实例对象
+     */
+    public T newInstance(Object... argValues) {
+        if (ReflectionMetrics.invocationCounting) {
+            countInvocation();
+        }
+        MethodHandle handle = getHandle();
+        try {
+            return (T) (Object) handle.invokeExact(argValues);
+        } catch (InvocationTargetException e) {
+            throw new ReflectionCastException(e);
+        } catch (ClassCastException | NullPointerException e) {
+            throw new IllegalArgumentException("argument type mismatch", e);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("wrong number of arguments", e);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new ReflectionCastException(e);
+        }
+    }
+
+    /**
+     * 调用无参构造器创建实例
+     *
+     * @return 返回创建的实例对象
+     */
+    @Override
+    public T get() {
+        return newInstance(NO_ARGS);
+    }
+
+    /**
+     * 调用构造器创建实例
+     *
+     * @param argValues 构造器参数的值列表
+     * @return 返回创建的实例对象
+     */
+    @Override
+    public T apply(Object[] argValues) {
+        return newInstance(argValues);
+    }
+
+    /**
+     * 获取构造器
+     *
+     * @return 返回构造器
+     */
+    public Constructor<T> getConstructor() {
+        return constructor;
+    }
+
+    /**
+     * 调用次数加 1
+     */
+    private void countInvocation() {
+        LongAdder invocations = this.invocations;
+        if (invocations == null) {
+            this.invocations = invocations = ReflectionMetrics.invocationCounter(constructor);
+        }
+        invocations.increment();
+    }
+
+    /**
+     * 获取编译后的句柄, 首次获取时编译
+     *
+     * @return 返回编译后的句柄
+     */
+    MethodHandle getHandle() {
+        MethodHandle handle = this.handle;
+        if (handle == null) {
+            synchronized (this) {
+                handle = this.handle;
+                if (handle == null) {
+                    this.handle = handle = compile(constructor);
+                }
+            }
+        }
+        return handle;
+    }
+
+    /**
+     * 将构造器编译为 (Object[])Object 类型的句柄
+     *
+     * @param constructor 构造器
+     * @return 返回编译后的句柄
+     */
+    private static MethodHandle compile(Constructor<?> constructor) {
+        Class<?> declaringClass = constructor.getDeclaringClass();
+        if (Modifier.isAbstract(declaringClass.getModifiers())) {
+            throw new ReflectionCastException(new InstantiationException(declaringClass.getName()));
+        }
+        MethodHandle direct;
+        try {
+            direct = MethodHandles.lookup().unreflectConstructor(constructor).asFixedArity();
+        } catch (IllegalAccessException e) {
+            throw new ReflectionCastException(e);
+        }
+        return MethodHandleUtils.wrapTargetException(direct)
+                .asSpreader(Object[].class, constructor.getParameterTypes().length)
+                .asType(MethodType.methodType(Object.class, Object[].class));
+    }
+
+}
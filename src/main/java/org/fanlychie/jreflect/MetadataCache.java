@@ -0,0 +1,123 @@
+package org.fanlychie.jreflect;
+
+/**
+ * 类元数据缓存的管理. 本库的类加载器及其后代加载的类以类为弱键缓存, 元数据随所属的类一起被回收;
+ * JDK 的类和其它类加载器加载的类由本库持有, 不在这些类上留下引用本库的条目, 因此本库随应用重新部署时不会阻止旧的类加载器被卸载,
+ * 但无关的类加载器(如与本库平级的插件类加载器)被丢弃前须调用 {@link #invalidate(ClassLoader)}, 否则其类随本库存活.
+ * 默认不限制缓存的类的数量, 设置最大数量后, 超出时按淘汰策略一次淘汰一批, 直至不超过最大数量的九成.
+ * 重新部署时可按类加载器主动使缓存失效. 被淘汰或失效的类在下次使用时重新内省, 已经创建的描述符仍可继续使用
+ * Created by fanlychie on 2026/10/16.
+ */
+public final class MetadataCache {
+
+    /**
+     * 私有化构造器
+     */
+    private MetadataCache() {
+
+    }
+
+    /**
+     * 设置缓存的类的最大数量, 若当前数量已经超出, 则立即淘汰
+     *
+     * @param maximumSize 最大数量, 不大于 0 时不限制
+     */
+    public static void setMaximumSize(long maximumSize) {
+        ClassMetadata.maximumSize = maximumSize;
+        if (maximumSize > 0) {
+            ClassMetadata.evict(null);
+        }
+    }
+
+    /**
+     * 获取缓存的类的最大数量
+     *
+     * @return 返回最大数量, 不大于 0 表示不限制
+     */
+    public static long getMaximumSize() {
+        return ClassMetadata.maximumSize;
+    }
+
+    /**
+     * 设置淘汰策略, 默认为 {@link EvictionPolicy#LRU}
+     *
+     * @param evictionPolicy 淘汰策略
+     */
+    public static void setEvictionPolicy(EvictionPolicy evictionPolicy) {
+        if (evictionPolicy == null) {
+            throw new NullPointerException("evictionPolicy");
+        }
+        ClassMetadata.evictionPolicy = evictionPolicy;
+    }
+
+    /**
+     * 获取淘汰策略
+     *
+     * @return 返回淘汰策略
+     */
+    public static EvictionPolicy getEvictionPolicy() {
+        return ClassMetadata.evictionPolicy;
+    }
+
+    /**
+     * 获取缓存的类的数量
+     *
+     * @return 返回类的数量
+     */
+    public static int size() {
+        return ClassMetadata.size();
+    }
+
+    /**
+     * 获取被淘汰或失效的类的数量, 不包括随类卸载而回收的类
+     *
+     * @return 返回类的数量
+     */
+    public static long getEvictionCount() {
+        return ClassMetadata.evictionCount();
+    }
+
+    /**
+     * 使参数给定的类的缓存失效
+     *
+     * @param type 任意的 Class 类型
+     */
+    public static void invalidate(Class<?> type) {
+        ClassMetadata.invalidate(cachedType -> cachedType == type);
+    }
+
+    /**
+     * 使参数给定的类加载器加载的所有类的缓存失效, 用于卸载插件或重新部署之前.
+     * 类加载器不是本库的类加载器或其后代时, 丢弃前必须调用, 否则其类的元数据由本库持有而无法卸载
+     *
+     * @param classLoader 类加载器
+     */
+    public static void invalidate(ClassLoader classLoader) {
+        ClassMetadata.invalidate(cachedType -> cachedType.getClassLoader() == classLoader);
+    }
+
+    /**
+     * 使所有类的缓存失效
+     */
+    public static void invalidateAll() {
+        ClassMetadata.invalidate(cachedType -> true);
+    }
+
+    /**
+     * 淘汰策略. 访问记录是近似的, 只在限制最大数量时记录
+     */
+    public enum EvictionPolicy {
+
+        /**
+         * 最近最少使用, 优先淘汰最久没有被访问的类
+         */
+        LRU,
+
+        /**
+         * 最不经常使用, 优先淘汰被访问次数最少的类, 次数相同时淘汰最久没有被访问的类
+         */
+        LFU
+
+    }
+
+}
@@ -0,0 +1,205 @@
+package org.fanlychie.jreflect;
+
+import org.fanlychie.jreflect.util.ClassPathUtils;
+
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * 元数据预加载器, 在类首次使用之前提前完成内省, 填充 {@link BeanDescriptor}、{@link MethodDescriptor}、
+ * {@link ConstructorDescriptor} 和 {@link BeanIntrospector} 使用的所有类元数据, 避免首个请求承担内省的耗时.
+ * 每个类作为一个任务提交到执行器并行预加载, 预加载立即返回 {@link PreloadProgress}, 可通过它查看进度或等待完成
+ * Created by fanlychie on 2026/10/16.
+ */
+public final class MetadataPreloader {
+
+    /**
+     * 执行预加载任务的执行器
+     */
+    private Executor executor = ForkJoinPool.commonPool();
+
+    /**
+     * 是否同时构建属性访问器、方法调用器和实例工厂的句柄
+     */
+    private boolean fastAccessor;
+
+    /**
+     * 预加载监听器
+     */
+    private PreloadListener listener;
+
+    /**
+     * 设置执行预加载任务的执行器, 默认使用 {@link ForkJoinPool#commonPool()}
+     *
+     * @param executor 执行器
+     * @return 返回当前对象
+     */
+    public MetadataPreloader executor(Executor executor) {
+        this.executor = executor;
+        return this;
+    }
+
+    /**
+     * 设置是否同时构建属性访问器、方法调用器和实例工厂的句柄, 默认只完成内省, 句柄在首次使用时构建
+     *
+     * @param fastAccessor 是否构建句柄
+     * @return 返回当前对象
+     */
+    public MetadataPreloader fastAccessor(boolean fastAccessor) {
+        this.fastAccessor = fastAccessor;
+        return this;
+    }
+
+    /**
+     * 设置预加载监听器
+     *
+     * @param listener 预加载监听器
+     * @return 返回当前对象
+     */
+    public MetadataPreloader listener(PreloadListener listener) {
+        this.listener = listener;
+        return this;
+    }
+
+    /**
+     * 预加载类的元数据
+     *
+     * @param classes 类列表
+     * @return 返回预加载进度
+     */
+    public PreloadProgress preload(Class<?>... classes) {
+        return preload(Arrays.asList(classes));
+    }
+
+    /**
+     * 预加载类的元数据
+     *
+     * @param classes 类列表
+     * @return 返回预加载进度
+     */
+    public PreloadProgress preload(Collection<Class<?>> classes) {
+        PreloadProgress progress = new PreloadProgress(classes.size());
+        for (Class<?> type : classes) {
+            try {
+                executor.execute(() -> preload(type, progress));
+            } catch (RejectedExecutionException e) {
+                complete(type, 0, e, progress);
+            }
+        }
+        return progress;
+    }
+
+    /**
+     * 预加载类路径中参数给定的包及其子包下的所有类的元数据
+     *
+     * @param packageName 包名称, 如 org.fanlychie.jreflect
+     * @param classLoader 类加载器, 为 null 时使用当前线程的上下文类加载器
+     * @return 返回预加载进度
+     */
+    public PreloadProgress preloadPackage(String packageName, ClassLoader classLoader) {
+        return preload(ClassPathUtils.findClasses(packageName, classLoader));
+    }
+
+    /**
+     * 预加载一个类的元数据, 每一项元数据单独预加载, 某一项失败不影响其余各项.
+     * 无论以何种方式结束, 都会记录完成, 其它错误(如 {@link VirtualMachineError})记录为失败的原因后继续抛出
+     *
+     * @param type     类
+     * @param progress 预加载进度
+     */
+    private void preload(Class<?> type, PreloadProgress progress) {
+        long start = System.nanoTime();
+        Throwable failure = null;
+        try {
+            ClassMetadata metadata = ClassMetadata.forClass(type);
+            List<Runnable> steps = new ArrayList<>();
+            steps.add(() -> {
+                FieldDescriptor fieldDescriptor = metadata.get(BeanDescriptor.FIELD_DESCRIPTOR_KEY);
+                if (fastAccessor) {
+                    fieldDescriptor.getNameAccessorMap();
+                }
+            });
+            steps.add(() -> preloadMethods(metadata.get(MethodDescriptor.methodSignatureKey(false, null))));
+            steps.add(() -> preloadMethods(metadata.get(MethodDescriptor.methodSignatureKey(true, null))));
+            steps.add(() -> {
+                SignatureGroup<InstanceFactory<?>> constructorSignature = metadata.get(ConstructorDescriptor.CONSTRUCTOR_SIGNATURE_KEY);
+                if (fastAccessor && !Modifier.isAbstract(type.getModifiers())) {
+                    for (InstanceFactory<?> factory : constructorSignature.getMembers()) {
+                        factory.getHandle();
+                    }
+                }
+            });
+            steps.add(() -> metadata.get(BeanIntrospector.BEAN_MAPPER_KEY));
+            for (Runnable step : steps) {
+                try {
+                    step.run();
+                } catch (RuntimeException | LinkageError e) {
+                    failure = addFailure(failure, e);
+                }
+            }
+        } catch (Throwable e) {
+            failure = addFailure(failure, e);
+            throw e;
+        } finally {
+            complete(type, System.nanoTime() - start, failure, progress);
+        }
+    }
+
+    /**
+     * 合并失败的原因, 之后的失败作为首个失败的被抑制异常
+     *
+     * @param failure 已有的失败的原因, 可为 null
+     * @param e       新的失败的原因
+     * @return 返回合并后的失败的原因
+     */
+    private static Throwable addFailure(Throwable failure, Throwable e) {
+        if (failure == null) {
+            return e;
+        }
+        failure.addSuppressed(e);
+        return failure;
+    }
+
+    /**
+     * 构建方法调用器的句柄
+     *
+     * @param methodSignature 方法签名对照表
+     */
+    private void preloadMethods(Map<String, SignatureGroup<MethodInvoker>> methodSignature) {
+        if (fastAccessor) {
+            for (SignatureGroup<MethodInvoker> group : methodSignature.values()) {
+                for (MethodInvoker invoker : group.getMembers()) {
+                    invoker.getHandle();
+                }
+            }
+        }
+    }
+
+    /**
+     * 记录一个类预加载完成并通知监听器
+     *
+     * @param type     类
+     * @param nanos    预加载耗费的时间, 单位纳秒
+     * @param failure  失败的原因, 成功时为 null
+     * @param progress 预加载进度
+     */
+    private void complete(Class<?> type, long nanos, Throwable failure, PreloadProgress progress) {
+        progress.complete(type, failure);
+        PreloadListener listener = this.listener;
+        if (listener != null) {
+            if (failure == null) {
+                listener.loaded(type, nanos, progress);
+            } else {
+                listener.failed(type, failure, progress);
+            }
+        }
+    }
+
+}
@@ -0,0 +1,743 @@
+package org.fanlychie.jreflect;
+
+import org.fanlychie.jreflect.exception.ReflectionCastException;
+
+import java.beans.IndexedPropertyDescriptor;
+import java.beans.IntrospectionException;
+import java.beans.PropertyDescriptor;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Member;
+import java.lang.reflect.Method;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.zip.CRC32;
+
+/**
+ * 元数据快照, 将类的属性表、方法表、构造器表和 Bean 属性表写入紧凑的二进制文件,
+ * 启动时以流的方式加载并预置到类元数据中, 省去的是 java.beans.Introspector 的内省、成员的筛选排序和签名表的构建.
+ * 加载时仍需按名称逐个解析成员(getDeclaredField、getDeclaredMethod、getDeclaredConstructor 同样会填充 JDK 的反射数据),
+ * 并读取类及其父类、接口的类文件计算 CRC32 校验值, 校验值不一致的条目(类已被修改)直接跳过,
+ * 这些类在首次使用时按正常的方式内省. 实际的启动收益以 jreflect-benchmarks 中的 MetadataSnapshotBenchmark 为准.
+ * 快照只对写入时的 JDK 版本有效, JDK 版本不同时整个快照被忽略
+ * Created by fanlychie on 2026/10/16.
+ */
+public final class MetadataSnapshot {
+
+    /**
+     * 文件标识
+     */
+    private static final int MAGIC = 0x4A524D53;
+
+    /**
+     * 文件格式版本
+     */
+    private static final int VERSION = 1;
+
+    /**
+     * 属性表段标记
+     */
+    private static final int FIELDS = 1;
+
+    /**
+     * 方法表段标记
+     */
+    private static final int METHODS = 2;
+
+    /**
+     * 构造器表段标记
+     */
+    private static final int CONSTRUCTORS = 4;
+
+    /**
+     * Bean 属性表段标记
+     */
+    private static final int PROPERTIES = 8;
+
+    /**
+     * <基本数据类型名称, 基本数据类型> Map
+     */
+    private static final Map<String, Class<?>> PRIMITIVE_TYPES = new HashMap<>();
+
+    static {
+        for (Class<?> type : new Class<?>[]{boolean.class, byte.class, char.class, short.class,
+                int.class, long.class, float.class, double.class, void.class}) {
+            PRIMITIVE_TYPES.put(type.getName(), type);
+        }
+    }
+
+    /**
+     * 私有化构造器
+     */
+    private MetadataSnapshot() {
+
+    }
+
+    /**
+     * 将类的元数据写入快照文件, 尚未内省的类在写入前先进行内省
+     *
+     * @param path    快照文件路径
+     * @param classes 类列表
+     * @return 返回写入快照的类的数量
+     */
+    public static int write(Path path, Collection<Class<?>> classes) {
+        try (OutputStream out = Files.newOutputStream(path)) {
+            return write(out, classes);
+        } catch (IOException e) {
+            throw new ReflectionCastException(e);
+        }
+    }
+
+    /**
+     * 将类的元数据写入输出流, 尚未内省的类在写入前先进行内省. 无法读取字节码的类(如运行时生成的类)不写入快照
+     *
+     * @param out     输出流, 写入完成后不关闭
+     * @param classes 类列表
+     * @return 返回写入快照的类的数量
+     */
+    public static int write(OutputStream out, Collection<Class<?>> classes) {
+        try {
+            StringTable strings = new StringTable();
+            ByteArrayOutputStream body = new ByteArrayOutputStream();
+            DataOutputStream data = new DataOutputStream(body);
+            Map<Class<?>, Long> crcs = new HashMap<>();
+            int count = 0;
+            for (Class<?> type : classes) {
+                if (type.isPrimitive() || type.isArray()) {
+                    continue;
+                }
+                long hash = bytecodeHash(type, crcs);
+                if (hash == 0) {
+                    continue;
+                }
+                writeClass(data, strings, type, hash);
+                count++;
+            }
+            data.flush();
+            DataOutputStream header = new DataOutputStream(new BufferedOutputStream(out));
+            header.writeInt(MAGIC);
+            header.writeShort(VERSION);
+            header.writeUTF(System.getProperty("java.version"));
+            writeVarint(header, strings.values.size());
+            for (String value : strings.values) {
+                header.writeUTF(value);
+            }
+            writeVarint(header, count);
+            body.writeTo(header);
+            header.flush();
+            return count;
+        } catch (IOException e) {
+            throw new ReflectionCastException(e);
+        }
+    }
+
+    /**
+     * 加载快照文件, 将校验通过的类的元数据预置到类元数据中
+     *
+     * @param path        快照文件路径
+     * @param classLoader 加载快照中的类的类加载器, 为 null 时使用当前线程的上下文类加载器
+     * @return 返回预置了元数据的类的数量
+     */
+    public static int load(Path path, ClassLoader classLoader) {
+        try (InputStream in = Files.newInputStream(path)) {
+            return load(in, classLoader);
+        } catch (IOException e) {
+            throw new ReflectionCastException(e);
+        }
+    }
+
+    /**
+     * 从输入流加载快照, 将校验通过的类的元数据预置到类元数据中.
+     * 类不存在、字节码校验值不一致或成员无法解析的条目被跳过, 已经内省过的元数据不会被覆盖
+     *
+     * @param in          输入流, 读取完成后不关闭
+     * @param classLoader 加载快照中的类的类加载器, 为 null 时使用当前线程的上下文类加载器
+     * @return 返回预置了元数据的类的数量, 若不是快照文件或快照由其它版本的 JDK 写入, 则返回 0
+     */
+    public static int load(InputStream in, ClassLoader classLoader) {
+        if (classLoader == null) {
+            classLoader = Thread.currentThread().getContextClassLoader();
+        }
+        try {
+            DataInputStream data = new DataInputStream(new BufferedInputStream(in));
+            if (data.readInt() != MAGIC || data.readUnsignedShort() != VERSION
+                    || !data.readUTF().equals(System.getProperty("java.version"))) {
+                return 0;
+            }
+            String[] strings = new String[readVarint(data)];
+            for (int i = 0; i < strings.length; i++) {
+                strings[i] = data.readUTF();
+            }
+            Map<Class<?>, Long> crcs = new HashMap<>();
+            int count = readVarint(data);
+            int loaded = 0;
+            for (int i = 0; i < count; i++) {
+                ClassRecord record = readClass(data, strings);
+                if (record.install(classLoader, crcs)) {
+                    loaded++;
+                }
+            }
+            return loaded;
+        } catch (IOException e) {
+            throw new ReflectionCastException(e);
+        }
+    }
+
+    /**
+     * 写入一个类的条目, 内省失败的段不写入
+     *
+     * @param data    输出
+     * @param strings 字符串表
+     * @param type    类
+     * @param hash    字节码校验值
+     */
+    private static void writeClass(DataOutput data, StringTable strings, Class<?> type, long hash) throws IOException {
+        ClassMetadata metadata = ClassMetadata.forClass(type);
+        Collection<Field> fields = null;
+        List<Method> methods = null;
+        List<Constructor<?>> constructors = null;
+        Collection<PropertyDescriptor> properties = null;
+        try {
+            fields = metadata.get(BeanDescriptor.FIELD_DESCRIPTOR_KEY).getNameFieldMap().values();
+        } catch (RuntimeException e) {
+            fields = null;
+        }
+        try {
+            methods = new ArrayList<>();
+            for (SignatureGroup<MethodInvoker> group : metadata.get(MethodDescriptor.methodSignatureKey(true, null)).values()) {
+                for (MethodInvoker invoker : group.getMembers()) {
+                    methods.add(invoker.getMethod());
+                }
+            }
+        } catch (RuntimeException e) {
+            methods = null;
+        }
+        try {
+            constructors = new ArrayList<>();
+            for (InstanceFactory<?> factory : metadata.get(ConstructorDescriptor.CONSTRUCTOR_SIGNATURE_KEY).getMembers()) {
+                constructors.add(factory.getConstructor());
+            }
+        } catch (RuntimeException e) {
+            constructors = null;
+        }
+        try {
+            properties = metadata.get(BeanIntrospector.NAME_PROPERTY_DESCRIPTOR_KEY).getPropertyDescriptors();
+            for (PropertyDescriptor property : properties) {
+                if (property instanceof IndexedPropertyDescriptor) {
+                    properties = null;
+                    break;
+                }
+            }
+        } catch (RuntimeException e) {
+            properties = null;
+        }
+        writeVarint(data, strings.indexOf(type.getName()));
+        data.writeLong(hash);
+        data.writeByte((fields != null ? FIELDS : 0) | (methods != null ? METHODS : 0)
+                | (constructors != null ? CONSTRUCTORS : 0) | (properties != null ? PROPERTIES : 0));
+        if (fields != null) {
+            writeVarint(data, fields.size());
+            for (Field field : fields) {
+                writeVarint(data, strings.indexOf(field.getDeclaringClass().getName()));
+                writeVarint(data, strings.indexOf(field.getName()));
+            }
+        }
+        if (methods != null) {
+            writeVarint(data, methods.size());
+            for (Method method : methods) {
+                writeMember(data, strings, method, method.getParameterTypes());
+            }
+        }
+        if (constructors != null) {
+            writeVarint(data, constructors.size());
+            for (Constructor<?> constructor : constructors) {
+                writeTypes(data, strings, constructor.getParameterTypes());
+            }
+        }
+        if (properties != null) {
+            writeVarint(data, properties.size());
+            for (PropertyDescriptor property : properties) {
+                writeVarint(data, strings.indexOf(property.getName()));
+                Method readMethod = property.getReadMethod();
+                Method writeMethod = property.getWriteMethod();
+                data.writeByte((readMethod != null ? 1 : 0) | (writeMethod != null ? 2 : 0));
+                if (readMethod != null) {
+                    writeMember(data, strings, readMethod, readMethod.getParameterTypes());
+                }
+                if (writeMethod != null) {
+                    writeMember(data, strings, writeMethod, writeMethod.getParameterTypes());
+                }
+            }
+        }
+    }
+
+    /**
+     * 读取一个类的条目
+     *
+     * @param data    输入
+     * @param strings 字符串表
+     * @return 返回类的条目
+     */
+    private static ClassRecord readClass(DataInput data, String[] strings) throws IOException {
+        ClassRecord record = new ClassRecord(strings[readVarint(data)], data.readLong());
+        int sections = data.readUnsignedByte();
+        if ((sections & FIELDS) != 0) {
+            record.fields = new MemberRecord[readVarint(data)];
+            for (int i = 0; i < record.fields.length; i++) {
+                record.fields[i] = new MemberRecord(strings[readVarint(data)], strings[readVarint(data)], null);
+            }
+        }
+        if ((sections & METHODS) != 0) {
+            record.methods = new MemberRecord[readVarint(data)];
+            for (int i = 0; i < record.methods.length; i++) {
+                record.methods[i] = readMember(data, strings);
+            }
+        }
+        if ((sections & CONSTRUCTORS) != 0) {
+            record.constructors = new String[readVarint(data)][];
+            for (int i = 0; i < record.constructors.length; i++) {
+                record.constructors[i] = readTypes(data, strings);
+            }
+        }
+        if ((sections & PROPERTIES) != 0) {
+            int size = readVarint(data);
+            record.propertyNames = new String[size];
+            record.readMethods = new MemberRecord[size];
+            record.writeMethods = new MemberRecord[size];
+            for (int i = 0; i < size; i++) {
+                record.propertyNames[i] = strings[readVarint(data)];
+                int accessors = data.readUnsignedByte();
+                if ((accessors & 1) != 0) {
+                    record.readMethods[i] = readMember(data, strings);
+                }
+                if ((accessors & 2) != 0) {
+                    record.writeMethods[i] = readMember(data, strings);
+                }
+            }
+        }
+        return record;
+    }
+
+    /**
+     * 写入方法
+     *
+     * @param data           输出
+     * @param strings        字符串表
+     * @param member         方法
+     * @param parameterTypes 方法的参数类型列表
+     */
+    private static void writeMember(DataOutput data, StringTable strings, Member member, Class<?>[] parameterTypes) throws IOException {
+        writeVarint(data, strings.indexOf(member.getDeclaringClass().getName()));
+        writeVarint(data, strings.indexOf(member.getName()));
+        writeTypes(data, strings, parameterTypes);
+    }
+
+    /**
+     * 读取方法
+     *
+     * @param data    输入
+     * @param strings 字符串表
+     * @return 返回方法的条目
+     */
+    private static MemberRecord readMember(DataInput data, String[] strings) throws IOException {
+        return new MemberRecord(strings[readVarint(data)], strings[readVarint(data)], readTypes(data, strings));
+    }
+
+    /**
+     * 写入参数类型列表
+     *
+     * @param data    输出
+     * @param strings 字符串表
+     * @param types   参数类型列表
+     */
+    private static void writeTypes(DataOutput data, StringTable strings, Class<?>[] types) throws IOException {
+        writeVarint(data, types.length);
+        for (Class<?> type : types) {
+            writeVarint(data, strings.indexOf(type.getName()));
+        }
+    }
+
+    /**
+     * 读取参数类型列表
+     *
+     * @param data    输入
+     * @param strings 字符串表
+     * @return 返回参数类型名称列表
+     */
+    private static String[] readTypes(DataInput data, String[] strings) throws IOException {
+        String[] types = new String[readVarint(data)];
+        for (int i = 0; i < types.length; i++) {
+            types[i] = strings[readVarint(data)];
+        }
+        return types;
+    }
+
+    /**
+     * 以变长编码写入非负整数
+     *
+     * @param data  输出
+     * @param value 非负整数
+     */
+    private static void writeVarint(DataOutput data, int value) throws IOException {
+        while ((value & ~0x7F) != 0) {
+            data.writeByte((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        data.writeByte(value);
+    }
+
+    /**
+     * 读取变长编码的非负整数
+     *
+     * @param data 输入
+     * @return 返回非负整数
+     */
+    private static int readVarint(DataInput data) throws IOException {
+        int value = 0;
+        for (int shift = 0; ; shift += 7) {
+            int b = data.readUnsignedByte();
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+    }
+
+    /**
+     * 计算类的字节码校验值, 由类及其所有父类、接口的字节码的 CRC32 值组合而成, 启动类加载器加载的类由 JDK 版本保证不变, 不参与计算
+     *
+     * @param type 类
+     * @param crcs 已计算的 <类, 字节码 CRC32 值> 缓存
+     * @return 返回字节码校验值, 若有类的字节码无法读取, 则返回 0
+     */
+    private static long bytecodeHash(Class<?> type, Map<Class<?>, Long> crcs) throws IOException {
+        Set<Class<?>> hierarchy = new LinkedHashSet<>();
+        collectHierarchy(type, hierarchy);
+        long hash = 1;
+        for (Class<?> current : hierarchy) {
+            ClassLoader classLoader = current.getClassLoader();
+            if (classLoader == null) {
+                continue;
+            }
+            Long crc = crcs.get(current);
+            if (crc == null) {
+                crc = classFileCrc(current, classLoader);
+                crcs.put(current, crc);
+            }
+            if (crc < 0) {
+                return 0;
+            }
+            hash = 31 * hash + crc;
+        }
+        return hash;
+    }
+
+    /**
+     * 收集类及其所有父类、接口
+     *
+     * @param type      类
+     * @param hierarchy 收集的结果
+     */
+    private static void collectHierarchy(Class<?> type, Set<Class<?>> hierarchy) {
+        if (type == null || !hierarchy.add(type)) {
+            return;
+        }
+        collectHierarchy(type.getSuperclass(), hierarchy);
+        for (Class<?> interfaceType : type.getInterfaces()) {
+            collectHierarchy(interfaceType, hierarchy);
+        }
+    }
+
+    /**
+     * 计算类文件的 CRC32 值
+     *
+     * @param type        类
+     * @param classLoader 类的类加载器
+     * @return 返回类文件的 CRC32 值, 若类文件无法读取, 则返回 -1
+     */
+    private static long classFileCrc(Class<?> type, ClassLoader classLoader) throws IOException {
+        InputStream in = classLoader.getResourceAsStream(type.getName().replace('.', '/') + ".class");
+        if (in == null) {
+            return -1;
+        }
+        try {
+            CRC32 crc = new CRC32();
+            byte[] buffer = new byte[8192];
+            int length;
+            while ((length = in.read(buffer)) > 0) {
+                crc.update(buffer, 0, length);
+            }
+            return crc.getValue();
+        } finally {
+            in.close();
+        }
+    }
+
+    /**
+     * 根据名称加载类, 不初始化类
+     *
+     * @param name        类名称
+     * @param classLoader 类加载器
+     * @return 返回类
+     */
+    private static Class<?> loadClass(String name, ClassLoader classLoader) throws ClassNotFoundException {
+        Class<?> type = PRIMITIVE_TYPES.get(name);
+        return type != null ? type : Class.forName(name, false, classLoader);
+    }
+
+    /**
+     * 根据名称加载类型列表
+     *
+     * @param names       类型名称列表
+     * @param classLoader 类加载器
+     * @return 返回类型列表
+     */
+    private static Class<?>[] loadClasses(String[] names, ClassLoader classLoader) throws ClassNotFoundException {
+        Class<?>[] types = new Class<?>[names.length];
+        for (int i = 0; i < types.length; i++) {
+            types[i] = loadClass(names[i], classLoader);
+        }
+        return types;
+    }
+
+    /**
+     * 字符串表, 快照中的类名、成员名只写入一次, 其余位置以序号引用
+     */
+    private static final class StringTable {
+
+        /**
+         * <字符串, 序号> Map
+         */
+        private final Map<String, Integer> indexes = new LinkedHashMap<>();
+
+        /**
+         * 按序号排列的字符串
+         */
+        private final List<String> values = new ArrayList<>();
+
+        /**
+         * 获取字符串的序号, 首次出现时加入字符串表
+         *
+         * @param value 字符串
+         * @return 返回序号
+         */
+        private int indexOf(String value) {
+            Integer index = indexes.get(value);
+            if (index == null) {
+                index = values.size();
+                indexes.put(value, index);
+                values.add(value);
+            }
+            return index;
+        }
+
+    }
+
+    /**
+     * 成员的条目, 由声明成员的类名、成员名和参数类型名组成
+     */
+    private static final class MemberRecord {
+
+        /**
+         * 声明成员的类名
+         */
+        private final String declaringClass;
+
+        /**
+         * 成员名
+         */
+        private final String name;
+
+        /**
+         * 参数类型名, 属性为 null
+         */
+        private final String[] parameterTypes;
+
+        /**
+         * 构建实例
+         *
+         * @param declaringClass 声明成员的类名
+         * @param name           成员名
+         * @param parameterTypes 参数类型名, 属性为 null
+         */
+        private MemberRecord(String declaringClass, String name, String[] parameterTypes) {
+            this.declaringClass = declaringClass;
+            this.name = name;
+            this.parameterTypes = parameterTypes;
+        }
+
+        /**
+         * 解析为属性对象
+         *
+         * @param classLoader 类加载器
+         * @return 返回属性对象
+         */
+        private Field toField(ClassLoader classLoader) throws ReflectiveOperationException {
+            return loadClass(declaringClass, classLoader).getDeclaredField(name);
+        }
+
+        /**
+         * 解析为方法对象
+         *
+         * @param classLoader 类加载器
+         * @return 返回方法对象
+         */
+        private Method toMethod(ClassLoader classLoader) throws ReflectiveOperationException {
+            return loadClass(declaringClass, classLoader).getDeclaredMethod(name, loadClasses(parameterTypes, classLoader));
+        }
+
+    }
+
+    /**
+     * 类的条目, 未写入的段为 null
+     */
+    private static final class ClassRecord {
+
+        /**
+         * 类名
+         */
+        private final String className;
+
+        /**
+         * 字节码校验值
+         */
+        private final long hash;
+
+        /**
+         * 属性表
+         */
+        private MemberRecord[] fields;
+
+        /**
+         * 方法表
+         */
+        private MemberRecord[] methods;
+
+        /**
+         * 构造器参数类型名表
+         */
+        private String[][] constructors;
+
+        /**
+         * Bean 属性名称
+         */
+        private String[] propertyNames;
+
+        /**
+         * Bean 属性的读方法, 与属性名称一一对应
+         */
+        private MemberRecord[] readMethods;
+
+        /**
+         * Bean 属性的写方法, 与属性名称一一对应
+         */
+        private MemberRecord[] writeMethods;
+
+        /**
+         * 构建实例
+         *
+         * @param className 类名
+         * @param hash      字节码校验值
+         */
+        private ClassRecord(String className, long hash) {
+            this.className = className;
+            this.hash = hash;
+        }
+
+        /**
+         * 校验字节码并解析所有成员, 全部成功后才预置到类元数据中.
+         * 方法表同时预置递归查找父类和只查找本类(MethodDescriptor 的默认范围)两种范围
+         *
+         * @param classLoader 类加载器
+         * @param crcs        已计算的 <类, 字节码 CRC32 值> 缓存
+         * @return 预置成功返回 true, 否则返回 false
+         */
+        private boolean install(ClassLoader classLoader, Map<Class<?>, Long> crcs) throws IOException {
+            List<Field> fieldList = null;
+            List<Method> methodList = null;
+            Constructor<?>[] constructorArray = null;
+            PropertyDescriptor[] properties = null;
+            Class<?> type;
+            try {
+                type = loadClass(className, classLoader);
+                if (bytecodeHash(type, crcs) != hash) {
+                    return false;
+                }
+                ClassLoader loader = type.getClassLoader();
+                if (fields != null) {
+                    fieldList = new ArrayList<>(fields.length);
+                    for (MemberRecord record : fields) {
+                        Field field = record.toField(loader);
+                        field.setAccessible(true);
+                        fieldList.add(field);
+                    }
+                }
+                if (methods != null) {
+                    methodList = new ArrayList<>(methods.length);
+                    for (MemberRecord record : methods) {
+                        Method method = record.toMethod(loader);
+                        method.setAccessible(true);
+                        methodList.add(method);
+                    }
+                }
+                if (constructors != null) {
+                    constructorArray = new Constructor<?>[constructors.length];
+                    for (int i = 0; i < constructors.length; i++) {
+                        constructorArray[i] = type.getDeclaredConstructor(loadClasses(constructors[i], loader));
+                    }
+                }
+                if (propertyNames != null) {
+                    properties = new PropertyDescriptor[propertyNames.length];
+                    for (int i = 0; i < properties.length; i++) {
+                        properties[i] = new PropertyDescriptor(propertyNames[i],
+                                readMethods[i] != null ? readMethods[i].toMethod(loader) : null,
+                                writeMethods[i] != null ? writeMethods[i].toMethod(loader) : null);
+                    }
+                }
+            } catch (ReflectiveOperationException | IntrospectionException | LinkageError | RuntimeException e) {
+                return false;
+            }
+            ClassMetadata metadata = ClassMetadata.forClass(type);
+            if (fieldList != null) {
+                metadata.preset(BeanDescriptor.FIELD_DESCRIPTOR_KEY, BeanDescriptor.newFieldDescriptor(type).init(fieldList));
+            }
+            if (methodList != null) {
+                metadata.preset(MethodDescriptor.methodSignatureKey(true, null), MethodDescriptor.toMethodSignature(type, methodList));
+                List<Method> declaredMethods = new ArrayList<>();
+                for (Method method : methodList) {
+                    if (method.getDeclaringClass() == type) {
+                        declaredMethods.add(method);
+                    }
+                }
+                metadata.preset(MethodDescriptor.methodSignatureKey(false, null), MethodDescriptor.toMethodSignature(type, declaredMethods));
+            }
+            if (constructorArray != null) {
+                metadata.preset(ConstructorDescriptor.CONSTRUCTOR_SIGNATURE_KEY, ConstructorDescriptor.toConstructorSignature(type, constructorArray));
+            }
+            if (properties != null) {
+                metadata.preset(BeanIntrospector.NAME_PROPERTY_DESCRIPTOR_KEY, new BeanIntrospector.NamePropertyDescriptor(properties));
+            }
+            return true;
+        }
+
+    }
+
+}
@@ -0,0 +1,54 @@
+package org.fanlychie.jreflect;
+
+import org.fanlychie.jreflect.util.MethodSignatureUtils;
+
+/**
+ * 方法调用点, 绑定类中的一组同名方法, 并内联缓存此调用点最近一次参数值的运行时类型元组及其选择的方法.
+ * 调用方在固定位置持有调用点, 参数值的类型元组不变时, 无论是否与方法的参数类型一致或含有 null,
+ * 每次调用只需逐个比较一次参数值的类型, 不创建任何对象; 元组变化时按
+ * {@link MethodDescriptor#invokeMethod(String, Object...)} 的规则选择方法, 并从缓存中取得选择的结果
+ * Created by fanlychie on 2026/10/16.
+ */
+public final class MethodCallSite {
+
+    /**
+     * 同名方法的签名组
+     */
+    private final SignatureGroup<MethodInvoker> group;
+
+    /**
+     * 此调用点最近一次的绑定
+     */
+    private volatile SignatureGroup.Binding<MethodInvoker> last;
+
+    /**
+     * 构建实例
+     *
+     * @param group 同名方法的签名组
+     */
+    MethodCallSite(SignatureGroup<MethodInvoker> group) {
+        this.group = group;
+    }
+
+    /**
+     * 调用方法
+     *
+     * @param target    目标对象, 若调用静态方法, 此项可传 null
+     * @param argValues 方法参数的值列表
+     * @param <T>       期望返回的数据类型
+     * @return 返回方法调用的结果
+     */
+    public <T> T invoke(Object target, Object... argValues) {
+        SignatureGroup.Binding<MethodInvoker> binding = last;
+        if (binding == null || !binding.matches(argValues)) {
+            binding = group.bind(argValues);
+            last = binding;
+        }
+        SignatureGroup.Entry<MethodInvoker> entry = binding.getEntry();
+        if (entry == null) {
+            throw MethodSignatureUtils.methodOperationException(group.getName(), argValues);
+        }
+        return entry.getMember().invoke(target, entry.arguments(argValues));
+    }
+
+}
@@ -1,9 +1,7 @@
 package org.fanlychie.jreflect;
 
-import org.fanlychie.jreflect.exception.ReflectionCastException;
 import org.fanlychie.jreflect.util.MethodSignatureUtils;
 
-import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -37,14 +35,9 @@ public class MethodDescriptor {
     private Class<?> stopClass;
 
     /**
-     * 方法签名对照表
+     * <方法名称, 同名方法的签名组> 对照表
      */
-    private Map<String, Method> methodSignature;
-
-    /**
-     * 内存缓存
-     */
-    private static final Map<Class<?>, Map<String, Method>> CLASS_METHOD_DESCRIPTOR_CACHE = new HashMap<>();
+    private Map<String, SignatureGroup<MethodInvoker>> methodSignature;
 
     /**
      * 构建实例
@@ -61,7 +54,8 @@ public class MethodDescriptor {
     }
 
     /**
-     * 调用方法
+     * 调用方法. 参数值的类型与方法的参数类型不完全一致时, 按与 Java 编译器相近的规则在同名方法中选择最具体的一个,
+     * 支持传入参数类型的子类型、null 和可变参数, 选择的结果按参数值的类型元组缓存
      *
      * @param methodName 方法名称
      * @param argValues  方法参数的值列表
@@ -69,16 +63,42 @@ public class MethodDescriptor {
      * @return 返回方法调用的结果
      */
     public <T> T invokeMethod(String methodName, Object... argValues) {
-        String signature = MethodSignatureUtils.hashCodeString(methodName, argValues);
-        Method method = getMethodSignature().get(signature);
-        if (method == null) {
+        SignatureGroup<MethodInvoker> group = getMethodSignature().get(methodName);
+        SignatureGroup.Entry<MethodInvoker> entry = group != null ? group.lookup(argValues) : null;
+        if (entry == null) {
             throw MethodSignatureUtils.methodOperationException(methodName, argValues);
         }
-        try {
-            return (T) method.invoke(target, argValues);
-        } catch (IllegalAccessException | InvocationTargetException e) {
-            throw new ReflectionCastException(e);
+        return entry.getMember().invoke(target, entry.arguments(argValues));
+    }
+
+    /**
+     * 获取方法调用器, 调用方可持有返回的调用器, 重复调用时无需再查找方法
+     *
+     * @param methodName     方法名称
+     * @param parameterTypes 方法参数的类型列表
+     * @return 返回方法调用器
+     */
+    public MethodInvoker getMethodInvoker(String methodName, Class<?>... parameterTypes) {
+        SignatureGroup<MethodInvoker> group = getMethodSignature().get(methodName);
+        MethodInvoker invoker = group != null ? group.find(parameterTypes) : null;
+        if (invoker == null) {
+            throw MethodSignatureUtils.methodOperationException(methodName, parameterTypes);
         }
+        return invoker;
+    }
+
+    /**
+     * 获取方法调用点, 调用方在固定位置持有调用点, 参数类型不变的重复调用不再查找方法, 也不创建任何对象
+     *
+     * @param methodName 方法名称
+     * @return 返回方法调用点
+     */
+    public MethodCallSite getMethodCallSite(String methodName) {
+        SignatureGroup<MethodInvoker> group = getMethodSignature().get(methodName);
+        if (group == null) {
+            throw MethodSignatureUtils.methodOperationException(methodName, (Class<?>[]) null);
+        }
+        return new MethodCallSite(group);
     }
 
     /**
@@ -109,13 +129,8 @@ public class MethodDescriptor {
      * @return 返回当前对象
      */
     MethodDescriptor init() {
-        synchronized (CLASS_METHOD_DESCRIPTOR_CACHE) {
-            methodSignature = CLASS_METHOD_DESCRIPTOR_CACHE.get(targetClass);
-            if (methodSignature == null) {
-                methodSignature = lookupClassMethodSignature(targetClass);
-                CLASS_METHOD_DESCRIPTOR_CACHE.put(targetClass, methodSignature);
-            }
-        }
+        methodSignature = ClassMetadata.forClass(targetClass)
+                .get(methodSignatureKey(accessibleSuperclass, stopClass));
         return this;
     }
 
@@ -124,20 +139,52 @@ public class MethodDescriptor {
      *
      * @return 返回方法签名对照表
      */
-    private Map<String, Method> getMethodSignature() {
+    private Map<String, SignatureGroup<MethodInvoker>> getMethodSignature() {
         if (methodSignature == null) {
             init();
         }
         return methodSignature;
     }
 
+    /**
+     * 获取方法签名对照表在类元数据中的键
+     *
+     * @param accessibleSuperclass 是否递归查找父类的方法
+     * @param stopClass            在递归查找时, 遇到此类则终止
+     * @return 返回方法签名对照表的键
+     */
+    static ClassMetadata.Key<Map<String, SignatureGroup<MethodInvoker>>> methodSignatureKey(boolean accessibleSuperclass, Class<?> stopClass) {
+        return new MethodSignatureKey(accessibleSuperclass, stopClass);
+    }
+
+    /**
+     * 由方法列表构建方法签名对照表, 同名同参数类型的方法保留先出现的
+     *
+     * @param pojoClass 方法签名对照表所属的类
+     * @param methods   方法列表, 方法必须已经设置为可访问
+     * @return 返回方法签名对照表
+     */
+    static Map<String, SignatureGroup<MethodInvoker>> toMethodSignature(Class<?> pojoClass, List<Method> methods) {
+        Map<String, SignatureGroup<MethodInvoker>> methodSignature = new HashMap<>();
+        for (Method method : methods) {
+            String name = method.getName();
+            SignatureGroup<MethodInvoker> group = methodSignature.get(name);
+            if (group == null) {
+                group = new SignatureGroup<>(name, pojoClass.getClassLoader());
+                methodSignature.put(name, group);
+            }
+            group.add(method.getParameterTypes(), method.isVarArgs(), new MethodInvoker(method));
+        }
+        return methodSignature;
+    }
+
     /**
      * 获取类声明的方法列表
      *
      * @param pojoClass 任意的 Class 类型
      * @return 返回类声明的方法列表
      */
-    private List<Method> getDeclaredMethods(Class<?> pojoClass) {
+    private static List<Method> getDeclaredMethods(Class<?> pojoClass) {
         List<Method> list = new ArrayList<>();
         Method[] methods = pojoClass.getDeclaredMethods();
         if (methods.length > 0) {
@@ -152,22 +199,69 @@ public class MethodDescriptor {
     /**
      * 查找类声明的方法签名表
      *
-     * @param pojoClass 任意的 Class 类型
+     * @param pojoClass            任意的 Class 类型
+     * @param accessibleSuperclass 是否递归查找父类的方法
+     * @param stopClass            在递归查找时, 遇到此类则终止
      * @return 返回类声明的方法签名表
      */
-    private Map<String, Method> lookupClassMethodSignature(Class<?> pojoClass) {
-        Map<String, Method> methodSignature = new HashMap<>();
+    private static Map<String, SignatureGroup<MethodInvoker>> lookupClassMethodSignature(Class<?> pojoClass, boolean accessibleSuperclass, Class<?> stopClass) {
+        List<Method> methods = new ArrayList<>();
+        Class<?> type = pojoClass;
         do {
-            List<Method> methods = getDeclaredMethods(pojoClass);
-            for (Method method : methods) {
-                String signature = MethodSignatureUtils.hashCodeString(method.getName(), method.getParameterTypes());
-                if (!methodSignature.containsKey(signature)) {
-                    method.setAccessible(true);
-                    methodSignature.put(signature, method);
-                }
+            methods.addAll(getDeclaredMethods(type));
+        } while (accessibleSuperclass && (type = type.getSuperclass()) != stopClass && type != null);
+        return toMethodSignature(pojoClass, methods);
+    }
+
+    /**
+     * 方法签名对照表在类元数据中的键, 不同的查找范围各自缓存
+     */
+    private static final class MethodSignatureKey extends ClassMetadata.Key<Map<String, SignatureGroup<MethodInvoker>>> {
+
+        /**
+         * 是否递归查找父类的方法
+         */
+        private final boolean accessibleSuperclass;
+
+        /**
+         * 在递归查找时, 遇到此类则终止
+         */
+        private final Class<?> stopClass;
+
+        /**
+         * 构建实例
+         *
+         * @param accessibleSuperclass 是否递归查找父类的方法
+         * @param stopClass            在递归查找时, 遇到此类则终止
+         */
+        private MethodSignatureKey(boolean accessibleSuperclass, Class<?> stopClass) {
+            super("MethodDescriptor");
+            this.accessibleSuperclass = accessibleSuperclass;
+            this.stopClass = stopClass;
+        }
+
+        @Override
+        Map<String, SignatureGroup<MethodInvoker>> compute(Class<?> type) {
+            return lookupClassMethodSignature(type, accessibleSuperclass, stopClass);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
             }
-        } while (accessibleSuperclass && (pojoClass = pojoClass.getSuperclass()) != stopClass);
-        return methodSignature;
+            if (!(obj instanceof MethodSignatureKey)) {
+                return false;
+            }
+            MethodSignatureKey other = (MethodSignatureKey) obj;
+            return accessibleSuperclass == other.accessibleSuperclass && stopClass == other.stopClass;
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * Boolean.hashCode(accessibleSuperclass) + (stopClass == null ? 0 : stopClass.hashCode());
+        }
+
     }
 
 }
\ No newline at end of file
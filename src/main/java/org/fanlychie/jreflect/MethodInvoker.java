@@ -0,0 +1,148 @@
+package org.fanlychie.jreflect;
+
+import org.fanlychie.jreflect.exception.ReflectionCastException;
+import org.fanlychie.jreflect.util.MethodHandleUtils;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 方法调用器, 将方法对象编译为展开参数数组的 MethodHandle, 编译只在首次调用时进行一次.
+ * 调用器可由调用方持有, 重复调用时无需再查找方法
+ * Created by fanlychie on 2026/10/16.
+ */
+public final class MethodInvoker {
+
+    /**
+     * 方法对象
+     */
+    private final Method method;
+
+    /**
+     * 是否为静态方法
+     */
+    private final boolean isStatic;
+
+    /**
+     * 编译后的句柄, 类型为 (Object, Object[])Object
+     */
+    private volatile MethodHandle handle;
+
+    /**
+     * 调用计数器, 开启成员调用次数的统计后首次调用时获取
+     */
+    private LongAdder invocations;
+
+    /**
+     * 构建实例
+     *
+     * @param method 方法对象, 必须已经设置为可访问
+     */
+    MethodInvoker(Method method) {
+        this.method = method;
+        this.isStatic = Modifier.isStatic(method.getModifiers());
+    }
+
+    /**
+     * 调用方法, 异常的处理与 {@link Method#invoke(Object, Object...)} 保持一致,
+     * 方法体抛出的异常包装为 InvocationTargetException 后再包装为 {@link ReflectionCastException}
+     *
+     * @param target    目标对象, 若调用静态方法, 此项可传 null
+     * @param argValues 方法参数的值列表
+     * @param <T>       期望返回的数据类型
+     * @return 返回方法调用的结果
+     */
+    public <T> T invoke(Object target, Object... argValues) {
+        if (!isStatic && target == null) {
+            throw new NullPointerException();
+        }
+        if (ReflectionMetrics.invocationCounting) {
+            countInvocation();
+        }
+        MethodHandle handle = getHandle();
+        try {
+            return (T) (Object) handle.invokeExact(target, argValues);
+        } catch (InvocationTargetException e) {
+            throw new ReflectionCastException(e);
+        } catch (ClassCastException e) {
+            if (!isStatic && !method.getDeclaringClass().isInstance(target)) {
+                throw new IllegalArgumentException("object is not an instance of declaring class", e);
+            }
+            throw new IllegalArgumentException("argument type mismatch", e);
+        } catch (NullPointerException e) {
+            throw new IllegalArgumentException("argument type mismatch", e);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("wrong number of arguments", e);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new ReflectionCastException(e);
+        }
+    }
+
+    /**
+     * 获取方法对象
+     *
+     * @return 返回方法对象
+     */
+    public Method getMethod() {
+        return method;
+    }
+
+    /**
+     * 调用次数加 1
+     */
+    private void countInvocation() {
+        LongAdder invocations = this.invocations;
+        if (invocations == null) {
+            this.invocations = invocations = ReflectionMetrics.invocationCounter(method);
+        }
+        invocations.increment();
+    }
+
+    /**
+     * 获取编译后的句柄, 首次获取时编译
+     *
+     * @return 返回编译后的句柄
+     */
+    MethodHandle getHandle() {
+        MethodHandle handle = this.handle;
+        if (handle == null) {
+            synchronized (this) {
+                handle = this.handle;
+                if (handle == null) {
+                    this.handle = handle = compile(method, isStatic);
+                }
+            }
+        }
+        return handle;
+    }
+
+    /**
+     * 将方法编译为 (Object, Object[])Object 类型的句柄
+     *
+     * @param method   方法对象
+     * @param isStatic 是否为静态方法
+     * @return 返回编译后的句柄
+     */
+    private static MethodHandle compile(Method method, boolean isStatic) {
+        MethodHandle direct;
+        try {
+            direct = MethodHandles.lookup().unreflect(method).asFixedArity();
+        } catch (IllegalAccessException e) {
+            throw new ReflectionCastException(e);
+        }
+        MethodHandle handle = MethodHandleUtils.wrapTargetException(direct);
+        if (isStatic) {
+            handle = MethodHandles.dropArguments(handle, 0, Object.class);
+        }
+        return handle.asSpreader(Object[].class, method.getParameterTypes().length)
+                .asType(MethodType.methodType(Object.class, Object.class, Object[].class));
+    }
+
+}
@@ -0,0 +1,27 @@
+package org.fanlychie.jreflect;
+
+/**
+ * 预加载监听器, 每个类预加载完成或失败时在执行预加载的线程中回调
+ * Created by fanlychie on 2026/10/16.
+ */
+public interface PreloadListener {
+
+    /**
+     * 类预加载完成
+     *
+     * @param type     预加载的类
+     * @param nanos    预加载耗费的时间, 单位纳秒
+     * @param progress 预加载进度
+     */
+    void loaded(Class<?> type, long nanos, PreloadProgress progress);
+
+    /**
+     * 类预加载失败, 失败的类在首次使用时按正常的方式内省
+     *
+     * @param type     预加载的类
+     * @param cause    失败的原因
+     * @param progress 预加载进度
+     */
+    void failed(Class<?> type, Throwable cause, PreloadProgress progress);
+
+}
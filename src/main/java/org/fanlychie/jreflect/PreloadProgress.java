@@ -0,0 +1,150 @@
+package org.fanlychie.jreflect;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 预加载进度, 可在预加载进行中随时读取, 就绪检查可通过 {@link #await(long, TimeUnit)} 等待预加载完成
+ * Created by fanlychie on 2026/10/16.
+ */
+public final class PreloadProgress {
+
+    /**
+     * 预加载的类的总数
+     */
+    private final int total;
+
+    /**
+     * 已完成(包括失败)的类的数量
+     */
+    private final AtomicInteger completed = new AtomicInteger();
+
+    /**
+     * <预加载失败的类, 失败的原因> Map
+     */
+    private final Map<Class<?>, Throwable> failures = new ConcurrentHashMap<>();
+
+    /**
+     * 预加载完成的信号
+     */
+    private final CountDownLatch done;
+
+    /**
+     * 预加载开始的时间, 单位纳秒
+     */
+    private final long startNanos;
+
+    /**
+     * 预加载结束的时间, 单位纳秒
+     */
+    private volatile long endNanos;
+
+    /**
+     * 构建实例
+     *
+     * @param total 预加载的类的总数
+     */
+    PreloadProgress(int total) {
+        this.total = total;
+        this.done = new CountDownLatch(total);
+        this.startNanos = System.nanoTime();
+        if (total == 0) {
+            this.endNanos = startNanos;
+        }
+    }
+
+    /**
+     * 记录一个类预加载完成
+     *
+     * @param type    预加载的类
+     * @param failure 失败的原因, 成功时为 null
+     */
+    void complete(Class<?> type, Throwable failure) {
+        if (failure != null) {
+            failures.put(type, failure);
+        }
+        if (completed.incrementAndGet() == total) {
+            endNanos = System.nanoTime();
+        }
+        done.countDown();
+    }
+
+    /**
+     * 获取预加载的类的总数
+     *
+     * @return 返回类的总数
+     */
+    public int getTotal() {
+        return total;
+    }
+
+    /**
+     * 获取已完成(包括失败)的类的数量
+     *
+     * @return 返回已完成的类的数量
+     */
+    public int getCompleted() {
+        return completed.get();
+    }
+
+    /**
+     * 获取预加载失败的类及失败的原因
+     *
+     * @return 返回只读的 <预加载失败的类, 失败的原因> Map
+     */
+    public Map<Class<?>, Throwable> getFailures() {
+        return Collections.unmodifiableMap(failures);
+    }
+
+    /**
+     * 判断预加载是否已经完成
+     *
+     * @return 完成返回 true, 否则返回 false
+     */
+    public boolean isDone() {
+        return done.getCount() == 0;
+    }
+
+    /**
+     * 获取预加载耗费的时间, 预加载进行中返回已经耗费的时间
+     *
+     * @param unit 时间单位
+     * @return 返回耗费的时间
+     */
+    public long getElapsedTime(TimeUnit unit) {
+        long endNanos = this.endNanos;
+        return unit.convert((endNanos != 0 ? endNanos : System.nanoTime()) - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * 等待预加载完成
+     *
+     * @throws InterruptedException 等待时被中断
+     */
+    public void await() throws InterruptedException {
+        done.await();
+    }
+
+    /**
+     * 等待预加载完成, 最多等待参数给定的时间
+     *
+     * @param timeout 等待的时间
+     * @param unit    时间单位
+     * @return 预加载完成返回 true, 等待超时返回 false
+     * @throws InterruptedException 等待时被中断
+     */
+    public boolean await(long timeout, TimeUnit unit) throws InterruptedException {
+        return done.await(timeout, unit);
+    }
+
+    @Override
+    public String toString() {
+        return "PreloadProgress{completed=" + getCompleted() + "/" + total + ", failed=" + failures.size()
+                + ", elapsed=" + getElapsedTime(TimeUnit.MILLISECONDS) + "ms}";
+    }
+
+}
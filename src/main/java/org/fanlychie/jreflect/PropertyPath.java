@@ -0,0 +1,610 @@
+package org.fanlychie.jreflect;
+
+import org.fanlychie.jreflect.exception.FieldOperationException;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 属性路径, 读写对象的嵌套属性, 如 "order.items[3].name"、"attributes['color']".
+ * 路径由 "." 分隔的属性名称和 "[]" 括起的下标组成: 属性名称读写对象的属性(包括父类的属性), 对象为 Map 时读写同名的键;
+ * 数字下标读写 List 或数组的元素, 对象为 Map 时以下标的字符串为键; 引号括起或非数字的下标读写 Map 的键.
+ * 路径只在编译时解析一次, 每一段按所在对象的运行时类绑定属性访问器并内联缓存, 类不变时读写不再查找属性, 也不创建任何对象.
+ * 可选地开启空值安全的读取和写入时自动创建中间对象
+ * Created by fanlychie on 2026/10/16.
+ */
+public final class PropertyPath {
+
+    /**
+     * 属性路径
+     */
+    private final String path;
+
+    /**
+     * 路径的各段
+     */
+    private final Segment[] segments;
+
+    /**
+     * 读取时中间对象为 null 或下标越界是否返回 null
+     */
+    private boolean nullSafe;
+
+    /**
+     * 写入时是否自动创建为 null 的中间对象
+     */
+    private boolean autoCreate;
+
+    /**
+     * 构建实例
+     *
+     * @param path     属性路径
+     * @param segments 路径的各段
+     */
+    private PropertyPath(String path, Segment[] segments) {
+        this.path = path;
+        this.segments = segments;
+    }
+
+    /**
+     * 编译属性路径. 编译后的路径不做全局缓存, 重复读写同一路径时应持有返回的路径, 以免每次重新解析和绑定属性访问器.
+     * {@link BeanHandle#getValueByPath(Object, String)} 等方法在各个类的句柄中缓存有限个数的路径
+     *
+     * @param path 属性路径, 如 "a.b[3].c"
+     * @return 返回编译后的属性路径
+     * @throws IllegalArgumentException 路径的格式不正确时抛出
+     */
+    public static PropertyPath compile(String path) {
+        if (path == null) {
+            throw new NullPointerException();
+        }
+        return new PropertyPath(path, parse(path));
+    }
+
+    /**
+     * 设置读取时是否空值安全, 默认中间对象为 null 时抛出异常. 设为 true 时, 中间对象为 null 或下标越界, 读取返回 null
+     *
+     * @param nullSafe 读取时是否空值安全
+     * @return 返回当前对象
+     */
+    public PropertyPath nullSafe(boolean nullSafe) {
+        this.nullSafe = nullSafe;
+        return this;
+    }
+
+    /**
+     * 设置写入时是否自动创建中间对象, 默认中间对象为 null 时抛出异常. 设为 true 时, 按属性或元素声明的类型创建中间对象:
+     * List、Collection 创建 ArrayList, Set 创建 LinkedHashSet, Map 创建 LinkedHashMap, 数组创建空数组,
+     * 其它类型调用其无参构造器. List 和数组的下标越界时以 null 填充至下标处
+     *
+     * @param autoCreate 写入时是否自动创建中间对象
+     * @return 返回当前对象
+     */
+    public PropertyPath autoCreate(boolean autoCreate) {
+        this.autoCreate = autoCreate;
+        return this;
+    }
+
+    /**
+     * 读取路径的值
+     *
+     * @param root 根对象
+     * @param <T>  期望的类型
+     * @return 返回路径的值
+     */
+    public <T> T get(Object root) {
+        if (root == null) {
+            if (nullSafe) {
+                return null;
+            }
+            throw new NullPointerException();
+        }
+        Object value = root;
+        for (int i = 0; i < segments.length; i++) {
+            if (value == null) {
+                if (nullSafe) {
+                    return null;
+                }
+                throw nullValue(i - 1);
+            }
+            value = segments[i].get(value, nullSafe);
+        }
+        return (T) value;
+    }
+
+    /**
+     * 写入路径的值
+     *
+     * @param root  根对象
+     * @param value 值
+     */
+    public void set(Object root, Object value) {
+        if (root == null) {
+            throw new NullPointerException();
+        }
+        if (set(root, root.getClass(), 0, value) != root) {
+            throw new FieldOperationException("can not replace the root of property path " + path);
+        }
+    }
+
+    /**
+     * 获取属性路径
+     *
+     * @return 返回属性路径
+     */
+    public String getPath() {
+        return path;
+    }
+
+    @Override
+    public String toString() {
+        return path;
+    }
+
+    /**
+     * 从参数给定的段开始写入路径的值
+     *
+     * @param holder     当前段所在的对象
+     * @param holderType 当前段所在对象声明的类型
+     * @param index      当前段的位置
+     * @param value      值
+     * @return 返回写入后当前段所在的对象, 数组扩容时为新的数组
+     */
+    private Object set(Object holder, Type holderType, int index, Object value) {
+        Segment segment = segments[index];
+        if (index == segments.length - 1) {
+            return segment.set(holder, value, autoCreate);
+        }
+        Object next = segment.get(holder, autoCreate);
+        Type nextType = segment.valueType(holder, holderType);
+        boolean created = false;
+        if (next == null) {
+            if (!autoCreate) {
+                throw nullValue(index);
+            }
+            next = create(nextType, index);
+            created = true;
+        }
+        Object replaced = set(next, nextType, index + 1, value);
+        if (created || replaced != next) {
+            holder = segment.set(holder, replaced, true);
+        }
+        return holder;
+    }
+
+    /**
+     * 创建中间对象
+     *
+     * @param type  中间对象声明的类型
+     * @param index 中间对象所在段的位置
+     * @return 返回创建的对象
+     */
+    private Object create(Type type, int index) {
+        Class<?> rawType = type instanceof ParameterizedType ? (Class<?>) ((ParameterizedType) type).getRawType()
+                : type instanceof Class ? (Class<?>) type : Object.class;
+        if (rawType.isArray()) {
+            return Array.newInstance(rawType.getComponentType(), 0);
+        }
+        if (rawType.isInterface()) {
+            if (rawType.isAssignableFrom(ArrayList.class)) {
+                return new ArrayList<>();
+            }
+            if (rawType.isAssignableFrom(LinkedHashSet.class)) {
+                return new LinkedHashSet<>();
+            }
+            if (rawType.isAssignableFrom(LinkedHashMap.class)) {
+                return new LinkedHashMap<>();
+            }
+        } else if (rawType != Object.class && !rawType.isPrimitive()) {
+            InstanceFactory<?> factory = ClassMetadata.forClass(rawType)
+                    .get(ConstructorDescriptor.CONSTRUCTOR_SIGNATURE_KEY).find(null);
+            if (factory != null) {
+                return factory.get();
+            }
+        }
+        throw new FieldOperationException("can not create " + type.getTypeName() + " at '"
+                + segments[index].prefix + "' of property path " + path);
+    }
+
+    /**
+     * 中间对象为 null 的异常
+     *
+     * @param index 值为 null 的段的位置
+     * @return 返回异常对象
+     */
+    private FieldOperationException nullValue(int index) {
+        return new FieldOperationException("null value at '" + segments[index].prefix + "' of property path " + path);
+    }
+
+    /**
+     * 解析属性路径
+     *
+     * @param path 属性路径
+     * @return 返回路径的各段
+     */
+    private static Segment[] parse(String path) {
+        List<Segment> segments = new ArrayList<>();
+        int length = path.length();
+        int i = 0;
+        while (i < length) {
+            char c = path.charAt(i);
+            if (c == '[') {
+                int end;
+                String key;
+                boolean quoted = i + 1 < length && (path.charAt(i + 1) == '\'' || path.charAt(i + 1) == '"');
+                if (quoted) {
+                    int close = path.indexOf(path.charAt(i + 1), i + 2);
+                    if (close < 0 || close + 1 >= length || path.charAt(close + 1) != ']') {
+                        throw invalidPath(path);
+                    }
+                    key = path.substring(i + 2, close);
+                    end = close + 1;
+                } else {
+                    end = path.indexOf(']', i + 1);
+                    if (end < 0) {
+                        throw invalidPath(path);
+                    }
+                    key = path.substring(i + 1, end).trim();
+                    if (key.isEmpty()) {
+                        throw invalidPath(path);
+                    }
+                }
+                i = end + 1;
+                segments.add(new Index(path.substring(0, i), key, quoted ? -1 : toIndex(key)));
+            } else {
+                if (c == '.') {
+                    if (segments.isEmpty()) {
+                        throw invalidPath(path);
+                    }
+                    i++;
+                }
+                int start = i;
+                while (i < length && path.charAt(i) != '.' && path.charAt(i) != '[') {
+                    i++;
+                }
+                if (i == start) {
+                    throw invalidPath(path);
+                }
+                segments.add(new Property(path.substring(0, i), path.substring(start, i).trim()));
+            }
+        }
+        if (segments.isEmpty()) {
+            throw invalidPath(path);
+        }
+        return segments.toArray(new Segment[0]);
+    }
+
+    /**
+     * 将下标转换为数字
+     *
+     * @param key 下标
+     * @return 返回数字下标, 非数字的下标返回 -1
+     */
+    private static int toIndex(String key) {
+        for (int i = 0; i < key.length(); i++) {
+            if (!Character.isDigit(key.charAt(i))) {
+                return -1;
+            }
+        }
+        try {
+            return Integer.parseInt(key);
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    /**
+     * 路径格式不正确的异常
+     *
+     * @param path 属性路径
+     * @return 返回异常对象
+     */
+    private static IllegalArgumentException invalidPath(String path) {
+        return new IllegalArgumentException("invalid property path: " + path);
+    }
+
+    /**
+     * 路径的一段
+     */
+    private abstract static class Segment {
+
+        /**
+         * 路径从开头到此段的部分, 用于异常信息
+         */
+        final String prefix;
+
+        /**
+         * 构建实例
+         *
+         * @param prefix 路径从开头到此段的部分
+         */
+        Segment(String prefix) {
+            this.prefix = prefix;
+        }
+
+        /**
+         * 读取此段的值
+         *
+         * @param holder  此段所在的对象, 不为 null
+         * @param lenient 下标越界时是否返回 null
+         * @return 返回此段的值
+         */
+        abstract Object get(Object holder, boolean lenient);
+
+        /**
+         * 写入此段的值
+         *
+         * @param holder 此段所在的对象, 不为 null
+         * @param value  值
+         * @param grow   下标越界时是否扩容
+         * @return 返回写入后此段所在的对象, 数组扩容时为新的数组
+         */
+        abstract Object set(Object holder, Object value, boolean grow);
+
+        /**
+         * 获取此段的值声明的类型
+         *
+         * @param holder     此段所在的对象, 不为 null
+         * @param holderType 此段所在对象声明的类型
+         * @return 返回此段的值声明的类型
+         */
+        abstract Type valueType(Object holder, Type holderType);
+
+    }
+
+    /**
+     * 属性段, 按所在对象的运行时类绑定属性访问器
+     */
+    private static final class Property extends Segment {
+
+        /**
+         * 属性名称
+         */
+        private final String name;
+
+        /**
+         * 最近一次绑定的属性访问器
+         */
+        private volatile Binding binding;
+
+        /**
+         * 构建实例
+         *
+         * @param prefix 路径从开头到此段的部分
+         * @param name   属性名称
+         */
+        private Property(String prefix, String name) {
+            super(prefix);
+            this.name = name;
+        }
+
+        @Override
+        Object get(Object holder, boolean lenient) {
+            if (holder instanceof Map) {
+                return ((Map<?, ?>) holder).get(name);
+            }
+            return accessor(holder.getClass()).get(holder);
+        }
+
+        @Override
+        Object set(Object holder, Object value, boolean grow) {
+            if (holder instanceof Map) {
+                ((Map<Object, Object>) holder).put(name, value);
+            } else {
+                accessor(holder.getClass()).set(holder, value);
+            }
+            return holder;
+        }
+
+        @Override
+        Type valueType(Object holder, Type holderType) {
+            if (holder instanceof Map) {
+                return mapValueType(holderType);
+            }
+            Field field = accessor(holder.getClass()).getField();
+            return field.getGenericType();
+        }
+
+        /**
+         * 获取参数给定的类的属性访问器, 类与最近一次绑定的类相同时直接返回
+         *
+         * @param type 此段所在对象的运行时类
+         * @return 返回属性访问器
+         */
+        private FieldAccessor accessor(Class<?> type) {
+            Binding binding = this.binding;
+            if (binding != null && binding.type == type) {
+                return binding.accessor;
+            }
+            FieldAccessor accessor = ClassMetadata.forClass(type)
+                    .get(BeanDescriptor.FIELD_DESCRIPTOR_KEY).getNameAccessorMap().get(name);
+            if (accessor == null) {
+                throw new FieldOperationException(name + " property can not be found in " + type);
+            }
+            this.binding = new Binding(type, accessor);
+            return accessor;
+        }
+
+    }
+
+    /**
+     * 下标段, 读写 List、数组的元素或 Map 的键
+     */
+    private static final class Index extends Segment {
+
+        /**
+         * 下标的字符串
+         */
+        private final String key;
+
+        /**
+         * 数字下标, 非数字的下标为 -1
+         */
+        private final int index;
+
+        /**
+         * 构建实例
+         *
+         * @param prefix 路径从开头到此段的部分
+         * @param key    下标的字符串
+         * @param index  数字下标, 非数字的下标为 -1
+         */
+        private Index(String prefix, String key, int index) {
+            super(prefix);
+            this.key = key;
+            this.index = index;
+        }
+
+        @Override
+        Object get(Object holder, boolean lenient) {
+            if (holder instanceof Map) {
+                return ((Map<?, ?>) holder).get(key);
+            }
+            if (holder instanceof List) {
+                List<?> list = (List<?>) holder;
+                if (lenient && index >= list.size()) {
+                    return null;
+                }
+                return list.get(checkIndex(holder));
+            }
+            if (holder.getClass().isArray()) {
+                if (lenient && index >= Array.getLength(holder)) {
+                    return null;
+                }
+                return Array.get(holder, checkIndex(holder));
+            }
+            throw notIndexable(holder);
+        }
+
+        @Override
+        Object set(Object holder, Object value, boolean grow) {
+            if (holder instanceof Map) {
+                ((Map<Object, Object>) holder).put(key, value);
+                return holder;
+            }
+            if (holder instanceof List) {
+                List<Object> list = (List<Object>) holder;
+                int index = checkIndex(holder);
+                if (index < list.size()) {
+                    list.set(index, value);
+                } else if (grow || index == list.size()) {
+                    while (list.size() < index) {
+                        list.add(null);
+                    }
+                    list.add(value);
+                } else {
+                    list.set(index, value);
+                }
+                return holder;
+            }
+            if (holder.getClass().isArray()) {
+                int index = checkIndex(holder);
+                int length = Array.getLength(holder);
+                if (grow && index >= length) {
+                    Object array = Array.newInstance(holder.getClass().getComponentType(), index + 1);
+                    System.arraycopy(holder, 0, array, 0, length);
+                    holder = array;
+                }
+                Array.set(holder, index, value);
+                return holder;
+            }
+            throw notIndexable(holder);
+        }
+
+        @Override
+        Type valueType(Object holder, Type holderType) {
+            if (holder instanceof Map) {
+                return mapValueType(holderType);
+            }
+            if (holder.getClass().isArray()) {
+                return holder.getClass().getComponentType();
+            }
+            if (holderType instanceof ParameterizedType) {
+                ParameterizedType parameterizedType = (ParameterizedType) holderType;
+                if (Collection.class.isAssignableFrom((Class<?>) parameterizedType.getRawType())) {
+                    return parameterizedType.getActualTypeArguments()[0];
+                }
+            }
+            return Object.class;
+        }
+
+        /**
+         * 检查 List 或数组的下标是否为数字
+         *
+         * @param holder 此段所在的对象
+         * @return 返回数字下标
+         */
+        private int checkIndex(Object holder) {
+            if (index < 0) {
+                throw new FieldOperationException("'" + key + "' is not an index of " + holder.getClass().getName()
+                        + " at '" + prefix + "'");
+            }
+            return index;
+        }
+
+        /**
+         * 对象不能按下标读写的异常
+         *
+         * @param holder 此段所在的对象
+         * @return 返回异常对象
+         */
+        private FieldOperationException notIndexable(Object holder) {
+            return new FieldOperationException(holder.getClass().getName() + " is not a Map, List or array at '"
+                    + prefix + "'");
+        }
+
+    }
+
+    /**
+     * 获取 Map 声明的值的类型
+     *
+     * @param mapType Map 声明的类型
+     * @return 返回值的类型, 无法确定时返回 Object.class
+     */
+    private static Type mapValueType(Type mapType) {
+        if (mapType instanceof ParameterizedType) {
+            ParameterizedType parameterizedType = (ParameterizedType) mapType;
+            if (Map.class.isAssignableFrom((Class<?>) parameterizedType.getRawType())) {
+                return parameterizedType.getActualTypeArguments()[1];
+            }
+        }
+        return Object.class;
+    }
+
+    /**
+     * 属性段绑定的 (运行时类, 属性访问器)
+     */
+    private static final class Binding {
+
+        /**
+         * 运行时类
+         */
+        private final Class<?> type;
+
+        /**
+         * 属性访问器
+         */
+        private final FieldAccessor accessor;
+
+        /**
+         * 构建实例
+         *
+         * @param type     运行时类
+         * @param accessor 属性访问器
+         */
+        private Binding(Class<?> type, FieldAccessor accessor) {
+            this.type = type;
+            this.accessor = accessor;
+        }
+
+    }
+
+}
@@ -0,0 +1,383 @@
+package org.fanlychie.jreflect;
+
+import org.fanlychie.jreflect.exception.ReflectionCastException;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.Member;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 反射元数据缓存和调用的统计, 覆盖 {@link BeanDescriptor}、{@link MethodDescriptor}、{@link ConstructorDescriptor}、
+ * {@link BeanIntrospector}、{@link BeanMapper}、{@link BeanCopier}、{@link PropertyPath} 和 {@link AnnotationIndex} 使用的类元数据缓存.
+ * 统计默认关闭, 关闭时每次访问缓存只多读取一次 volatile 变量; 开启后按缓存分别统计命中、未命中次数和构建耗时的直方图,
+ * 并按类累计构建耗时. 方法和构造器的调用次数需另外开启 {@link #setInvocationCounting(boolean)}, 最多分别统计
+ * {@value #MAX_INVOCATION_COUNTERS} 个成员, 之后首次调用的成员合并计入 {@value #OTHER_MEMBERS}.
+ * 统计可通过本类的静态方法读取, 也可通过 {@link #registerMBean()} 发布为 JMX MBean
+ * Created by fanlychie on 2026/10/16.
+ */
+public final class ReflectionMetrics {
+
+    /**
+     * MBean 的名称
+     */
+    public static final String MBEAN_NAME = "org.fanlychie.jreflect:type=ReflectionMetrics";
+
+    /**
+     * 分别统计调用次数的成员的最大数量
+     */
+    public static final int MAX_INVOCATION_COUNTERS = 1024;
+
+    /**
+     * 超出 {@link #MAX_INVOCATION_COUNTERS} 之后的成员合并统计时使用的名称
+     */
+    public static final String OTHER_MEMBERS = "(other)";
+
+    /**
+     * MBean 发布的构建耗时最长的类的数量
+     */
+    static final int MBEAN_SLOWEST_CLASSES = 20;
+
+    /**
+     * 是否开启统计
+     */
+    static volatile boolean enabled;
+
+    /**
+     * 是否开启成员调用次数的统计
+     */
+    static volatile boolean invocationCounting;
+
+    /**
+     * <缓存名称, 缓存统计> Map
+     */
+    private static final ConcurrentMap<String, CacheStats> CACHE_STATS = new ConcurrentHashMap<>();
+
+    /**
+     * <成员签名, 调用次数> Map
+     */
+    private static final ConcurrentMap<String, LongAdder> INVOCATION_COUNTS = new ConcurrentHashMap<>();
+
+    /**
+     * 超出 {@link #MAX_INVOCATION_COUNTERS} 之后的成员共享的调用次数
+     */
+    private static final LongAdder OTHER_INVOCATIONS = new LongAdder();
+
+    /**
+     * 私有化构造器
+     */
+    private ReflectionMetrics() {
+
+    }
+
+    /**
+     * 是否开启统计
+     *
+     * @return 开启返回 true, 否则返回 false
+     */
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 设置是否开启缓存的统计, 默认关闭
+     *
+     * @param enabled 是否开启统计
+     */
+    public static void setEnabled(boolean enabled) {
+        ReflectionMetrics.enabled = enabled;
+    }
+
+    /**
+     * 是否开启成员调用次数的统计
+     *
+     * @return 开启返回 true, 否则返回 false
+     */
+    public static boolean isInvocationCounting() {
+        return invocationCounting;
+    }
+
+    /**
+     * 设置是否开启方法和构造器调用次数的统计, 默认关闭. 统计的是经过 {@link MethodInvoker} 和 {@link InstanceFactory} 的调用,
+     * 包括通过描述符发起的调用
+     *
+     * @param invocationCounting 是否开启成员调用次数的统计
+     */
+    public static void setInvocationCounting(boolean invocationCounting) {
+        ReflectionMetrics.invocationCounting = invocationCounting;
+    }
+
+    /**
+     * 获取当前缓存了元数据的类的数量, 与 {@link MetadataCache#size()} 相同
+     *
+     * @return 返回类的数量
+     */
+    public static long getCachedClassCount() {
+        return ClassMetadata.size();
+    }
+
+    /**
+     * 获取各缓存的统计
+     *
+     * @return 返回按名称排序的只读的 <缓存名称, 缓存统计> Map
+     */
+    public static Map<String, CacheStats> getCacheStats() {
+        return Collections.unmodifiableMap(new TreeMap<>(CACHE_STATS));
+    }
+
+    /**
+     * 获取参数给定的类构建元数据的总耗时, 只包括开启统计之后的构建. 构建时依赖的其它元数据(如 BeanMapper 依赖的属性描述符)的耗时同时计入
+     *
+     * @param type 任意的 Class 类型
+     * @param unit 时间单位
+     * @return 返回构建元数据的总耗时
+     */
+    public static long getBuildTime(Class<?> type, TimeUnit unit) {
+        return unit.convert(ClassMetadata.forClass(type).getBuildNanos(), TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * 获取构建元数据总耗时最长的类, 只包括开启统计之后的构建且仍缓存着元数据的类
+     *
+     * @param limit 最多返回的类的数量
+     * @param unit  时间单位
+     * @return 返回按耗时从长到短排列的只读的 <类名称, 构建元数据的总耗时> Map
+     */
+    public static Map<String, Long> getSlowestClasses(int limit, TimeUnit unit) {
+        if (limit <= 0) {
+            return Collections.emptyMap();
+        }
+        PriorityQueue<Map.Entry<String, Long>> slowest = new PriorityQueue<>(Map.Entry.<String, Long>comparingByValue());
+        for (ClassMetadata metadata : ClassMetadata.entries()) {
+            long nanos = metadata.getBuildNanos();
+            if (nanos > 0 && (slowest.size() < limit || nanos > slowest.peek().getValue())) {
+                slowest.add(new AbstractMap.SimpleImmutableEntry<>(metadata.getType().getName(), nanos));
+                if (slowest.size() > limit) {
+                    slowest.poll();
+                }
+            }
+        }
+        List<Map.Entry<String, Long>> entries = new ArrayList<>(slowest);
+        entries.sort(Map.Entry.<String, Long>comparingByValue().reversed());
+        Map<String, Long> classes = new LinkedHashMap<>();
+        for (Map.Entry<String, Long> entry : entries) {
+            classes.put(entry.getKey(), unit.convert(entry.getValue(), TimeUnit.NANOSECONDS));
+        }
+        return Collections.unmodifiableMap(classes);
+    }
+
+    /**
+     * 获取各成员的调用次数, 超出 {@link #MAX_INVOCATION_COUNTERS} 之后的成员合并为 {@link #OTHER_MEMBERS}
+     *
+     * @return 返回按调用次数从多到少排列的只读的 <成员签名, 调用次数> Map
+     */
+    public static Map<String, Long> getInvocationCounts() {
+        List<Map.Entry<String, Long>> entries = new ArrayList<>();
+        for (Map.Entry<String, LongAdder> entry : INVOCATION_COUNTS.entrySet()) {
+            long count = entry.getValue().sum();
+            if (count > 0) {
+                entries.add(new AbstractMap.SimpleImmutableEntry<>(entry.getKey(), count));
+            }
+        }
+        long others = OTHER_INVOCATIONS.sum();
+        if (others > 0) {
+            entries.add(new AbstractMap.SimpleImmutableEntry<>(OTHER_MEMBERS, others));
+        }
+        entries.sort(Map.Entry.<String, Long>comparingByValue().reversed());
+        Map<String, Long> counts = new LinkedHashMap<>();
+        for (Map.Entry<String, Long> entry : entries) {
+            counts.put(entry.getKey(), entry.getValue());
+        }
+        return Collections.unmodifiableMap(counts);
+    }
+
+    /**
+     * 清零所有统计
+     */
+    public static void reset() {
+        for (CacheStats stats : CACHE_STATS.values()) {
+            stats.reset();
+        }
+        for (LongAdder count : INVOCATION_COUNTS.values()) {
+            count.reset();
+        }
+        OTHER_INVOCATIONS.reset();
+    }
+
+    /**
+     * 将统计发布为平台 MBeanServer 中名为 {@link #MBEAN_NAME} 的 MBean, 已发布时不重复发布
+     */
+    public static synchronized void registerMBean() {
+        try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            ObjectName name = new ObjectName(MBEAN_NAME);
+            if (!server.isRegistered(name)) {
+                server.registerMBean(new MXBean(), name);
+            }
+        } catch (JMException e) {
+            throw new ReflectionCastException(e);
+        }
+    }
+
+    /**
+     * 从平台 MBeanServer 中注销 MBean, 没有发布时忽略
+     */
+    public static synchronized void unregisterMBean() {
+        try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            ObjectName name = new ObjectName(MBEAN_NAME);
+            if (server.isRegistered(name)) {
+                server.unregisterMBean(name);
+            }
+        } catch (JMException e) {
+            throw new ReflectionCastException(e);
+        }
+    }
+
+    /**
+     * 获取缓存统计, 首次获取时创建
+     *
+     * @param name 缓存名称
+     * @return 返回缓存统计
+     */
+    static CacheStats cacheStats(String name) {
+        return CACHE_STATS.computeIfAbsent(name, CacheStats::new);
+    }
+
+    /**
+     * 获取成员的调用计数器, 首次获取时创建. 计数器以成员签名为键, 不持有成员和类的引用;
+     * 已统计的成员达到 {@link #MAX_INVOCATION_COUNTERS} 个之后, 新的成员共享同一个计数器
+     *
+     * @param member 方法或构造器
+     * @return 返回调用计数器
+     */
+    static LongAdder invocationCounter(Member member) {
+        String signature = member.toString();
+        LongAdder counter = INVOCATION_COUNTS.get(signature);
+        if (counter == null) {
+            counter = INVOCATION_COUNTS.size() < MAX_INVOCATION_COUNTERS
+                    ? INVOCATION_COUNTS.computeIfAbsent(signature, k -> new LongAdder()) : OTHER_INVOCATIONS;
+        }
+        return counter;
+    }
+
+    /**
+     * JMX 管理接口的实现, 委托给静态方法
+     */
+    private static final class MXBean implements ReflectionMetricsMXBean {
+
+        @Override
+        public boolean isEnabled() {
+            return ReflectionMetrics.isEnabled();
+        }
+
+        @Override
+        public void setEnabled(boolean enabled) {
+            ReflectionMetrics.setEnabled(enabled);
+        }
+
+        @Override
+        public boolean isInvocationCounting() {
+            return ReflectionMetrics.isInvocationCounting();
+        }
+
+        @Override
+        public void setInvocationCounting(boolean invocationCounting) {
+            ReflectionMetrics.setInvocationCounting(invocationCounting);
+        }
+
+        @Override
+        public long getCachedClassCount() {
+            return ReflectionMetrics.getCachedClassCount();
+        }
+
+        @Override
+        public long getEvictionCount() {
+            return MetadataCache.getEvictionCount();
+        }
+
+        @Override
+        public Map<String, Long> getHits() {
+            Map<String, Long> map = new LinkedHashMap<>();
+            for (CacheStats stats : ReflectionMetrics.getCacheStats().values()) {
+                map.put(stats.getName(), stats.getHits());
+            }
+            return map;
+        }
+
+        @Override
+        public Map<String, Long> getMisses() {
+            Map<String, Long> map = new LinkedHashMap<>();
+            for (CacheStats stats : ReflectionMetrics.getCacheStats().values()) {
+                map.put(stats.getName(), stats.getMisses());
+            }
+            return map;
+        }
+
+        @Override
+        public Map<String, Double> getHitRates() {
+            Map<String, Double> map = new LinkedHashMap<>();
+            for (CacheStats stats : ReflectionMetrics.getCacheStats().values()) {
+                map.put(stats.getName(), stats.getHitRate());
+            }
+            return map;
+        }
+
+        @Override
+        public Map<String, Long> getTotalBuildMicros() {
+            Map<String, Long> map = new LinkedHashMap<>();
+            for (CacheStats stats : ReflectionMetrics.getCacheStats().values()) {
+                map.put(stats.getName(), stats.getTotalBuildTime(TimeUnit.MICROSECONDS));
+            }
+            return map;
+        }
+
+        @Override
+        public Map<String, Long> getMaxBuildMicros() {
+            Map<String, Long> map = new LinkedHashMap<>();
+            for (CacheStats stats : ReflectionMetrics.getCacheStats().values()) {
+                map.put(stats.getName(), stats.getMaxBuildTime(TimeUnit.MICROSECONDS));
+            }
+            return map;
+        }
+
+        @Override
+        public Map<String, long[]> getBuildTimeHistograms() {
+            Map<String, long[]> map = new LinkedHashMap<>();
+            for (CacheStats stats : ReflectionMetrics.getCacheStats().values()) {
+                map.put(stats.getName(), stats.getBuildTimeHistogram());
+            }
+            return map;
+        }
+
+        @Override
+        public Map<String, Long> getSlowestClassBuildMicros() {
+            return ReflectionMetrics.getSlowestClasses(MBEAN_SLOWEST_CLASSES, TimeUnit.MICROSECONDS);
+        }
+
+        @Override
+        public Map<String, Long> getInvocationCounts() {
+            return ReflectionMetrics.getInvocationCounts();
+        }
+
+        @Override
+        public void reset() {
+            ReflectionMetrics.reset();
+        }
+
+    }
+
+}
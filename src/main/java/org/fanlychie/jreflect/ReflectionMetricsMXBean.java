@@ -0,0 +1,114 @@
+package org.fanlychie.jreflect;
+
+import java.util.Map;
+
+/**
+ * 反射元数据缓存和调用统计的 JMX 管理接口, 由 {@link ReflectionMetrics#registerMBean()} 发布
+ * Created by fanlychie on 2026/10/16.
+ */
+public interface ReflectionMetricsMXBean {
+
+    /**
+     * 是否开启统计
+     *
+     * @return 开启返回 true, 否则返回 false
+     */
+    boolean isEnabled();
+
+    /**
+     * 设置是否开启统计
+     *
+     * @param enabled 是否开启统计
+     */
+    void setEnabled(boolean enabled);
+
+    /**
+     * 是否开启成员调用次数的统计
+     *
+     * @return 开启返回 true, 否则返回 false
+     */
+    boolean isInvocationCounting();
+
+    /**
+     * 设置是否开启成员调用次数的统计
+     *
+     * @param invocationCounting 是否开启成员调用次数的统计
+     */
+    void setInvocationCounting(boolean invocationCounting);
+
+    /**
+     * 获取已缓存元数据的类的数量
+     *
+     * @return 返回类的数量
+     */
+    long getCachedClassCount();
+
+    /**
+     * 获取被淘汰或失效的类的数量
+     *
+     * @return 返回类的数量
+     */
+    long getEvictionCount();
+
+    /**
+     * 获取各缓存的命中次数
+     *
+     * @return 返回 <缓存名称, 命中次数> Map
+     */
+    Map<String, Long> getHits();
+
+    /**
+     * 获取各缓存的未命中次数
+     *
+     * @return 返回 <缓存名称, 未命中次数> Map
+     */
+    Map<String, Long> getMisses();
+
+    /**
+     * 获取各缓存的命中率
+     *
+     * @return 返回 <缓存名称, 命中率> Map
+     */
+    Map<String, Double> getHitRates();
+
+    /**
+     * 获取各缓存构建的总耗时, 单位微秒
+     *
+     * @return 返回 <缓存名称, 总耗时> Map
+     */
+    Map<String, Long> getTotalBuildMicros();
+
+    /**
+     * 获取各缓存最长的构建耗时, 单位微秒
+     *
+     * @return 返回 <缓存名称, 最长耗时> Map
+     */
+    Map<String, Long> getMaxBuildMicros();
+
+    /**
+     * 获取各缓存构建耗时的直方图, 区间的划分见 {@link CacheStats}
+     *
+     * @return 返回 <缓存名称, 各区间的构建次数> Map
+     */
+    Map<String, long[]> getBuildTimeHistograms();
+
+    /**
+     * 获取构建元数据总耗时最长的类, 最多 20 个, 单位微秒
+     *
+     * @return 返回按耗时从长到短排列的 <类名称, 总耗时> Map
+     */
+    Map<String, Long> getSlowestClassBuildMicros();
+
+    /**
+     * 获取各成员的调用次数, 按调用次数从多到少排列, 超出统计上限的成员合并为一项
+     *
+     * @return 返回 <成员签名, 调用次数> Map
+     */
+    Map<String, Long> getInvocationCounts();
+
+    /**
+     * 清零所有统计
+     */
+    void reset();
+
+}
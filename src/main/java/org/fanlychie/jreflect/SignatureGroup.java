@@ -0,0 +1,716 @@
+package org.fanlychie.jreflect;
+
+import org.fanlychie.jreflect.exception.MethodOperationException;
+import org.fanlychie.jreflect.util.PrimitiveWrapperTypeUtils;
+
+import java.lang.ref.WeakReference;
+import java.lang.reflect.Array;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 同名成员(方法或构造器)的签名组, 按 (名称, 参数类型元组) 结构化地匹配成员.
+ * 参数类型中的基本数据类型统一按包装类型比较. 查找的结果按参数值的运行时类型元组绑定,
+ * 并内联缓存最近一次的绑定, 参数值的类型不变的重复调用只需逐个比较一次参数值的类型, 不创建任何对象.
+ * 参数值的类型与签名不完全一致时, 按与 Java 编译器相近的规则解析重载: 先不展开可变参数, 再展开可变参数,
+ * 在可用的签名中选择最具体的一个. 包装类型的参数值同时视为对应的基本数据类型, 值为 null 的参数匹配任意的引用类型.
+ * 解析的结果按参数值的类型元组缓存在开放寻址的散列表中, 同一元组只在首次调用时解析, 命中缓存时同样不创建任何对象.
+ * 没有可用签名和有多个同样具体签名的结果同样缓存. 缓存达到上限时淘汰最早的元组.
+ * 签名组缓存在声明成员的类的元数据中, 因此参数值的类由所属类的类加载器或其祖先加载时才强引用,
+ * 其余的类(如插件类加载器中的类)只弱引用, 不会阻止其类加载器被卸载
+ * Created by fanlychie on 2026/10/16.
+ */
+final class SignatureGroup<M> {
+
+    /**
+     * 成员名称, 构造器为类的简单名称
+     */
+    private final String name;
+
+    /**
+     * 签名组所属的类的类加载器, 引导类加载器为 null
+     */
+    private final ClassLoader loader;
+
+    /**
+     * 签名列表, 构建完成后不再修改
+     */
+    private final List<Entry<M>> entries = new ArrayList<>();
+
+    /**
+     * 最近一次的绑定
+     */
+    private volatile Binding<M> last;
+
+    /**
+     * 解析结果缓存的最大数量, 超出时淘汰最早的元组
+     */
+    private static final int MAX_RESOLVED = 64;
+
+    /**
+     * 解析结果缓存的散列表容量, 为最大数量的两倍, 使散列表中始终有空位
+     */
+    private static final int RESOLVED_CAPACITY = MAX_RESOLVED * 2;
+
+    /**
+     * 解析结果缓存, 以参数值的类型元组的哈希码开放寻址的散列表, 首次解析时创建, 修改时整体替换
+     */
+    private volatile Binding<M>[] resolved;
+
+    /**
+     * 按加入的先后循环存放的解析结果, 用于淘汰最早的元组, 仅在持有此对象的锁时访问
+     */
+    @SuppressWarnings("unchecked")
+    private final Binding<M>[] resolvedOrder = (Binding<M>[]) new Binding<?>[MAX_RESOLVED];
+
+    /**
+     * 下一个解析结果在循环数组中的位置, 仅在持有此对象的锁时访问
+     */
+    private int resolvedNext;
+
+    /**
+     * 构建实例
+     *
+     * @param name   成员名称
+     * @param loader 签名组所属的类的类加载器
+     */
+    SignatureGroup(String name, ClassLoader loader) {
+        this.name = name;
+        this.loader = loader;
+    }
+
+    /**
+     * 添加签名, 若已存在相同的签名, 则保留先添加的成员
+     *
+     * @param parameterTypes 成员的参数类型列表
+     * @param varArgs        成员是否声明了可变参数
+     * @param member         成员
+     * @return 添加成功返回 true, 已存在相同的签名返回 false
+     */
+    boolean add(Class<?>[] parameterTypes, boolean varArgs, M member) {
+        Class<?>[] types = new Class<?>[parameterTypes.length];
+        for (int i = 0; i < types.length; i++) {
+            types[i] = wrap(parameterTypes[i]);
+        }
+        if (find(types) != null) {
+            return false;
+        }
+        entries.add(new Entry<>(parameterTypes.clone(), types, varArgs, member));
+        return true;
+    }
+
+    /**
+     * 根据参数的值查找成员, 优先查找参数值的类型与参数类型一致的成员, 没有时解析重载.
+     * 调用成员前须以 {@link Entry#arguments(Object[])} 转换参数的值列表
+     *
+     * @param argValues 参数的值列表
+     * @return 返回匹配的签名, 没有匹配的返回 null
+     * @throws MethodOperationException 有多个同样具体的签名时抛出
+     */
+    Entry<M> lookup(Object[] argValues) {
+        return bind(argValues).entry;
+    }
+
+    /**
+     * 根据参数的值绑定签名, 先比较最近一次的绑定, 再查找解析结果缓存, 都没有命中时查找或解析签名并缓存.
+     * 调用方可自行持有返回的绑定, 以 {@link Binding#matches(Object[])} 判断能否复用
+     *
+     * @param argValues 参数的值列表
+     * @return 返回参数值的类型元组与签名的绑定, 没有匹配的签名时绑定的签名为 null
+     * @throws MethodOperationException 有多个同样具体的签名时抛出
+     */
+    Binding<M> bind(Object[] argValues) {
+        Binding<M> binding = last;
+        if (binding == null || !binding.matches(argValues)) {
+            int hash = hash(argValues);
+            binding = probe(argValues, hash);
+            if (binding == null) {
+                binding = newBinding(argValues, hash);
+                store(binding);
+            }
+            last = binding;
+        }
+        if (binding.ambiguity != null) {
+            throw new MethodOperationException(binding.ambiguity);
+        }
+        return binding;
+    }
+
+    /**
+     * 根据参数类型查找成员
+     *
+     * @param parameterTypes 参数类型列表
+     * @return 返回匹配的成员, 没有匹配的返回 null
+     */
+    M find(Class<?>[] parameterTypes) {
+        int length = parameterTypes == null ? 0 : parameterTypes.length;
+        for (int i = 0, size = entries.size(); i < size; i++) {
+            Entry<M> entry = entries.get(i);
+            if (entry.types.length == length) {
+                int j = 0;
+                while (j < length && entry.types[j] == wrap(parameterTypes[j])) {
+                    j++;
+                }
+                if (j == length) {
+                    return entry.member;
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 获取成员名称
+     *
+     * @return 返回成员名称
+     */
+    String getName() {
+        return name;
+    }
+
+    /**
+     * 获取所有的成员, 按添加的顺序排列
+     *
+     * @return 返回成员列表
+     */
+    List<M> getMembers() {
+        List<M> members = new ArrayList<>(entries.size());
+        for (Entry<M> entry : entries) {
+            members.add(entry.member);
+        }
+        return members;
+    }
+
+    /**
+     * 在解析结果缓存中查找参数值的类型元组, 只比较类型, 不创建任何对象
+     *
+     * @param argValues 参数的值列表
+     * @param hash      参数值的类型元组的哈希码
+     * @return 返回缓存的绑定, 没有缓存的返回 null
+     */
+    private Binding<M> probe(Object[] argValues, int hash) {
+        Binding<M>[] table = resolved;
+        if (table == null) {
+            return null;
+        }
+        int mask = table.length - 1;
+        for (int i = hash & mask; ; i = (i + 1) & mask) {
+            Binding<M> binding = table[i];
+            if (binding == null) {
+                return null;
+            }
+            if (binding.hash == hash && binding.matches(argValues)) {
+                return binding;
+            }
+        }
+    }
+
+    /**
+     * 查找或解析签名, 构建参数值的类型元组与签名的绑定
+     *
+     * @param argValues 参数的值列表
+     * @param hash      参数值的类型元组的哈希码
+     * @return 返回绑定
+     */
+    private Binding<M> newBinding(Object[] argValues, int hash) {
+        Class<?>[] argTypes = argTypes(argValues);
+        Object[] keys = new Object[argTypes.length];
+        for (int i = 0; i < keys.length; i++) {
+            Class<?> argType = argTypes[i];
+            keys[i] = argType == null || isVisible(argType) ? argType : new WeakReference<Class<?>>(argType);
+        }
+        for (Entry<M> entry : entries) {
+            if (entry.matches(argValues)) {
+                return new Binding<>(keys, hash, entry, null);
+            }
+        }
+        try {
+            return new Binding<>(keys, hash, resolve(argTypes), null);
+        } catch (MethodOperationException e) {
+            return new Binding<>(keys, hash, null, e.getMessage());
+        }
+    }
+
+    /**
+     * 判断类是否由签名组所属的类的类加载器或其祖先加载, 这样的类不会先于所属的类被卸载, 可以强引用
+     *
+     * @param type 类
+     * @return 是返回 true, 否则返回 false
+     */
+    private boolean isVisible(Class<?> type) {
+        ClassLoader typeLoader = type.getClassLoader();
+        if (typeLoader == null) {
+            return true;
+        }
+        for (ClassLoader classLoader = loader; classLoader != null; classLoader = classLoader.getParent()) {
+            if (classLoader == typeLoader) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 将绑定加入解析结果缓存, 达到上限时淘汰最早加入的绑定, 并丢弃弱引用的类已被回收的绑定.
+     * 每次加入都重建散列表后整体替换, 读取缓存的线程无需加锁
+     *
+     * @param binding 绑定
+     */
+    @SuppressWarnings("unchecked")
+    private synchronized void store(Binding<M> binding) {
+        Binding<M>[] table = resolved;
+        if (table != null) {
+            int mask = table.length - 1;
+            for (int i = binding.hash & mask; table[i] != null; i = (i + 1) & mask) {
+                if (table[i].hash == binding.hash && table[i].sameTypes(binding)) {
+                    return;
+                }
+            }
+        }
+        resolvedOrder[resolvedNext] = binding;
+        resolvedNext = (resolvedNext + 1) % MAX_RESOLVED;
+        table = (Binding<M>[]) new Binding<?>[RESOLVED_CAPACITY];
+        int mask = table.length - 1;
+        for (int j = 0; j < MAX_RESOLVED; j++) {
+            Binding<M> element = resolvedOrder[j];
+            if (element == null) {
+                continue;
+            }
+            if (element.isCleared()) {
+                resolvedOrder[j] = null;
+                continue;
+            }
+            int i = element.hash & mask;
+            while (table[i] != null) {
+                i = (i + 1) & mask;
+            }
+            table[i] = element;
+        }
+        resolved = table;
+    }
+
+    /**
+     * 获取参数值的类型元组
+     *
+     * @param argValues 参数的值列表
+     * @return 返回参数值的类型列表, 值为 null 的参数类型为 null
+     */
+    private static Class<?>[] argTypes(Object[] argValues) {
+        int length = argValues == null ? 0 : argValues.length;
+        Class<?>[] argTypes = new Class<?>[length];
+        for (int i = 0; i < length; i++) {
+            argTypes[i] = argValues[i] != null ? argValues[i].getClass() : null;
+        }
+        return argTypes;
+    }
+
+    /**
+     * 计算参数值的类型元组的哈希码, 与 {@link java.util.Arrays#hashCode(Object[])} 计算类型列表的结果一致
+     *
+     * @param argValues 参数的值列表
+     * @return 返回哈希码
+     */
+    private static int hash(Object[] argValues) {
+        int hash = 1;
+        if (argValues != null) {
+            for (Object argValue : argValues) {
+                hash = 31 * hash + (argValue != null ? argValue.getClass().hashCode() : 0);
+            }
+        }
+        return hash;
+    }
+
+    /**
+     * 解析重载, 先在不展开可变参数时可用的签名中选择, 没有时再在展开可变参数时可用的签名中选择
+     *
+     * @param argTypes 参数值的类型列表, 值为 null 的参数类型为 null
+     * @return 返回最具体的签名, 没有可用的签名返回 null
+     * @throws MethodOperationException 有多个同样具体的签名时抛出
+     */
+    private Entry<M> resolve(Class<?>[] argTypes) {
+        for (boolean expand : new boolean[]{false, true}) {
+            List<Entry<M>> candidates = new ArrayList<>();
+            for (Entry<M> entry : entries) {
+                if (entry.isApplicable(argTypes, expand)) {
+                    candidates.add(entry);
+                }
+            }
+            if (!candidates.isEmpty()) {
+                return mostSpecific(candidates, argTypes.length, expand);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 在可用的签名中选择最具体的一个, 即每个参数的类型都不比其它签名宽泛的签名
+     *
+     * @param candidates 可用的签名列表
+     * @param length     参数的个数
+     * @param expand     是否展开可变参数
+     * @return 返回最具体的签名
+     * @throws MethodOperationException 有多个同样具体的签名时抛出
+     */
+    private Entry<M> mostSpecific(List<Entry<M>> candidates, int length, boolean expand) {
+        Entry<M> result = null;
+        for (Entry<M> candidate : candidates) {
+            boolean maximal = true;
+            for (Entry<M> other : candidates) {
+                if (other != candidate && other.isMoreSpecific(candidate, length, expand)
+                        && !candidate.isMoreSpecific(other, length, expand)) {
+                    maximal = false;
+                    break;
+                }
+            }
+            if (maximal) {
+                if (result != null) {
+                    throw new MethodOperationException("ambiguous method " + name + result + ", " + name + candidate);
+                }
+                result = candidate;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 判断参数值的类型是否可以传给参数类型, 包装类型可拆箱后拓宽转换为基本数据类型, null 可传给任意的引用类型
+     *
+     * @param parameterType 参数类型
+     * @param argType       参数值的类型, 值为 null 时为 null
+     * @return 可以传入返回 true, 否则返回 false
+     */
+    private static boolean isAssignable(Class<?> parameterType, Class<?> argType) {
+        if (argType == null) {
+            return !parameterType.isPrimitive();
+        }
+        if (parameterType.isPrimitive()) {
+            Class<?> primitiveType = PrimitiveWrapperTypeUtils.getPrimitiveType(argType);
+            return primitiveType != null && PrimitiveWrapperTypeUtils.isWidening(primitiveType, parameterType);
+        }
+        return parameterType.isAssignableFrom(argType);
+    }
+
+    /**
+     * 判断参数类型是否比另一参数类型更具体或相同, 基本数据类型比可以拓宽转换到的基本数据类型和其包装类型的父类型更具体
+     *
+     * @param type  参数类型
+     * @param other 另一参数类型
+     * @return 更具体或相同返回 true, 否则返回 false
+     */
+    private static boolean isMoreSpecific(Class<?> type, Class<?> other) {
+        if (type == other) {
+            return true;
+        }
+        if (type.isPrimitive()) {
+            return other.isPrimitive() ? PrimitiveWrapperTypeUtils.isWidening(type, other)
+                    : other.isAssignableFrom(wrap(type));
+        }
+        return !other.isPrimitive() && other.isAssignableFrom(type);
+    }
+
+    /**
+     * 将基本数据类型转换为包装类型
+     *
+     * @param type 类型
+     * @return 返回包装类型, 非基本数据类型原样返回
+     */
+    private static Class<?> wrap(Class<?> type) {
+        Class<?> wrapperType = PrimitiveWrapperTypeUtils.getWrapperType(type);
+        return wrapperType != null ? wrapperType : type;
+    }
+
+    /**
+     * 签名, 由包装后的参数类型元组和成员组成
+     *
+     * @param <M> 成员类型
+     */
+    static final class Entry<M> {
+
+        /**
+         * 声明的参数类型元组
+         */
+        private final Class<?>[] parameterTypes;
+
+        /**
+         * 包装后的参数类型元组
+         */
+        private final Class<?>[] types;
+
+        /**
+         * 是否声明了可变参数
+         */
+        private final boolean varArgs;
+
+        /**
+         * 成员
+         */
+        private final M member;
+
+        /**
+         * 构建实例
+         *
+         * @param parameterTypes 声明的参数类型元组
+         * @param types          包装后的参数类型元组
+         * @param varArgs        是否声明了可变参数
+         * @param member         成员
+         */
+        private Entry(Class<?>[] parameterTypes, Class<?>[] types, boolean varArgs, M member) {
+            this.parameterTypes = parameterTypes;
+            this.types = types;
+            this.varArgs = varArgs;
+            this.member = member;
+        }
+
+        /**
+         * 判断参数值的类型是否与此签名一致
+         *
+         * @param argValues 参数的值列表
+         * @return 一致返回 true, 否则返回 false
+         */
+        private boolean matches(Object[] argValues) {
+            int length = argValues == null ? 0 : argValues.length;
+            if (types.length != length) {
+                return false;
+            }
+            for (int i = 0; i < length; i++) {
+                Object argValue = argValues[i];
+                if (argValue == null || argValue.getClass() != types[i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        /**
+         * 将参数的值列表转换为调用成员时的值列表, 以可变参数的形式调用时, 将末尾的参数值装入可变参数的数组
+         *
+         * @param argValues 参数的值列表
+         * @return 返回调用成员时的值列表
+         */
+        Object[] arguments(Object[] argValues) {
+            if (!varArgs) {
+                return argValues;
+            }
+            int length = argValues == null ? 0 : argValues.length;
+            int fixed = parameterTypes.length - 1;
+            if (length == parameterTypes.length) {
+                Object last = argValues[fixed];
+                if (last == null || parameterTypes[fixed].isInstance(last)) {
+                    return argValues;
+                }
+            }
+            Object array = Array.newInstance(parameterTypes[fixed].getComponentType(), length - fixed);
+            for (int i = fixed; i < length; i++) {
+                Array.set(array, i - fixed, argValues[i]);
+            }
+            Object[] values = new Object[parameterTypes.length];
+            if (fixed > 0) {
+                System.arraycopy(argValues, 0, values, 0, fixed);
+            }
+            values[fixed] = array;
+            return values;
+        }
+
+        /**
+         * 判断参数值的类型是否可以传给此签名
+         *
+         * @param argTypes 参数值的类型列表, 值为 null 的参数类型为 null
+         * @param expand   是否展开可变参数
+         * @return 可以传入返回 true, 否则返回 false
+         */
+        private boolean isApplicable(Class<?>[] argTypes, boolean expand) {
+            if (expand ? !varArgs || argTypes.length < parameterTypes.length - 1
+                    : argTypes.length != parameterTypes.length) {
+                return false;
+            }
+            for (int i = 0; i < argTypes.length; i++) {
+                if (!isAssignable(parameterType(i, expand), argTypes[i])) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        /**
+         * 判断此签名是否比另一签名更具体或相同
+         *
+         * @param other  另一签名
+         * @param length 参数的个数
+         * @param expand 是否展开可变参数
+         * @return 更具体或相同返回 true, 否则返回 false
+         */
+        private boolean isMoreSpecific(Entry<?> other, int length, boolean expand) {
+            if (expand) {
+                length = Math.max(length, Math.max(parameterTypes.length, other.parameterTypes.length));
+            }
+            for (int i = 0; i < length; i++) {
+                if (!SignatureGroup.isMoreSpecific(parameterType(i, expand), other.parameterType(i, expand))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        /**
+         * 获取参数类型, 展开可变参数时, 可变参数及其之后的参数类型为可变参数数组的元素类型
+         *
+         * @param index  参数的位置
+         * @param expand 是否展开可变参数
+         * @return 返回参数类型
+         */
+        private Class<?> parameterType(int index, boolean expand) {
+            int fixed = parameterTypes.length - 1;
+            if (expand && index >= fixed) {
+                return parameterTypes[fixed].getComponentType();
+            }
+            return parameterTypes[index];
+        }
+
+        /**
+         * 获取成员
+         *
+         * @return 返回成员
+         */
+        M getMember() {
+            return member;
+        }
+
+        @Override
+        public String toString() {
+            StringBuilder builder = new StringBuilder("(");
+            for (int i = 0; i < parameterTypes.length; i++) {
+                if (i > 0) {
+                    builder.append(", ");
+                }
+                builder.append(varArgs && i == parameterTypes.length - 1
+                        ? parameterTypes[i].getComponentType().getSimpleName() + "..."
+                        : parameterTypes[i].getSimpleName());
+            }
+            return builder.append(")").toString();
+        }
+
+    }
+
+    /**
+     * 参数值的运行时类型元组与签名的绑定, 构建后不再修改
+     *
+     * @param <M> 成员类型
+     */
+    static final class Binding<M> {
+
+        /**
+         * 参数值的类型列表, 元素为类或类的弱引用, 值为 null 的参数为 null
+         */
+        private final Object[] keys;
+
+        /**
+         * 参数值的类型元组的哈希码
+         */
+        private final int hash;
+
+        /**
+         * 绑定的签名, 没有可用的签名时为 null
+         */
+        private final Entry<M> entry;
+
+        /**
+         * 有多个同样具体的签名时的异常信息, 否则为 null
+         */
+        private final String ambiguity;
+
+        /**
+         * 构建实例
+         *
+         * @param keys      参数值的类型列表
+         * @param hash      参数值的类型元组的哈希码
+         * @param entry     绑定的签名
+         * @param ambiguity 有多个同样具体的签名时的异常信息
+         */
+        private Binding(Object[] keys, int hash, Entry<M> entry, String ambiguity) {
+            this.keys = keys;
+            this.hash = hash;
+            this.entry = entry;
+            this.ambiguity = ambiguity;
+        }
+
+        /**
+         * 判断参数值的类型元组是否与此绑定一致, 逐个以 == 比较参数值的运行时类型, 不创建任何对象
+         *
+         * @param argValues 参数的值列表
+         * @return 一致返回 true, 否则返回 false
+         */
+        boolean matches(Object[] argValues) {
+            int length = argValues == null ? 0 : argValues.length;
+            if (keys.length != length) {
+                return false;
+            }
+            for (int i = 0; i < length; i++) {
+                Object argValue = argValues[i];
+                Object key = keys[i];
+                if (argValue == null) {
+                    if (key != null) {
+                        return false;
+                    }
+                } else if (key != argValue.getClass() && !(key instanceof WeakReference
+                        && ((WeakReference<?>) key).get() == argValue.getClass())) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        /**
+         * 判断参数值的类型元组是否与另一绑定相同
+         *
+         * @param other 另一绑定
+         * @return 相同返回 true, 否则返回 false
+         */
+        private boolean sameTypes(Binding<?> other) {
+            if (keys.length != other.keys.length) {
+                return false;
+            }
+            for (int i = 0; i < keys.length; i++) {
+                if ((keys[i] == null) != (other.keys[i] == null) || type(i) != other.type(i)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        /**
+         * 判断是否有弱引用的类已被回收, 这样的绑定不会再被匹配
+         *
+         * @return 有返回 true, 否则返回 false
+         */
+        private boolean isCleared() {
+            for (Object key : keys) {
+                if (key instanceof WeakReference && ((WeakReference<?>) key).get() == null) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        /**
+         * 获取参数值的类型
+         *
+         * @param index 参数的位置
+         * @return 返回参数值的类型, 值为 null 或弱引用的类已被回收时返回 null
+         */
+        private Class<?> type(int index) {
+            Object key = keys[index];
+            return key instanceof WeakReference ? (Class<?>) ((WeakReference<?>) key).get() : (Class<?>) key;
+        }
+
+        /**
+         * 获取绑定的签名
+         *
+         * @return 返回绑定的签名, 没有可用的签名返回 null
+         */
+        Entry<M> getEntry() {
+            return entry;
+        }
+
+    }
+
+}
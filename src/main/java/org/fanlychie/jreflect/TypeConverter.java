@@ -0,0 +1,22 @@
+package org.fanlychie.jreflect;
+
+/**
+ * 类型转换器, 将一种类型的值转换为另一种类型, 由 {@link ConverterRegistry} 按 (源类型, 目标类型) 选择
+ * Created by fanlychie on 2026/10/16.
+ *
+ * @param <S> 源类型
+ * @param <T> 目标类型
+ */
+@FunctionalInterface
+public interface TypeConverter<S, T> {
+
+    /**
+     * 转换参数给定的值
+     *
+     * @param value 源类型的值, 不为 null
+     * @return 返回转换后的值
+     * @throws IllegalArgumentException 值不能转换为目标类型时抛出
+     */
+    T convert(S value);
+
+}
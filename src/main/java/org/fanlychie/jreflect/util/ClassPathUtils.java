@@ -0,0 +1,130 @@
+package org.fanlychie.jreflect.util;
+
+import org.fanlychie.jreflect.exception.ReflectionCastException;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.JarURLConnection;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLConnection;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+
+/**
+ * 类路径工具类
+ * Created by fanlychie on 2026/10/16.
+ */
+public final class ClassPathUtils {
+
+    /**
+     * 类文件后缀
+     */
+    private static final String CLASS_SUFFIX = ".class";
+
+    /**
+     * 私有化构造器
+     */
+    private ClassPathUtils() {
+
+    }
+
+    /**
+     * 查找类路径中参数给定的包及其子包下的所有类, 支持目录和 jar 包中的类, 查找时不初始化类.
+     * 无法加载的类(如缺少依赖的类)被忽略
+     *
+     * @param packageName 包名称, 如 org.fanlychie.jreflect
+     * @param classLoader 类加载器, 为 null 时使用当前线程的上下文类加载器
+     * @return 返回类列表
+     */
+    public static List<Class<?>> findClasses(String packageName, ClassLoader classLoader) {
+        if (classLoader == null) {
+            classLoader = Thread.currentThread().getContextClassLoader();
+        }
+        String path = packageName.replace('.', '/');
+        Set<String> classNames = new LinkedHashSet<>();
+        try {
+            Enumeration<URL> urls = classLoader.getResources(path);
+            while (urls.hasMoreElements()) {
+                URL url = urls.nextElement();
+                if ("file".equals(url.getProtocol())) {
+                    findClassNames(new File(url.toURI()), packageName, classNames);
+                } else {
+                    URLConnection connection = url.openConnection();
+                    if (connection instanceof JarURLConnection) {
+                        connection.setUseCaches(false);
+                        try (JarFile jarFile = ((JarURLConnection) connection).getJarFile()) {
+                            findClassNames(jarFile, path, classNames);
+                        }
+                    }
+                }
+            }
+        } catch (IOException | URISyntaxException e) {
+            throw new ReflectionCastException(e);
+        }
+        List<Class<?>> classes = new ArrayList<>(classNames.size());
+        for (String className : classNames) {
+            try {
+                classes.add(Class.forName(className, false, classLoader));
+            } catch (ClassNotFoundException | LinkageError e) {
+                // 忽略无法加载的类
+            }
+        }
+        return classes;
+    }
+
+    /**
+     * 查找目录下的类名称
+     *
+     * @param directory   目录
+     * @param packageName 目录对应的包名称
+     * @param classNames  查找的结果
+     */
+    private static void findClassNames(File directory, String packageName, Set<String> classNames) {
+        File[] files = directory.listFiles();
+        if (files == null) {
+            return;
+        }
+        for (File file : files) {
+            String name = file.getName();
+            if (file.isDirectory()) {
+                findClassNames(file, packageName + "." + name, classNames);
+            } else if (isClassFile(name)) {
+                classNames.add(packageName + "." + name.substring(0, name.length() - CLASS_SUFFIX.length()));
+            }
+        }
+    }
+
+    /**
+     * 查找 jar 包中路径下的类名称
+     *
+     * @param jarFile    jar 包
+     * @param path       路径, 如 org/fanlychie/jreflect
+     * @param classNames 查找的结果
+     */
+    private static void findClassNames(JarFile jarFile, String path, Set<String> classNames) {
+        Enumeration<JarEntry> entries = jarFile.entries();
+        while (entries.hasMoreElements()) {
+            String name = entries.nextElement().getName();
+            if (name.startsWith(path + "/") && isClassFile(name.substring(name.lastIndexOf('/') + 1))) {
+                classNames.add(name.substring(0, name.length() - CLASS_SUFFIX.length()).replace('/', '.'));
+            }
+        }
+    }
+
+    /**
+     * 判断文件是否为类文件, module-info 和 package-info 不是类
+     *
+     * @param fileName 文件名称
+     * @return 是类文件返回 true, 否则返回 false
+     */
+    private static boolean isClassFile(String fileName) {
+        return fileName.endsWith(CLASS_SUFFIX) && fileName.indexOf('-') < 0;
+    }
+
+}
@@ -0,0 +1,55 @@
+package org.fanlychie.jreflect.util;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.InvocationTargetException;
+
+/**
+ * MethodHandle 工具类
+ * Created by fanlychie on 2026/10/16.
+ */
+public final class MethodHandleUtils {
+
+    /**
+     * 将异常包装为 InvocationTargetException 的句柄, 类型为 (Throwable)InvocationTargetException.
+     * 共享的句柄不能转换为调用方的类型, 否则其内部的类型转换缓存会强引用调用方的类, 阻止类被卸载
+     */
+    private static final MethodHandle NEW_INVOCATION_TARGET_EXCEPTION;
+
+    /**
+     * 私有化构造器
+     */
+    private MethodHandleUtils() {
+
+    }
+
+    /**
+     * 将句柄抛出的任何异常包装为 InvocationTargetException, 与反射调用方法或构造器时的异常保持一致.
+     * 应在转换参数类型之前包装, 以区分参数转换的异常与方法体抛出的异常
+     *
+     * @param handle 直接调用方法或构造器的句柄
+     * @return 返回包装后的句柄, 类型与参数句柄相同
+     */
+    public static MethodHandle wrapTargetException(MethodHandle handle) {
+        MethodType type = handle.type();
+        MethodHandle thrower = MethodHandles.throwException(type.returnType(), InvocationTargetException.class);
+        MethodHandle handler = MethodHandles.dropArguments(
+                MethodHandles.filterArguments(thrower, 0, NEW_INVOCATION_TARGET_EXCEPTION),
+                1, type.parameterList());
+        return MethodHandles.catchException(handle, Throwable.class, handler);
+    }
+
+    /**
+     * 初始化数据
+     */
+    static {
+        try {
+            NEW_INVOCATION_TARGET_EXCEPTION = MethodHandles.lookup().findConstructor(InvocationTargetException.class,
+                    MethodType.methodType(void.class, Throwable.class));
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+}
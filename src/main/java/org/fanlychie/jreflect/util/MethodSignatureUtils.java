@@ -26,7 +26,9 @@ public final class MethodSignatureUtils {
      * @param methodName 方法名称
      * @param argValues  方法参数的值列表
      * @return 返回换算的哈希码字符
+     * @deprecated 由哈希码拼接的字符不同的签名可能相同, 描述符已改为按 (名称, 参数类型元组) 结构化匹配
      */
+    @Deprecated
     public static String hashCodeString(String methodName, Object[] argValues) {
         return hashCodeString(methodName, getMethodSignatureTypes(argValues));
     }
@@ -37,7 +39,9 @@ public final class MethodSignatureUtils {
      * @param methodName 方法名称
      * @param argTypes   方法参数的类型列表
      * @return 返回换算的哈希码字符
+     * @deprecated 由哈希码拼接的字符不同的签名可能相同, 描述符已改为按 (名称, 参数类型元组) 结构化匹配
      */
+    @Deprecated
     public static String hashCodeString(String methodName, Class<?>[] argTypes) {
         if (methodName == null && (argTypes == null || argTypes.length == 0)) {
             return null;
@@ -86,7 +90,7 @@ public final class MethodSignatureUtils {
         methodSignatureInfoBuilder.append(methodName).append("(");
         if (argTypes != null && argTypes.length > 0) {
             for (Class<?> argType : argTypes) {
-                methodSignatureInfoBuilder.append(argType.getSimpleName()).append(", ");
+                methodSignatureInfoBuilder.append(argType != null ? argType.getSimpleName() : "null").append(", ");
             }
             int length = methodSignatureInfoBuilder.length();
             methodSignatureInfo = methodSignatureInfoBuilder.replace(length - 2, length, ")").toString();
@@ -100,14 +104,14 @@ public final class MethodSignatureUtils {
      * 获取方法签名的参数类型
      *
      * @param argValues 方法参数的值列表
-     * @return 返回方法参数的值的类型列表
+     * @return 返回方法参数的值的类型列表, 值为 null 的参数类型为 null
      */
     private static Class<?>[] getMethodSignatureTypes(Object[] argValues) {
         Class<?>[] argTypes = null;
         if (argValues != null && argValues.length > 0) {
             argTypes = new Class<?>[argValues.length];
             for (int i = 0; i < argValues.length; i++) {
-                argTypes[i] = argValues[i].getClass();
+                argTypes[i] = argValues[i] != null ? argValues[i].getClass() : null;
             }
         }
         return argTypes;
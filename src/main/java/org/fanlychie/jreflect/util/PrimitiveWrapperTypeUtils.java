@@ -14,6 +14,11 @@ public final class PrimitiveWrapperTypeUtils {
      */
     private static final Map<Class<?>, Class<?>> PRIMITIVE_WRAPPER_MAP;
 
+    /**
+     * 基本数据类型与其可拓宽转换的目标类型映射表
+     */
+    private static final Map<Class<?>, Class<?>[]> PRIMITIVE_WIDENING_MAP;
+
     /**
      * 比较两种数据类型是否匹配, 非基本数据类型与包装类型调用时, 直接返回 '==' 比较的结果.
      * 就基本数据类型与包装类型而言:
@@ -57,10 +62,38 @@ public final class PrimitiveWrapperTypeUtils {
         return null;
     }
 
-    static Class<?> getWrapperType(Class<?> type) {
+    /**
+     * 获取参数给定的基本数据类型的包装类型
+     *
+     * @param type 类型
+     * @return 若 type 为非基本数据类型, 则返回 null
+     */
+    public static Class<?> getWrapperType(Class<?> type) {
         return type.isPrimitive() ? PRIMITIVE_WRAPPER_MAP.get(type) : null;
     }
 
+    /**
+     * 判断基本数据类型之间是否可以进行拓宽转换(JLS 5.1.2), 相同的类型返回 true
+     *
+     * @param srcType  源类型
+     * @param destType 目标类型
+     * @return 可以转换返回 true, 否则返回 false
+     */
+    public static boolean isWidening(Class<?> srcType, Class<?> destType) {
+        if (srcType == destType) {
+            return srcType.isPrimitive();
+        }
+        Class<?>[] types = PRIMITIVE_WIDENING_MAP.get(srcType);
+        if (types != null) {
+            for (Class<?> type : types) {
+                if (type == destType) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
     /**
      * 初始化数据
      */
@@ -74,6 +107,13 @@ public final class PrimitiveWrapperTypeUtils {
         PRIMITIVE_WRAPPER_MAP.put(double.class, Double.class);
         PRIMITIVE_WRAPPER_MAP.put(boolean.class, Boolean.class);
         PRIMITIVE_WRAPPER_MAP.put(char.class, Character.class);
+        PRIMITIVE_WIDENING_MAP = new HashMap<>();
+        PRIMITIVE_WIDENING_MAP.put(byte.class, new Class<?>[]{short.class, int.class, long.class, float.class, double.class});
+        PRIMITIVE_WIDENING_MAP.put(short.class, new Class<?>[]{int.class, long.class, float.class, double.class});
+        PRIMITIVE_WIDENING_MAP.put(char.class, new Class<?>[]{int.class, long.class, float.class, double.class});
+        PRIMITIVE_WIDENING_MAP.put(int.class, new Class<?>[]{long.class, float.class, double.class});
+        PRIMITIVE_WIDENING_MAP.put(long.class, new Class<?>[]{float.class, double.class});
+        PRIMITIVE_WIDENING_MAP.put(float.class, new Class<?>[]{double.class});
     }
 
     // 私有化
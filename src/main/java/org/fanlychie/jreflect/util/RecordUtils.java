@@ -0,0 +1,156 @@
+package org.fanlychie.jreflect.util;
+
+import org.fanlychie.jreflect.exception.ReflectionCastException;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+
+/**
+ * 记录类(record)工具类, 通过反射访问 Java 16 引入的记录类 API, 在更早的 Java 版本上所有的类都不是记录类
+ * Created by fanlychie on 2026/10/16.
+ */
+public final class RecordUtils {
+
+    /**
+     * Class.isRecord 方法, Java 16 之前为 null
+     */
+    private static final Method IS_RECORD;
+
+    /**
+     * Class.getRecordComponents 方法, Java 16 之前为 null
+     */
+    private static final Method GET_RECORD_COMPONENTS;
+
+    /**
+     * RecordComponent.getName 方法, Java 16 之前为 null
+     */
+    private static final Method GET_NAME;
+
+    /**
+     * RecordComponent.getType 方法, Java 16 之前为 null
+     */
+    private static final Method GET_TYPE;
+
+    /**
+     * RecordComponent.getAccessor 方法, Java 16 之前为 null
+     */
+    private static final Method GET_ACCESSOR;
+
+    /**
+     * 私有化构造器
+     */
+    private RecordUtils() {
+
+    }
+
+    /**
+     * 判断参数给定的类是否为记录类
+     *
+     * @param type 任意的 Class 类型
+     * @return 是记录类返回 true, 否则返回 false
+     */
+    public static boolean isRecord(Class<?> type) {
+        return IS_RECORD != null && (Boolean) invoke(IS_RECORD, type);
+    }
+
+    /**
+     * 获取记录类的组件名称, 按声明的顺序排列
+     *
+     * @param type 记录类
+     * @return 返回组件名称列表
+     */
+    public static String[] getComponentNames(Class<?> type) {
+        Object[] components = getComponents(type);
+        String[] names = new String[components.length];
+        for (int i = 0; i < components.length; i++) {
+            names[i] = (String) invoke(GET_NAME, components[i]);
+        }
+        return names;
+    }
+
+    /**
+     * 获取记录类的组件类型, 即规范构造器的参数类型列表
+     *
+     * @param type 记录类
+     * @return 返回组件类型列表
+     */
+    public static Class<?>[] getComponentTypes(Class<?> type) {
+        Object[] components = getComponents(type);
+        Class<?>[] types = new Class<?>[components.length];
+        for (int i = 0; i < components.length; i++) {
+            types[i] = (Class<?>) invoke(GET_TYPE, components[i]);
+        }
+        return types;
+    }
+
+    /**
+     * 获取记录类的组件的访问方法
+     *
+     * @param type 记录类
+     * @return 返回访问方法列表
+     */
+    public static Method[] getAccessors(Class<?> type) {
+        Object[] components = getComponents(type);
+        Method[] accessors = new Method[components.length];
+        for (int i = 0; i < components.length; i++) {
+            accessors[i] = (Method) invoke(GET_ACCESSOR, components[i]);
+        }
+        return accessors;
+    }
+
+    /**
+     * 获取记录类的组件
+     *
+     * @param type 记录类
+     * @return 返回组件列表
+     */
+    private static Object[] getComponents(Class<?> type) {
+        if (!isRecord(type)) {
+            throw new IllegalArgumentException(type + " is not a record");
+        }
+        return (Object[]) invoke(GET_RECORD_COMPONENTS, type);
+    }
+
+    /**
+     * 调用无参方法
+     *
+     * @param method 方法对象
+     * @param target 目标对象
+     * @return 返回方法调用的结果
+     */
+    private static Object invoke(Method method, Object target) {
+        try {
+            return method.invoke(target);
+        } catch (IllegalAccessException | InvocationTargetException e) {
+            throw new ReflectionCastException(e);
+        }
+    }
+
+    /**
+     * 初始化数据
+     */
+    static {
+        Method isRecord = null;
+        Method getRecordComponents = null;
+        Method getName = null;
+        Method getType = null;
+        Method getAccessor = null;
+        try {
+            isRecord = Class.class.getMethod("isRecord");
+            getRecordComponents = Class.class.getMethod("getRecordComponents");
+            Class<?> componentClass = Class.forName("java.lang.reflect.RecordComponent");
+            getName = componentClass.getMethod("getName");
+            getType = componentClass.getMethod("getType");
+            getAccessor = componentClass.getMethod("getAccessor");
+        } catch (NoSuchMethodException | ClassNotFoundException e) {
+            // Java 16 之前没有记录类
+            isRecord = null;
+        }
+        IS_RECORD = isRecord;
+        GET_RECORD_COMPONENTS = getRecordComponents;
+        GET_NAME = getName;
+        GET_TYPE = getType;
+        GET_ACCESSOR = getAccessor;
+    }
+
+}